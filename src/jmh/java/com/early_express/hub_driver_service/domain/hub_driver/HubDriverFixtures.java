@@ -0,0 +1,94 @@
+package com.early_express.hub_driver_service.domain.hub_driver;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.DeliveryTimeSketch;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.RollingDeliveryStats;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverId;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 HubDriver / HubDriverStats 픽스처
+ */
+public final class HubDriverFixtures {
+
+    private HubDriverFixtures() {
+    }
+
+    /**
+     * 배정 가능 상태의 드라이버
+     */
+    public static HubDriver availableDriver() {
+        LocalDateTime now = LocalDateTime.now();
+
+        return HubDriver.reconstitute(
+                HubDriverId.of(UUID.randomUUID().toString()),
+                UUID.randomUUID().toString(),
+                "벤치마크 드라이버",
+                HubDriverStatus.AVAILABLE,
+                null,
+                null,
+                3,
+                now.minusMinutes(15),
+                now.minusDays(30),
+                "benchmark",
+                now.minusMinutes(15),
+                "benchmark",
+                null,
+                null,
+                false
+        );
+    }
+
+    /**
+     * 배송 120건 이력이 있는 드라이버 통계
+     */
+    public static HubDriverStats driverStats(String driverId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return HubDriverStats.reconstitute(
+                driverId,
+                120L,
+                5_040L,
+                42L,
+                deliveryTimeSketch(120),
+                rollingDeliveryStats(now, 120),
+                now.minusMinutes(15)
+        );
+    }
+
+    /**
+     * 20~80분 사이 소요시간이 기록된 스케치
+     */
+    public static DeliveryTimeSketch deliveryTimeSketch(int deliveries) {
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.empty();
+        for (int i = 0; i < deliveries; i++) {
+            sketch.record(20 + (i * 37L) % 61);
+        }
+        return sketch;
+    }
+
+    /**
+     * 최근 7일간 1시간 간격으로 완료 기록된 최근 통계
+     */
+    public static RollingDeliveryStats rollingDeliveryStats(LocalDateTime now, int deliveries) {
+        RollingDeliveryStats stats = RollingDeliveryStats.empty();
+        for (int i = deliveries - 1; i >= 0; i--) {
+            stats.record(now.minusHours(i), 20 + (i * 37L) % 61);
+        }
+        return stats;
+    }
+
+    /**
+     * 배송 중 상태의 드라이버
+     */
+    public static HubDriver onDeliveryDriver() {
+        HubDriver driver = availableDriver();
+        driver.assignDelivery(UUID.randomUUID().toString());
+        driver.pullDomainEvents();
+        return driver;
+    }
+}
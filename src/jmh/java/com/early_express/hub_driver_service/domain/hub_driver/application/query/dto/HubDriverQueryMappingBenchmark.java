@@ -0,0 +1,63 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query.dto;
+
+import com.early_express.hub_driver_service.domain.hub_driver.HubDriverFixtures;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverDetailResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterHubDriverDetailResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterHubDriverResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 응답 매핑 체인 벤치마크
+ * - 목록: 엔티티 → 도메인 (+ 통계) → HubDriverResponse → MasterHubDriverResponse
+ * - 상세: 엔티티 → 도메인 (+ 통계) → HubDriverDetailResponse → MasterHubDriverDetailResponse
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HubDriverQueryMappingBenchmark {
+
+    private HubDriverEntity entity;
+    private HubDriver driver;
+    private HubDriverStats stats;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = HubDriverFixtures.onDeliveryDriver();
+        entity = HubDriverEntity.fromDomain(driver);
+        stats = HubDriverFixtures.driverStats(driver.getIdValue());
+    }
+
+    @Benchmark
+    public MasterHubDriverResponse listChain() {
+        return MasterHubDriverResponse.from(HubDriverResponse.from(entity.toDomain(), stats));
+    }
+
+    @Benchmark
+    public MasterHubDriverDetailResponse detailChain() {
+        return MasterHubDriverDetailResponse.from(HubDriverDetailResponse.from(entity.toDomain(), stats));
+    }
+
+    @Benchmark
+    public MasterHubDriverResponse listResponseOnly() {
+        return MasterHubDriverResponse.from(HubDriverResponse.from(driver, stats));
+    }
+}
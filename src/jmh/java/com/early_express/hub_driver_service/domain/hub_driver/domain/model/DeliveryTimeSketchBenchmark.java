@@ -0,0 +1,63 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import com.early_express.hub_driver_service.domain.hub_driver.HubDriverFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배송 소요시간 스케치 벤치마크
+ * - record: 완료 시 갱신 비용 (gc 프로파일러 기준 할당 0 기대)
+ * - encode/decode: 엔티티 저장/복원 시 비용
+ * - percentiles: 상세 조회 시 p50/p90/p99 계산 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeliveryTimeSketchBenchmark {
+
+    private DeliveryTimeSketch sketch;
+    private byte[] encoded;
+    private long value;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        sketch = HubDriverFixtures.deliveryTimeSketch(500);
+        encoded = sketch.toBytes();
+    }
+
+    @Benchmark
+    public DeliveryTimeSketch record() {
+        value = (value + 37) % 600;
+        sketch.record(value);
+        return sketch;
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return sketch.toBytes();
+    }
+
+    @Benchmark
+    public DeliveryTimeSketch decode() {
+        return DeliveryTimeSketch.fromBytes(encoded);
+    }
+
+    @Benchmark
+    public long percentiles() {
+        return sketch.percentile(50) + sketch.percentile(90) + sketch.percentile(99);
+    }
+}
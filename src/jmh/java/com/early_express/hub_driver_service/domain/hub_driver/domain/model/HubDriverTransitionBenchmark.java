@@ -0,0 +1,56 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import com.early_express.hub_driver_service.domain.hub_driver.HubDriverFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HubDriver 상태 전이 벤치마크
+ * - 배정 → 완료 / 배정 → 취소 한 사이클 단위로 측정 (매 호출마다 AVAILABLE 로 복귀)
+ * - 저장 시점과 동일하게 사이클마다 도메인 이벤트를 꺼냄
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HubDriverTransitionBenchmark {
+
+    private HubDriver driver;
+    private String deliveryId;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        driver = HubDriverFixtures.availableDriver();
+        deliveryId = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public HubDriver assignAndCompleteDelivery() {
+        driver.assignDelivery(deliveryId);
+        driver.completeDelivery(42L);
+        driver.pullDomainEvents();
+        return driver;
+    }
+
+    @Benchmark
+    public HubDriver assignAndCancelDelivery() {
+        driver.assignDelivery(deliveryId);
+        driver.cancelDelivery();
+        driver.pullDomainEvents();
+        return driver;
+    }
+}
@@ -0,0 +1,55 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity;
+
+import com.early_express.hub_driver_service.domain.hub_driver.HubDriverFixtures;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HubDriverEntity ↔ HubDriver 매핑 벤치마크
+ * - 저장 경로(fromDomain / updateFromDomain)와 조회 경로(toDomain)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HubDriverEntityMappingBenchmark {
+
+    private HubDriver driver;
+    private HubDriverEntity entity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = HubDriverFixtures.onDeliveryDriver();
+        entity = HubDriverEntity.fromDomain(driver);
+    }
+
+    @Benchmark
+    public HubDriverEntity fromDomain() {
+        return HubDriverEntity.fromDomain(driver);
+    }
+
+    @Benchmark
+    public HubDriver toDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public HubDriverEntity updateFromDomain() {
+        entity.updateFromDomain(driver);
+        return entity;
+    }
+}
@@ -0,0 +1,147 @@
+package com.early_express.hub_driver_service.global.infrastructure.event.serde;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 직렬화 경로 비교
+ * - json*  : 기존 경로 (JsonSerializer + __TypeId__ 헤더 / JsonDeserializer → LinkedHashMap → convertValue)
+ * - typed* : EventTypeRegistry 사전 생성 reader/writer + eventType/eventVersion 헤더
+ * 레코드당 바이트(페이로드 / 헤더)는 직렬화 벤치마크의 보조 카운터(payloadBytes, headerBytes)로 리포트
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerdeBenchmark {
+
+    private static final String TOPIC = "hub-driver-service-events";
+
+    private ObjectMapper objectMapper;
+    private JsonSerializer<Object> jsonSerializer;
+    private JsonDeserializer<Object> jsonDeserializer;
+    private TypedEventSerializer typedSerializer;
+    private TypedEventDeserializer typedDeserializer;
+
+    private BaseEvent event;
+    private byte[] jsonPayload;
+    private Headers jsonHeaders;
+    private byte[] typedPayload;
+    private Headers typedHeaders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        jsonSerializer = new JsonSerializer<>(objectMapper);
+        jsonDeserializer = new JsonDeserializer<>(objectMapper);
+        jsonDeserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.USE_TYPE_INFO_HEADERS, false,
+                JsonDeserializer.VALUE_DEFAULT_TYPE, "java.lang.Object"
+        ), false);
+
+        EventTypeRegistry registry = EventTypeRegistry.builder(objectMapper)
+                .register(HubDriverDeliveryCompletedEvent.EVENT_TYPE, HubDriverDeliveryCompletedEvent.class,
+                        HubDriverDeliveryCompletedEvent.MAJOR_VERSION)
+                .build();
+        typedSerializer = new TypedEventSerializer(registry);
+        typedDeserializer = new TypedEventDeserializer(registry);
+
+        event = HubDriverDeliveryCompletedEvent.from(DriverDeliveryCompletedEvent.builder()
+                .driverId(UUID.randomUUID().toString())
+                .userId(UUID.randomUUID().toString())
+                .hubDeliveryId(UUID.randomUUID().toString())
+                .deliveryTimeMin(42L)
+                .occurredAt(LocalDateTime.now())
+                .build(), "hub-driver-service");
+
+        jsonHeaders = new RecordHeaders();
+        jsonPayload = jsonSerializer.serialize(TOPIC, jsonHeaders, event);
+        typedHeaders = new RecordHeaders();
+        typedPayload = typedSerializer.serialize(TOPIC, typedHeaders, event);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jsonSerializer.close();
+        jsonDeserializer.close();
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize(RecordBytes recordBytes) {
+        Headers headers = new RecordHeaders();
+        byte[] payload = jsonSerializer.serialize(TOPIC, headers, event);
+        recordBytes.record(payload, headers);
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] typedSerialize(RecordBytes recordBytes) {
+        Headers headers = new RecordHeaders();
+        byte[] payload = typedSerializer.serialize(TOPIC, headers, event);
+        recordBytes.record(payload, headers);
+        return payload;
+    }
+
+    @Benchmark
+    public HubDriverDeliveryCompletedEvent jsonDeserialize() {
+        Object value = jsonDeserializer.deserialize(TOPIC, jsonHeaders, jsonPayload);
+        return objectMapper.convertValue(value, HubDriverDeliveryCompletedEvent.class);
+    }
+
+    @Benchmark
+    public BaseEvent typedDeserialize() {
+        return typedDeserializer.deserialize(TOPIC, typedHeaders, typedPayload);
+    }
+
+    /**
+     * 레코드당 바이트 보조 카운터 (매 호출 값을 덮어쓰므로 반복 평균 = 레코드 1건 크기)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RecordBytes {
+        public long payloadBytes;
+        public long headerBytes;
+
+        void record(byte[] payload, Headers headers) {
+            long bytes = 0;
+            for (Header header : headers) {
+                bytes += header.key().length() + header.value().length;
+            }
+            payloadBytes = payload.length;
+            headerBytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.command;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.DriverAssignResult;
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.support.AssignmentIdempotencyStore;
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.support.PendingAssignmentQueue;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DeferredAssignmentCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.PendingAssignment;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.PendingAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 배정 대기(Deferred Assignment) Service
+ * - 가용 드라이버가 없을 때 대기 모드 요청을 FIFO 로 보관
+ * - 드라이버가 풀리면 가장 오래된 대기 건에 바로 배정하고 이벤트로 통지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DeferredAssignmentService {
+
+    private final PendingAssignmentRepository pendingAssignmentRepository;
+    private final HubDriverRepository hubDriverRepository;
+    private final PendingAssignmentQueue pendingAssignmentQueue;
+    private final AssignmentIdempotencyStore assignmentIdempotencyStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 대기 중인 허브 배송인지 확인
+     */
+    @Transactional(readOnly = true)
+    public boolean isPending(String hubDeliveryId) {
+        return pendingAssignmentQueue.contains(hubDeliveryId);
+    }
+
+    /**
+     * 배정 대기 등록
+     */
+    public DriverAssignResult park(String hubDeliveryId) {
+        if (pendingAssignmentRepository.findByHubDeliveryId(hubDeliveryId).isEmpty()) {
+            pendingAssignmentRepository.save(PendingAssignment.create(hubDeliveryId));
+            pendingAssignmentQueue.offerAfterCommit(hubDeliveryId);
+
+            log.info("배정 대기 등록 - hubDeliveryId: {}", hubDeliveryId);
+        }
+
+        return DriverAssignResult.pending();
+    }
+
+    /**
+     * 풀린 드라이버를 가장 오래된 대기 건에 바로 배정
+     * 드라이버 저장은 호출 측 트랜잭션에서 수행
+     *
+     * @return 대기 건에 배정되었으면 true
+     */
+    public boolean handOver(HubDriver driver) {
+        if (!driver.isAvailable() || pendingAssignmentQueue.isEmpty()) {
+            return false;
+        }
+
+        Optional<PendingAssignment> pending = pendingAssignmentRepository.findOldestForUpdate();
+        if (pending.isEmpty()) {
+            return false;
+        }
+
+        assign(driver, pending.get());
+        return true;
+    }
+
+    /**
+     * 가장 오래된 대기 건 1건을 가용 드라이버에게 배정 (주기 작업용)
+     *
+     * @return 배정되었으면 true
+     */
+    public boolean assignOldestPending() {
+        Optional<PendingAssignment> pending = pendingAssignmentRepository.findOldestForUpdate();
+        if (pending.isEmpty()) {
+            return false;
+        }
+
+        Optional<HubDriver> driver = hubDriverRepository.findNextAvailableDriver();
+        if (driver.isEmpty()) {
+            return false;
+        }
+
+        assign(driver.get(), pending.get());
+        hubDriverRepository.save(driver.get());
+        return true;
+    }
+
+    /**
+     * 인메모리 대기 큐를 DB 기준으로 재구성
+     */
+    @Transactional(readOnly = true)
+    public void reloadQueue() {
+        pendingAssignmentQueue.reload(pendingAssignmentRepository.findAllHubDeliveryIds());
+    }
+
+    // ===== Private Methods =====
+
+    private void assign(HubDriver driver, PendingAssignment pending) {
+        driver.assignDelivery(pending.getHubDeliveryId());
+
+        pendingAssignmentRepository.delete(pending);
+        pendingAssignmentQueue.removeAfterCommit(pending.getHubDeliveryId());
+
+        DriverAssignResult result = DriverAssignResult.success(
+                driver.getIdValue(),
+                driver.getUserId(),
+                driver.getName(),
+                driver.getStatus().name()
+        );
+        assignmentIdempotencyStore.remember(pending.getHubDeliveryId(), result);
+
+        eventPublisher.publishEvent(DeferredAssignmentCompletedEvent.builder()
+                .hubDeliveryId(pending.getHubDeliveryId())
+                .driverId(result.getDriverId())
+                .userId(result.getUserId())
+                .driverName(result.getDriverName())
+                .requestedAt(pending.getRequestedAt())
+                .assignedAt(result.getAssignedAt())
+                .build());
+
+        log.info("대기 건 배정 완료 - hubDeliveryId: {}, driverId: {}",
+                pending.getHubDeliveryId(), driver.getIdValue());
+    }
+}
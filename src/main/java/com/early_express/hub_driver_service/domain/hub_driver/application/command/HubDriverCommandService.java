@@ -1,6 +1,7 @@
 package com.early_express.hub_driver_service.domain.hub_driver.application.command;
 
 import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.*;
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.support.AssignmentIdempotencyStore;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
@@ -8,10 +9,21 @@ import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.Hu
 import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * HubDriver Command Service
@@ -23,6 +35,9 @@ import java.util.List;
 public class HubDriverCommandService {
 
     private final HubDriverRepository hubDriverRepository;
+    private final AssignmentIdempotencyStore assignmentIdempotencyStore;
+    private final DeferredAssignmentService deferredAssignmentService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 드라이버 생성
@@ -61,36 +76,51 @@ public class HubDriverCommandService {
 
     /**
      * 배송 자동 배정 (가장 우선순위 낮은 드라이버)
+     * - 같은 hubDeliveryId 동시 요청은 둘 다 멱등성 캐시를 지나칠 수 있으나
+     *   current_delivery_id 유니크 인덱스로 한 건만 커밋됨 → 나머지는 먼저 커밋된 배정(또는 대기 상태)을 반환
+     * - 충돌은 커밋 시점에 발생하므로 트랜잭션을 직접 열고 그 바깥에서 처리
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DriverAssignResult assignDelivery(AssignDeliveryCommand command) {
-        log.info("배송 자동 배정 시작 - hubDeliveryId: {}", command.getHubDeliveryId());
-
-        // 배정 가능한 드라이버 조회 (priority 낮은 순)
-        List<HubDriver> availableDrivers = hubDriverRepository.findAvailableDrivers();
+        String hubDeliveryId = command.getHubDeliveryId();
+        try {
+            return transactionTemplate.execute(status -> assign(command));
+        } catch (DataIntegrityViolationException e) {
+            log.info("동시 배정 요청 충돌 - 먼저 커밋된 결과 반환 - hubDeliveryId: {}", hubDeliveryId);
+            return assignmentIdempotencyStore.findCommitted(hubDeliveryId)
+                    .or(() -> deferredAssignmentService.isPending(hubDeliveryId)
+                            ? Optional.of(DriverAssignResult.pending())
+                            : Optional.empty())
+                    .orElseThrow(() -> e);
+        }
+    }
 
-        if (availableDrivers.isEmpty()) {
+    /**
+     * 배송 일괄 자동 배정
+     * - 요청 건수만큼의 드라이버를 단일 쿼리로 선점하고 한 번에 저장
+     * - 가용 드라이버가 부족한 건은 NO_AVAILABLE_DRIVER 로 개별 실패 처리
+     * - 배정 대기 중인 건은 대기열 순서를 지키기 위해 ASSIGNMENT_PENDING 으로 개별 실패 처리 (배정 시 이벤트로 통지)
+     * - 결과는 요청 건마다 1건 (중복된 허브 배송 ID 는 요청 전체를 거부)
+     * - 일부 건이 다른 요청으로 동시에 배정되어 유니크 인덱스가 충돌하면,
+     *   커밋된 배정을 기존 결과로 재사용하도록 1회 재시도
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchAssignResult assignDeliveries(BatchAssignDeliveryCommand command) {
+        List<String> hubDeliveryIds = command.getHubDeliveryIds();
+        if (new HashSet<>(hubDeliveryIds).size() != hubDeliveryIds.size()) {
             throw new HubDriverException(
-                    HubDriverErrorCode.NO_AVAILABLE_DRIVER,
-                    "배정 가능한 배송 담당자가 없습니다."
+                    HubDriverErrorCode.DUPLICATE_HUB_DELIVERY_ID,
+                    "일괄 배정 요청에 중복된 허브 배송 ID가 있습니다."
             );
         }
 
-        // 첫 번째 드라이버 배정
-        HubDriver driver = availableDrivers.get(0);
-        driver.assignDelivery(command.getHubDeliveryId());
-
-        // 저장
-        hubDriverRepository.save(driver);
-
-        log.info("배송 배정 완료 - driverId: {}, hubDeliveryId: {}, priority: {}",
-                driver.getIdValue(), command.getHubDeliveryId(), driver.getAssignmentPriority());
-
-        return DriverAssignResult.success(
-                driver.getIdValue(),
-                driver.getUserId(),
-                driver.getName(),
-                driver.getStatus().name()
-        );
+        try {
+            return transactionTemplate.execute(status -> assignAll(hubDeliveryIds));
+        } catch (DataIntegrityViolationException e) {
+            log.info("동시 배정 요청 충돌 - 커밋된 배정 반영 후 재시도 - 요청 건수: {}", hubDeliveryIds.size());
+            assignmentIdempotencyStore.findAllCommitted(hubDeliveryIds);
+            return transactionTemplate.execute(status -> assignAll(hubDeliveryIds));
+        }
     }
 
     /**
@@ -105,11 +135,14 @@ public class HubDriverCommandService {
         // 배송 완료
         driver.completeDelivery(command.getDeliveryTimeMin());
 
+        // 대기 중인 배송이 있으면 바로 배정
+        deferredAssignmentService.handOver(driver);
+
         // 저장
         hubDriverRepository.save(driver);
 
-        log.info("배송 완료 - driverId: {}, totalDeliveries: {}, avgTime: {}분",
-                driver.getIdValue(), driver.getTotalDeliveries(), driver.getAverageDeliveryTimeMin());
+        log.info("배송 완료 - driverId: {}, deliveryTime: {}분",
+                driver.getIdValue(), command.getDeliveryTimeMin());
     }
 
     /**
@@ -119,9 +152,14 @@ public class HubDriverCommandService {
         log.info("배송 취소 처리 - driverId: {}", command.getDriverId());
 
         HubDriver driver = findDriver(command.getDriverId());
+        String hubDeliveryId = driver.getCurrentDeliveryId();
 
         // 배송 취소
         driver.cancelDelivery();
+        assignmentIdempotencyStore.forget(hubDeliveryId);
+
+        // 대기 중인 배송이 있으면 바로 배정
+        deferredAssignmentService.handOver(driver);
 
         // 저장
         hubDriverRepository.save(driver);
@@ -129,6 +167,79 @@ public class HubDriverCommandService {
         log.info("배송 취소 완료 - driverId: {}", driver.getIdValue());
     }
 
+    /**
+     * 허브 배송 결과(완료/취소) 일괄 반영
+     * - 배송 ID 로 현재 담당 드라이버를 한 번에 조회하고 드라이버별로 묶어 순서대로 반영
+     * - 드라이버의 현재 배송과 일치하지 않는 결과(중복/지연 도착)는 건너뜀
+     * - 변경된 드라이버는 한 번에 저장 (flush 1회)
+     */
+    public DeliveryOutcomesResult applyDeliveryOutcomes(ApplyDeliveryOutcomesCommand command) {
+        List<DeliveryOutcome> outcomes = command.getOutcomes();
+        if (outcomes.isEmpty()) {
+            return DeliveryOutcomesResult.of(0, 0);
+        }
+
+        // 같은 드라이버를 갱신하는 다른 트랜잭션(REST 통지, 다른 파티션 배치)과의 갱신 유실 방지
+        Map<String, HubDriver> driversByDeliveryId = hubDriverRepository.findByCurrentDeliveryIdsForUpdate(
+                        outcomes.stream()
+                                .map(DeliveryOutcome::getHubDeliveryId)
+                                .distinct()
+                                .toList())
+                .stream()
+                .collect(Collectors.toMap(HubDriver::getCurrentDeliveryId, Function.identity()));
+
+        // 드라이버별로 묶어 도착 순서대로 반영
+        Map<HubDriver, List<DeliveryOutcome>> outcomesByDriver = new LinkedHashMap<>();
+        int skipped = 0;
+        for (DeliveryOutcome outcome : outcomes) {
+            HubDriver driver = driversByDeliveryId.get(outcome.getHubDeliveryId());
+            if (driver == null
+                    || (outcome.getDriverId() != null && !outcome.getDriverId().equals(driver.getIdValue()))) {
+                log.debug("배송 결과 건너뜀 (현재 배정 아님) - hubDeliveryId: {}, driverId: {}",
+                        outcome.getHubDeliveryId(), outcome.getDriverId());
+                skipped++;
+                continue;
+            }
+            outcomesByDriver.computeIfAbsent(driver, key -> new ArrayList<>()).add(outcome);
+        }
+
+        List<HubDriver> changed = new ArrayList<>(outcomesByDriver.size());
+        int applied = 0;
+        for (Map.Entry<HubDriver, List<DeliveryOutcome>> entry : outcomesByDriver.entrySet()) {
+            HubDriver driver = entry.getKey();
+            boolean driverChanged = false;
+
+            for (DeliveryOutcome outcome : entry.getValue()) {
+                if (!outcome.getHubDeliveryId().equals(driver.getCurrentDeliveryId())) {
+                    skipped++;
+                    continue;
+                }
+                try {
+                    applyOutcome(driver, outcome);
+                    driverChanged = true;
+                    applied++;
+                } catch (HubDriverException e) {
+                    log.warn("배송 결과 반영 실패 - hubDeliveryId: {}, driverId: {}, reason: {}",
+                            outcome.getHubDeliveryId(), driver.getIdValue(), e.getMessage());
+                    skipped++;
+                }
+            }
+
+            if (driverChanged) {
+                // 대기 중인 배송이 있으면 바로 배정
+                deferredAssignmentService.handOver(driver);
+                changed.add(driver);
+            }
+        }
+
+        hubDriverRepository.saveAll(changed);
+
+        log.info("배송 결과 일괄 반영 - 반영: {}건, 건너뜀: {}건, 드라이버: {}명",
+                applied, skipped, changed.size());
+
+        return DeliveryOutcomesResult.of(applied, skipped);
+    }
+
     /**
      * 근무 시작
      */
@@ -139,6 +250,9 @@ public class HubDriverCommandService {
 
         driver.startWork();
 
+        // 대기 중인 배송이 있으면 바로 배정
+        deferredAssignmentService.handOver(driver);
+
         hubDriverRepository.save(driver);
 
         log.info("근무 시작 완료 - driverId: {}", driver.getIdValue());
@@ -184,6 +298,9 @@ public class HubDriverCommandService {
 
         driver.activate();
 
+        // 대기 중인 배송이 있으면 바로 배정
+        deferredAssignmentService.handOver(driver);
+
         hubDriverRepository.save(driver);
 
         log.info("복직 처리 완료 - driverId: {}", driver.getIdValue());
@@ -191,6 +308,122 @@ public class HubDriverCommandService {
 
     // ===== Private Methods =====
 
+    private DriverAssignResult assign(AssignDeliveryCommand command) {
+        log.info("배송 자동 배정 시작 - hubDeliveryId: {}", command.getHubDeliveryId());
+
+        // 재시도 요청이면 기존 배정 결과 반환
+        Optional<DriverAssignResult> existing = assignmentIdempotencyStore.find(command.getHubDeliveryId());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        // 이미 대기 중인 건은 순서를 지키기 위해 대기 상태 유지
+        if (deferredAssignmentService.isPending(command.getHubDeliveryId())) {
+            return DriverAssignResult.pending();
+        }
+
+        // 배정 가능한 드라이버 중 priority 가장 낮은 1명 조회
+        Optional<HubDriver> nextDriver = hubDriverRepository.findNextAvailableDriver();
+
+        if (nextDriver.isEmpty()) {
+            if (command.isWaitIfUnavailable()) {
+                return deferredAssignmentService.park(command.getHubDeliveryId());
+            }
+            throw new HubDriverException(
+                    HubDriverErrorCode.NO_AVAILABLE_DRIVER,
+                    "배정 가능한 배송 담당자가 없습니다."
+            );
+        }
+
+        HubDriver driver = nextDriver.get();
+        driver.assignDelivery(command.getHubDeliveryId());
+
+        // 저장
+        hubDriverRepository.save(driver);
+
+        log.info("배송 배정 완료 - driverId: {}, hubDeliveryId: {}, priority: {}",
+                driver.getIdValue(), command.getHubDeliveryId(), driver.getAssignmentPriority());
+
+        DriverAssignResult result = DriverAssignResult.success(
+                driver.getIdValue(),
+                driver.getUserId(),
+                driver.getName(),
+                driver.getStatus().name()
+        );
+        assignmentIdempotencyStore.remember(command.getHubDeliveryId(), result);
+
+        return result;
+    }
+
+    private BatchAssignResult assignAll(List<String> hubDeliveryIds) {
+        log.info("배송 일괄 배정 시작 - 요청 건수: {}", hubDeliveryIds.size());
+
+        // 이미 배정된 건은 기존 결과 재사용, 대기 중인 건은 순서를 지키기 위해 제외, 나머지만 신규 배정
+        Map<String, DriverAssignResult> existing = assignmentIdempotencyStore.findAll(hubDeliveryIds);
+        Set<String> pending = hubDeliveryIds.stream()
+                .filter(hubDeliveryId -> !existing.containsKey(hubDeliveryId))
+                .filter(deferredAssignmentService::isPending)
+                .collect(Collectors.toSet());
+        int newCount = (int) hubDeliveryIds.stream()
+                .filter(hubDeliveryId -> !existing.containsKey(hubDeliveryId) && !pending.contains(hubDeliveryId))
+                .count();
+
+        List<HubDriver> drivers = newCount > 0
+                ? hubDriverRepository.findNextAvailableDrivers(newCount)
+                : List.of();
+        List<BatchAssignItem> results = new ArrayList<>(hubDeliveryIds.size());
+        int next = 0;
+
+        for (String hubDeliveryId : hubDeliveryIds) {
+            if (existing.containsKey(hubDeliveryId)) {
+                results.add(BatchAssignItem.assigned(hubDeliveryId, existing.get(hubDeliveryId)));
+                continue;
+            }
+
+            if (pending.contains(hubDeliveryId)) {
+                results.add(BatchAssignItem.failed(hubDeliveryId, HubDriverErrorCode.ASSIGNMENT_PENDING));
+                continue;
+            }
+
+            if (next >= drivers.size()) {
+                results.add(BatchAssignItem.failed(hubDeliveryId, HubDriverErrorCode.NO_AVAILABLE_DRIVER));
+                continue;
+            }
+
+            HubDriver driver = drivers.get(next++);
+            driver.assignDelivery(hubDeliveryId);
+
+            DriverAssignResult assignment = DriverAssignResult.success(
+                    driver.getIdValue(),
+                    driver.getUserId(),
+                    driver.getName(),
+                    driver.getStatus().name()
+            );
+            assignmentIdempotencyStore.remember(hubDeliveryId, assignment);
+            results.add(BatchAssignItem.assigned(hubDeliveryId, assignment));
+        }
+
+        // 일괄 저장
+        hubDriverRepository.saveAll(drivers);
+
+        BatchAssignResult result = BatchAssignResult.of(results);
+
+        log.info("배송 일괄 배정 완료 - 배정: {}건, 실패: {}건",
+                result.getAssignedCount(), result.getFailedCount());
+
+        return result;
+    }
+
+    private void applyOutcome(HubDriver driver, DeliveryOutcome outcome) {
+        switch (outcome.getType()) {
+            case COMPLETED -> driver.completeDelivery(outcome.getDeliveryTimeMin());
+            case CANCELLED -> {
+                driver.cancelDelivery();
+                assignmentIdempotencyStore.forget(outcome.getHubDeliveryId());
+            }
+        }
+    }
+
     private HubDriver findDriver(String driverId) {
         return hubDriverRepository.findById(HubDriverId.of(driverId))
                 .orElseThrow(() -> new HubDriverException(
@@ -1,9 +1,11 @@
 package com.early_express.hub_driver_service.domain.hub_driver.application.command.dto;
 
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * HubDriver Command DTO
@@ -28,6 +30,16 @@ public class HubDriverCommandDto {
     @Builder
     public static class AssignDeliveryCommand {
         private String hubDeliveryId;
+        private boolean waitIfUnavailable;
+    }
+
+    /**
+     * 배송 일괄 배정 Command
+     */
+    @Getter
+    @Builder
+    public static class BatchAssignDeliveryCommand {
+        private List<String> hubDeliveryIds;
     }
 
     /**
@@ -49,6 +61,48 @@ public class HubDriverCommandDto {
         private String driverId;
     }
 
+    /**
+     * 허브 배송 결과(완료/취소) 일괄 반영 Command
+     */
+    @Getter
+    @Builder
+    public static class ApplyDeliveryOutcomesCommand {
+        private List<DeliveryOutcome> outcomes;
+    }
+
+    /**
+     * 허브 배송 결과 1건
+     */
+    @Getter
+    @Builder
+    public static class DeliveryOutcome {
+        private String hubDeliveryId;
+        private String driverId;
+        private DeliveryOutcomeType type;
+        private Long deliveryTimeMin;
+
+        public static DeliveryOutcome completed(String hubDeliveryId, String driverId, Long deliveryTimeMin) {
+            return DeliveryOutcome.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .driverId(driverId)
+                    .type(DeliveryOutcomeType.COMPLETED)
+                    .deliveryTimeMin(deliveryTimeMin)
+                    .build();
+        }
+
+        public static DeliveryOutcome cancelled(String hubDeliveryId, String driverId) {
+            return DeliveryOutcome.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .driverId(driverId)
+                    .type(DeliveryOutcomeType.CANCELLED)
+                    .build();
+        }
+    }
+
+    public enum DeliveryOutcomeType {
+        COMPLETED, CANCELLED
+    }
+
     /**
      * 근무 시작 Command
      */
@@ -92,6 +146,8 @@ public class HubDriverCommandDto {
     @Getter
     @Builder
     public static class DriverAssignResult {
+        public static final String PENDING = "PENDING";
+
         private String driverId;
         private String userId;
         private String driverName;
@@ -100,12 +156,100 @@ public class HubDriverCommandDto {
 
         public static DriverAssignResult success(String driverId, String userId,
                                                  String driverName, String status) {
+            return of(driverId, userId, driverName, status, LocalDateTime.now());
+        }
+
+        /**
+         * 가용 드라이버가 없어 대기 큐에 등록된 경우 (배정 결과는 이벤트로 통지)
+         */
+        public static DriverAssignResult pending() {
+            return DriverAssignResult.builder()
+                    .status(PENDING)
+                    .build();
+        }
+
+        public boolean isPending() {
+            return PENDING.equals(this.status);
+        }
+
+        public static DriverAssignResult of(String driverId, String userId, String driverName,
+                                            String status, LocalDateTime assignedAt) {
             return DriverAssignResult.builder()
                     .driverId(driverId)
                     .userId(userId)
                     .driverName(driverName)
                     .status(status)
-                    .assignedAt(LocalDateTime.now())
+                    .assignedAt(assignedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * 드라이버 일괄 배정 결과
+     */
+    @Getter
+    @Builder
+    public static class BatchAssignResult {
+        private List<BatchAssignItem> results;
+        private int assignedCount;
+        private int failedCount;
+
+        public static BatchAssignResult of(List<BatchAssignItem> results) {
+            int assignedCount = (int) results.stream()
+                    .filter(BatchAssignItem::isSuccess)
+                    .count();
+
+            return BatchAssignResult.builder()
+                    .results(results)
+                    .assignedCount(assignedCount)
+                    .failedCount(results.size() - assignedCount)
+                    .build();
+        }
+    }
+
+    /**
+     * 드라이버 일괄 배정 항목별 결과
+     */
+    @Getter
+    @Builder
+    public static class BatchAssignItem {
+        private String hubDeliveryId;
+        private boolean success;
+        private DriverAssignResult assignment;
+        private String errorCode;
+        private String errorMessage;
+
+        public static BatchAssignItem assigned(String hubDeliveryId, DriverAssignResult assignment) {
+            return BatchAssignItem.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .success(true)
+                    .assignment(assignment)
+                    .build();
+        }
+
+        public static BatchAssignItem failed(String hubDeliveryId, HubDriverErrorCode errorCode) {
+            return BatchAssignItem.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .success(false)
+                    .errorCode(errorCode.getCode())
+                    .errorMessage(errorCode.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 허브 배송 결과 일괄 반영 결과
+     */
+    @Getter
+    @Builder
+    public static class DeliveryOutcomesResult {
+        private int appliedCount;
+        private int skippedCount;
+
+        public static DeliveryOutcomesResult of(int appliedCount, int skippedCount) {
+            return DeliveryOutcomesResult.builder()
+                    .appliedCount(appliedCount)
+                    .skippedCount(skippedCount)
                     .build();
         }
     }
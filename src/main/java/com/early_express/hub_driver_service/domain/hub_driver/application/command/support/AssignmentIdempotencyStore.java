@@ -0,0 +1,228 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.command.support;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.DriverAssignResult;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.AssignmentRecord;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.AssignmentRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 배송 배정 멱등성 저장소 (hubDeliveryId 기준)
+ * - 1차: 크기 제한 LRU 캐시 (재시도 요청은 조회/쓰기 없이 기존 결과 반환)
+ * - 2차(선택): 배정 기록 테이블(p_hub_driver_assignment_record) 조회
+ *   배정과 같은 트랜잭션에서 기록하고 배송 취소 시에만 삭제 → 배송 완료 이후 재요청도 기존 결과 반환
+ */
+@Slf4j
+@Component
+public class AssignmentIdempotencyStore {
+
+    private final AssignmentRecordRepository assignmentRecordRepository;
+    private final boolean dbLookupEnabled;
+    private final Duration retention;
+    private final Map<String, DriverAssignResult> cache;
+
+    public AssignmentIdempotencyStore(
+            AssignmentRecordRepository assignmentRecordRepository,
+            @Value("${hub-driver.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${hub-driver.idempotency.db-lookup-enabled:true}") boolean dbLookupEnabled,
+            @Value("${hub-driver.idempotency.retention-days:30}") int retentionDays) {
+        this.assignmentRecordRepository = assignmentRecordRepository;
+        this.dbLookupEnabled = dbLookupEnabled;
+        this.retention = Duration.ofDays(retentionDays);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DriverAssignResult> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 이미 처리된 배정 결과 조회
+     */
+    public Optional<DriverAssignResult> find(String hubDeliveryId) {
+        DriverAssignResult cached = getCached(hubDeliveryId);
+        if (cached != null) {
+            log.info("배정 재요청 - 캐시된 결과 반환 - hubDeliveryId: {}", hubDeliveryId);
+            return Optional.of(cached);
+        }
+
+        if (!dbLookupEnabled) {
+            return Optional.empty();
+        }
+
+        return assignmentRecordRepository.findByHubDeliveryId(hubDeliveryId)
+                .map(assignmentRecord -> {
+                    log.info("배정 재요청 - 기존 배정 반환 - hubDeliveryId: {}, driverId: {}",
+                            hubDeliveryId, assignmentRecord.getDriverId());
+                    DriverAssignResult result = toResult(assignmentRecord);
+                    putCached(hubDeliveryId, result);
+                    return result;
+                });
+    }
+
+    /**
+     * 커밋된 배정을 DB 에서 다시 조회 (db-lookup-enabled 와 무관)
+     * 같은 hubDeliveryId 동시 요청이 유니크 인덱스 충돌로 실패했을 때 먼저 커밋된 결과를 찾는 용도
+     */
+    public Optional<DriverAssignResult> findCommitted(String hubDeliveryId) {
+        return assignmentRecordRepository.findByHubDeliveryId(hubDeliveryId)
+                .map(assignmentRecord -> {
+                    DriverAssignResult result = toResult(assignmentRecord);
+                    putCached(hubDeliveryId, result);
+                    return result;
+                });
+    }
+
+    /**
+     * 이미 처리된 배정 결과 일괄 조회 (DB 조회는 IN 쿼리 1회)
+     */
+    public Map<String, DriverAssignResult> findAll(Collection<String> hubDeliveryIds) {
+        Map<String, DriverAssignResult> found = new HashMap<>();
+        List<String> misses = hubDeliveryIds.stream()
+                .filter(hubDeliveryId -> {
+                    DriverAssignResult cached = getCached(hubDeliveryId);
+                    if (cached != null) {
+                        found.put(hubDeliveryId, cached);
+                        return false;
+                    }
+                    return true;
+                })
+                .toList();
+
+        if (dbLookupEnabled && !misses.isEmpty()) {
+            found.putAll(findAllCommitted(misses));
+        }
+
+        return found;
+    }
+
+    /**
+     * 커밋된 배정 일괄 조회 후 캐시 적재 (IN 쿼리 1회, db-lookup-enabled 와 무관)
+     */
+    public Map<String, DriverAssignResult> findAllCommitted(Collection<String> hubDeliveryIds) {
+        Map<String, DriverAssignResult> found = new HashMap<>();
+        assignmentRecordRepository.findAllByHubDeliveryIds(List.copyOf(hubDeliveryIds)).forEach(assignmentRecord -> {
+            DriverAssignResult result = toResult(assignmentRecord);
+            putCached(assignmentRecord.getHubDeliveryId(), result);
+            found.put(assignmentRecord.getHubDeliveryId(), result);
+        });
+        return found;
+    }
+
+    /**
+     * 배정 결과 기록
+     * - 배정 기록 테이블에는 호출 측 트랜잭션에서 추가 (같은 hubDeliveryId 중복 배정은 커밋 시 충돌)
+     * - 캐시는 트랜잭션 커밋 이후 반영
+     */
+    public void remember(String hubDeliveryId, DriverAssignResult result) {
+        assignmentRecordRepository.save(AssignmentRecord.of(
+                hubDeliveryId,
+                result.getDriverId(),
+                result.getUserId(),
+                result.getDriverName(),
+                result.getStatus(),
+                result.getAssignedAt()
+        ));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putCached(hubDeliveryId, result);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putCached(hubDeliveryId, result);
+            }
+        });
+    }
+
+    /**
+     * 배정 해제 시 기록 제거 (같은 hubDeliveryId 재배정 허용)
+     * - 배정 기록 테이블은 호출 측 트랜잭션에서 삭제
+     * - 캐시는 커밋 이후 로컬에서 제거 (커밋 전에 제거하면 그 사이 재요청이 아직 커밋되지 않은 기존 배정을 다시 캐시함)
+     * - 다른 인스턴스는 배송 취소 이벤트를 받아 제거 (AssignmentIdempotencyEvictionListener)
+     * 트랜잭션 밖에서 호출되면 캐시도 즉시 제거
+     */
+    public void forget(String hubDeliveryId) {
+        if (hubDeliveryId == null) {
+            return;
+        }
+        assignmentRecordRepository.deleteByHubDeliveryId(hubDeliveryId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(hubDeliveryId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(hubDeliveryId);
+            }
+        });
+    }
+
+    /**
+     * 캐시에서 즉시 제거 (다른 인스턴스의 배송 취소 통지용)
+     */
+    public void evict(String hubDeliveryId) {
+        if (hubDeliveryId == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.remove(hubDeliveryId);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 배정 기록 정리
+     */
+    @Scheduled(cron = "${hub-driver.idempotency.purge-cron:0 45 3 * * *}")
+    @Transactional
+    public void purge() {
+        int deleted = assignmentRecordRepository.deleteAssignedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("배정 기록 정리 - {}건 삭제", deleted);
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private DriverAssignResult getCached(String hubDeliveryId) {
+        synchronized (cache) {
+            return cache.get(hubDeliveryId);
+        }
+    }
+
+    private void putCached(String hubDeliveryId, DriverAssignResult result) {
+        synchronized (cache) {
+            cache.put(hubDeliveryId, result);
+        }
+    }
+
+    private DriverAssignResult toResult(AssignmentRecord assignmentRecord) {
+        return DriverAssignResult.of(
+                assignmentRecord.getDriverId(),
+                assignmentRecord.getUserId(),
+                assignmentRecord.getDriverName(),
+                assignmentRecord.getStatus(),
+                assignmentRecord.getAssignedAt()
+        );
+    }
+}
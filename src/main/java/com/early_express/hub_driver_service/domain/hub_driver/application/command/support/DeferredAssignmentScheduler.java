@@ -0,0 +1,47 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.command.support;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.DeferredAssignmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배정 대기 큐 주기 처리
+ * - 다른 인스턴스에서 등록된 대기 건을 인메모리 큐에 반영
+ * - 상태 전이 외 경로(드라이버 신규 등록 등)로 생긴 가용 드라이버를 대기 건에 배정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeferredAssignmentScheduler {
+
+    private static final int MAX_ASSIGNMENTS_PER_RUN = 100;
+
+    private final DeferredAssignmentService deferredAssignmentService;
+    private final PendingAssignmentQueue pendingAssignmentQueue;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        deferredAssignmentService.reloadQueue();
+    }
+
+    @Scheduled(fixedDelayString = "${hub-driver.deferred-assignment.drain-interval-ms:5000}")
+    public void drain() {
+        deferredAssignmentService.reloadQueue();
+        if (pendingAssignmentQueue.isEmpty()) {
+            return;
+        }
+
+        int assigned = 0;
+        while (assigned < MAX_ASSIGNMENTS_PER_RUN && deferredAssignmentService.assignOldestPending()) {
+            assigned++;
+        }
+
+        if (assigned > 0) {
+            log.info("배정 대기 큐 처리 - 배정: {}건, 남은 대기: {}건", assigned, pendingAssignmentQueue.size());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.command.support;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배정 대기 건 집합 (인메모리)
+ * - 영속화된 대기 건(p_hub_driver_pending_assignment)의 hubDeliveryId 사본
+ * - 드라이버가 풀릴 때마다 DB를 조회하지 않도록 대기 건 유무를 메모리에서 판단 (순서는 DB 의 requested_at 기준)
+ * - 변경은 트랜잭션 커밋 이후 반영, 다른 인스턴스의 변경은 주기적 reload 로 반영
+ */
+@Component
+public class PendingAssignmentQueue {
+
+    private final Set<String> members = ConcurrentHashMap.newKeySet();
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    public boolean contains(String hubDeliveryId) {
+        return members.contains(hubDeliveryId);
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public void offerAfterCommit(String hubDeliveryId) {
+        afterCommit(() -> members.add(hubDeliveryId));
+    }
+
+    public void removeAfterCommit(String hubDeliveryId) {
+        afterCommit(() -> members.remove(hubDeliveryId));
+    }
+
+    /**
+     * DB 기준으로 재구성
+     */
+    public synchronized void reload(List<String> hubDeliveryIds) {
+        members.retainAll(Set.copyOf(hubDeliveryIds));
+        members.addAll(hubDeliveryIds);
+    }
+
+    // ===== Private Methods =====
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.DeliveryLogQueryDto.DeliveryLogResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 드라이버 배송 이력 조회 전용 Repository
+ */
+public interface DeliveryLogQueryRepository {
+
+    /**
+     * Keyset 조회 (finishedAt DESC, eventId DESC)
+     * 커서 이후의 이력을 최대 limit 건 조회, 커서가 null 이면 최신부터
+     */
+    List<DeliveryLogResponse> findByDriverIdAfter(String driverId, LocalDateTime cursorFinishedAt,
+                                                  String cursorEventId, int limit);
+}
@@ -0,0 +1,53 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.DeliveryLogQueryDto.DeliveryLogCursorPage;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.DeliveryLogQueryDto.DeliveryLogResponse;
+import com.early_express.hub_driver_service.global.common.dto.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 드라이버 배송 이력 Query Service
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DeliveryLogQueryService {
+
+    private final DeliveryLogQueryRepository deliveryLogQueryRepository;
+
+    /**
+     * 드라이버 배송 이력 커서 조회 (finishedAt DESC, eventId DESC)
+     */
+    public DeliveryLogCursorPage findByDriver(String driverId, String cursor, int size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<DeliveryLogResponse> logs = deliveryLogQueryRepository.findByDriverIdAfter(
+                driverId,
+                keyset != null ? keyset.getTimestamp() : null,
+                keyset != null ? keyset.getId() : null,
+                size + 1
+        );
+
+        boolean hasNext = logs.size() > size;
+        List<DeliveryLogResponse> page = hasNext ? logs.subList(0, size) : logs;
+
+        String nextCursor = null;
+        if (hasNext) {
+            DeliveryLogResponse last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getFinishedAt(), last.getEventId()).encode();
+        }
+
+        return DeliveryLogCursorPage.builder()
+                .content(page)
+                .size(size)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.FleetStatsQueryDto.FleetStatsResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.FleetStatsQueryDto.FleetStatsWindow;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 드라이버 운영 통계 Query Service
+ * Kafka Streams 로컬 상태 저장소에서 조회하므로 DB 를 사용하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FleetStatsQueryService {
+
+    private final ObjectProvider<FleetStatsReader> fleetStatsReader;
+
+    /**
+     * 최근 hours 시간(현재 시간대 포함) 통계
+     */
+    public FleetStatsResponse getRecentStats(int hours) {
+        FleetStatsReader reader = fleetStatsReader.getIfAvailable();
+        if (reader == null) {
+            throw new HubDriverException(
+                    HubDriverErrorCode.FLEET_STATS_UNAVAILABLE,
+                    "운영 통계 집계가 비활성화되어 있습니다."
+            );
+        }
+
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        LocalDateTime from = to.minusHours(hours);
+
+        List<FleetStatsWindow> hourly = reader.findHourly(from, to);
+
+        return FleetStatsResponse.of(from, to, hourly);
+    }
+}
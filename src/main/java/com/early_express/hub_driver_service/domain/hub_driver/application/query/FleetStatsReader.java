@@ -0,0 +1,18 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.FleetStatsQueryDto.FleetStatsWindow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 드라이버 운영 통계 조회 Port
+ * 드라이버 이벤트 스트림에서 집계된 1시간 단위 통계를 조회 (DB 미사용)
+ */
+public interface FleetStatsReader {
+
+    /**
+     * [from, to) 구간의 1시간 단위 통계 (집계가 없는 시간대는 제외)
+     */
+    List<FleetStatsWindow> findHourly(LocalDateTime from, LocalDateTime to);
+}
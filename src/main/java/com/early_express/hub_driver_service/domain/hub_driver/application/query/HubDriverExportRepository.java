@@ -0,0 +1,18 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+
+import java.util.function.Consumer;
+
+/**
+ * 드라이버 전체 내보내기용 Repository
+ * 결과를 목록으로 모으지 않고 한 행씩 전달 (트랜잭션 안에서 호출)
+ */
+public interface HubDriverExportRepository {
+
+    /**
+     * 드라이버 전체를 createdAt DESC, id DESC 순으로 한 행씩 전달 (status 가 null 이면 전체)
+     */
+    void streamAll(HubDriverStatus status, Consumer<HubDriverResponse> consumer);
+}
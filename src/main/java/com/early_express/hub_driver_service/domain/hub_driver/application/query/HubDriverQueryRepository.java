@@ -0,0 +1,30 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * HubDriver 조회 전용 Repository
+ * 목록 조회는 엔티티/도메인을 거치지 않고 조회 DTO로 바로 프로젝션
+ */
+public interface HubDriverQueryRepository {
+
+    /**
+     * 목록 조회 (status 가 null 이면 전체)
+     */
+    Page<HubDriverResponse> findResponses(HubDriverStatus status, Pageable pageable);
+
+    /**
+     * Keyset 목록 조회 (createdAt DESC, id DESC)
+     * 커서 이후의 드라이버를 최대 limit 명 조회, 커서가 null 이면 처음부터
+     */
+    List<HubDriverResponse> findResponsesAfter(HubDriverStatus status, LocalDateTime cursorCreatedAt,
+                                               String cursorId, int limit);
+
+    long countByStatus(HubDriverStatus status);
+}
@@ -4,67 +4,219 @@ import com.early_express.hub_driver_service.domain.hub_driver.application.query.
 import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
-import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverId;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
-import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverRepository;
-import lombok.RequiredArgsConstructor;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverStatsRepository;
+import com.early_express.hub_driver_service.global.common.dto.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * HubDriver Query Service
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class HubDriverQueryService {
 
-    private final HubDriverRepository hubDriverRepository;
+    private final HubDriverSnapshotReader hubDriverSnapshotReader;
+    private final HubDriverQueryRepository hubDriverQueryRepository;
+    private final HubDriverStatsRepository hubDriverStatsRepository;
+    private final HubDriverStatusCountReader hubDriverStatusCountReader;
+    private final HubDriverExportRepository hubDriverExportRepository;
+    private final HubDriverStatusStream hubDriverStatusStream;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public HubDriverQueryService(HubDriverSnapshotReader hubDriverSnapshotReader,
+                                 HubDriverQueryRepository hubDriverQueryRepository,
+                                 HubDriverStatsRepository hubDriverStatsRepository,
+                                 HubDriverStatusCountReader hubDriverStatusCountReader,
+                                 HubDriverExportRepository hubDriverExportRepository,
+                                 HubDriverStatusStream hubDriverStatusStream,
+                                 PlatformTransactionManager transactionManager) {
+        this.hubDriverSnapshotReader = hubDriverSnapshotReader;
+        this.hubDriverQueryRepository = hubDriverQueryRepository;
+        this.hubDriverStatsRepository = hubDriverStatsRepository;
+        this.hubDriverStatusCountReader = hubDriverStatusCountReader;
+        this.hubDriverExportRepository = hubDriverExportRepository;
+        this.hubDriverStatusStream = hubDriverStatusStream;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
 
     /**
      * ID로 상세 조회
+     * - 드라이버는 스냅샷 캐시에서 조회 (미스 시 자체 트랜잭션으로 프라이머리에서 적재)
+     * - 통계는 읽기 전용 트랜잭션으로 조회 (레플리카 라우팅 대상, 집계 자체가 write-behind 라 지연 허용)
+     * - 외부 트랜잭션을 열지 않아 캐시 적중 시 드라이버 조회에 커넥션을 잡지 않음
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public HubDriverDetailResponse findById(String driverId) {
-        HubDriver driver = hubDriverRepository.findById(HubDriverId.of(driverId))
+        HubDriver driver = hubDriverSnapshotReader.findById(driverId)
                 .orElseThrow(() -> new HubDriverException(
                         HubDriverErrorCode.HUB_DRIVER_NOT_FOUND,
                         "허브 배송 담당자를 찾을 수 없습니다: " + driverId
                 ));
 
-        return HubDriverDetailResponse.from(driver);
+        return HubDriverDetailResponse.from(driver, findStats(driver));
     }
 
     /**
-     * 사용자 ID로 조회
+     * 사용자 ID로 조회 (스냅샷 캐시)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public HubDriverDetailResponse findByUserId(String userId) {
-        HubDriver driver = hubDriverRepository.findByUserId(userId)
+        HubDriver driver = hubDriverSnapshotReader.findByUserId(userId)
                 .orElseThrow(() -> new HubDriverException(
                         HubDriverErrorCode.HUB_DRIVER_NOT_FOUND,
                         "해당 사용자의 배송 담당자 정보를 찾을 수 없습니다: " + userId
                 ));
 
-        return HubDriverDetailResponse.from(driver);
+        return HubDriverDetailResponse.from(driver, findStats(driver));
+    }
+
+    /**
+     * driverId 목록으로 일괄 조회
+     * - 드라이버는 스냅샷 캐시 적중분 + 미스분 IN 쿼리 1회, 통계는 IN 쿼리 1회
+     * - 찾지 못한 ID 는 예외 없이 missingIds 로 반환
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HubDriverBulkResult findAllByIds(List<String> driverIds) {
+        List<String> ids = driverIds.stream().distinct().toList();
+        return toBulkResult(ids, hubDriverSnapshotReader.findAllByIds(ids));
+    }
+
+    /**
+     * userId 목록으로 일괄 조회 (결과 key 는 userId)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HubDriverBulkResult findAllByUserIds(List<String> userIds) {
+        List<String> ids = userIds.stream().distinct().toList();
+        return toBulkResult(ids, hubDriverSnapshotReader.findAllByUserIds(ids));
     }
 
     /**
      * 전체 목록 조회
+     * - 목록 응답 DTO 로 직접 프로젝션 (도메인 복원/영속성 컨텍스트 적재 없음)
      */
     public Page<HubDriverResponse> findAll(Pageable pageable) {
-        return hubDriverRepository.findAll(pageable)
-                .map(HubDriverResponse::from);
+        return hubDriverQueryRepository.findResponses(null, pageable);
+    }
+
+    /**
+     * 커서 기반 목록 조회 (createdAt DESC, id DESC)
+     * - OFFSET/COUNT 없이 커서 위치부터 seek 하므로 페이지 깊이와 무관하게 일정한 비용
+     * - 전체 건수는 includeTotal 인 경우에만 조회
+     */
+    public HubDriverCursorPage findAllByCursor(HubDriverStatus status, String cursor,
+                                              int size, boolean includeTotal) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<HubDriverResponse> drivers = hubDriverQueryRepository.findResponsesAfter(
+                status,
+                keyset != null ? keyset.getTimestamp() : null,
+                keyset != null ? keyset.getId() : null,
+                size + 1
+        );
+
+        boolean hasNext = drivers.size() > size;
+        List<HubDriverResponse> page = hasNext ? drivers.subList(0, size) : drivers;
+
+        String nextCursor = null;
+        if (hasNext) {
+            HubDriverResponse last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getDriverId()).encode();
+        }
+
+        return HubDriverCursorPage.builder()
+                .content(page)
+                .size(size)
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? hubDriverQueryRepository.countByStatus(status) : null)
+                .build();
     }
 
     /**
      * 상태별 목록 조회
      */
     public Page<HubDriverResponse> findByStatus(HubDriverStatus status, Pageable pageable) {
-        return hubDriverRepository.findByStatus(status, pageable)
-                .map(HubDriverResponse::from);
+        return hubDriverQueryRepository.findResponses(status, pageable);
+    }
+
+    /**
+     * 드라이버 전체 내보내기
+     * - 목록/페이지를 만들지 않고 JDBC 커서에서 읽은 행을 바로 consumer 로 전달
+     * - 커서는 트랜잭션 안에서만 유지되므로 consumer 가 응답 쓰기까지 마친 뒤 반환됨
+     */
+    public void exportAll(HubDriverStatus status, Consumer<HubDriverResponse> consumer) {
+        hubDriverExportRepository.streamAll(status, consumer);
+    }
+
+    /**
+     * 상태별 드라이버 수 요약
+     * 인메모리 카운터에서 조회 (상태별 COUNT 쿼리 없음, 주기적으로 DB 기준 보정)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HubDriverStatusSummary getStatusSummary() {
+        return hubDriverStatusCountReader.getSummary();
+    }
+
+    /**
+     * 드라이버 상태 전이 실시간 구독
+     * 구독자에게는 구독 이후 커밋된 전이만 전달 (DB 조회 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HubDriverStatusStream.Subscription subscribeStatusChanges(HubDriverStatusStream.Subscriber subscriber) {
+        return hubDriverStatusStream.subscribe(subscriber);
+    }
+
+    // ===== Private Methods =====
+
+    private HubDriverBulkResult toBulkResult(List<String> ids, Map<String, HubDriver> found) {
+        List<String> driverIds = found.values().stream().map(HubDriver::getIdValue).distinct().toList();
+        Map<String, HubDriverStats> stats = driverIds.isEmpty()
+                ? Map.of()
+                : readOnlyTemplate.execute(status -> hubDriverStatsRepository.findAllByDriverIds(driverIds));
+
+        Map<String, HubDriverResponse> drivers = new LinkedHashMap<>();
+        List<String> missingIds = new ArrayList<>();
+        for (String id : ids) {
+            HubDriver driver = found.get(id);
+            if (driver == null) {
+                missingIds.add(id);
+                continue;
+            }
+            String driverId = driver.getIdValue();
+            drivers.put(id, HubDriverResponse.from(driver,
+                    stats.getOrDefault(driverId, HubDriverStats.empty(driverId))));
+        }
+
+        return HubDriverBulkResult.builder()
+                .drivers(drivers)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    /**
+     * 드라이버 통계 조회 (아직 완료 이력이 집계되지 않았으면 빈 통계)
+     * 호출부가 트랜잭션 밖(NOT_SUPPORTED)이므로 읽기 전용 트랜잭션을 열어 레플리카로 라우팅
+     */
+    private HubDriverStats findStats(HubDriver driver) {
+        return readOnlyTemplate.execute(status -> hubDriverStatsRepository.findByDriverId(driver.getIdValue()))
+                .orElseGet(() -> HubDriverStats.empty(driver.getIdValue()));
     }
 }
 
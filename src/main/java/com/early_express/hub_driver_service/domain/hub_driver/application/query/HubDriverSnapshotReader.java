@@ -0,0 +1,29 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * HubDriver 단건 조회용 스냅샷 Reader
+ * - 조회 전용 (반환된 도메인 객체는 여러 요청이 공유하므로 변경/저장 금지)
+ * - 커맨드는 항상 HubDriverRepository 로 최신 상태를 조회
+ */
+public interface HubDriverSnapshotReader {
+
+    Optional<HubDriver> findById(String driverId);
+
+    Optional<HubDriver> findByUserId(String userId);
+
+    /**
+     * 여러 드라이버 일괄 조회 (driverId → HubDriver, 없는 ID 는 결과에서 빠짐)
+     */
+    Map<String, HubDriver> findAllByIds(Collection<String> driverIds);
+
+    /**
+     * 여러 사용자의 드라이버 일괄 조회 (userId → HubDriver, 없는 ID 는 결과에서 빠짐)
+     */
+    Map<String, HubDriver> findAllByUserIds(Collection<String> userIds);
+}
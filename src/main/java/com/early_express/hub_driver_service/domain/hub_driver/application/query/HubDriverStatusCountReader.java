@@ -0,0 +1,12 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusSummary;
+
+/**
+ * 상태별 드라이버 수 조회 Port
+ * 상태 전이로 갱신되는 인메모리 카운터에서 조회 (DB 미사용)
+ */
+public interface HubDriverStatusCountReader {
+
+    HubDriverStatusSummary getSummary();
+}
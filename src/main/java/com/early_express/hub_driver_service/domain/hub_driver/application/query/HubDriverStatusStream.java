@@ -0,0 +1,34 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusChange;
+
+/**
+ * 드라이버 상태 전이 실시간 스트림 Port
+ * 구독자마다 버퍼가 분리되어 있어 느린 구독자가 다른 구독자나 발행을 막지 않음
+ */
+public interface HubDriverStatusStream {
+
+    /**
+     * 구독 (구독자 수가 상한이면 STATUS_STREAM_UNAVAILABLE)
+     */
+    Subscription subscribe(Subscriber subscriber);
+
+    /**
+     * 구독자 콜백 (구독자별 전송 스레드에서 순서대로 호출)
+     * 예외를 던지면 구독이 해지됨
+     */
+    interface Subscriber {
+
+        void onChange(HubDriverStatusChange change);
+
+        /**
+         * 일정 시간 전송할 변경이 없을 때 연결 유지 확인용
+         */
+        void onHeartbeat();
+    }
+
+    interface Subscription {
+
+        void cancel();
+    }
+}
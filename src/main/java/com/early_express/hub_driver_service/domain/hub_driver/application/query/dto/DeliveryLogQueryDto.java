@@ -0,0 +1,42 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query.dto;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.DeliveryLogOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 드라이버 배송 이력 Query DTO
+ */
+public class DeliveryLogQueryDto {
+
+    /**
+     * 배송 이력 1건 (배정 → 완료/취소)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class DeliveryLogResponse {
+        private String eventId;
+        private String driverId;
+        private String hubDeliveryId;
+        private DeliveryLogOutcome outcome;
+        private LocalDateTime assignedAt;
+        private LocalDateTime finishedAt;
+        private Long deliveryTimeMin;
+    }
+
+    /**
+     * 배송 이력 커서 기반 목록 응답
+     */
+    @Getter
+    @Builder
+    public static class DeliveryLogCursorPage {
+        private List<DeliveryLogResponse> content;
+        private int size;
+        private String nextCursor;
+    }
+}
@@ -0,0 +1,82 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.query.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 드라이버 운영(Fleet) 통계 Query DTO
+ */
+public class FleetStatsQueryDto {
+
+    /**
+     * 1시간 단위 통계
+     */
+    @Getter
+    @Builder
+    public static class FleetStatsWindow {
+        private LocalDateTime windowStart;
+        private LocalDateTime windowEnd;
+        private long assignedDeliveries;
+        private long completedDeliveries;
+        private long cancelledDeliveries;
+        private double averageDeliveryTimeMin;
+        private long maxDeliveryTimeMin;
+        private long activeDrivers;
+        private double utilization;
+    }
+
+    /**
+     * 조회 구간 통계 (구간 합계 + 시간대별)
+     */
+    @Getter
+    @Builder
+    public static class FleetStatsResponse {
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private long assignedDeliveries;
+        private long completedDeliveries;
+        private long cancelledDeliveries;
+        private double averageDeliveryTimeMin;
+        private double deliveriesPerHour;
+        private double averageUtilization;
+        private List<FleetStatsWindow> hourly;
+
+        public static FleetStatsResponse of(LocalDateTime from, LocalDateTime to, List<FleetStatsWindow> hourly) {
+            long assigned = 0;
+            long completed = 0;
+            long cancelled = 0;
+            double totalDeliveryTime = 0;
+            double utilizationSum = 0;
+            int activeWindows = 0;
+
+            for (FleetStatsWindow window : hourly) {
+                assigned += window.getAssignedDeliveries();
+                completed += window.getCompletedDeliveries();
+                cancelled += window.getCancelledDeliveries();
+                totalDeliveryTime += window.getAverageDeliveryTimeMin() * window.getCompletedDeliveries();
+                if (window.getActiveDrivers() > 0) {
+                    utilizationSum += window.getUtilization();
+                    activeWindows++;
+                }
+            }
+
+            long hours = Math.max(1, Duration.between(from, to).toHours());
+
+            return FleetStatsResponse.builder()
+                    .from(from)
+                    .to(to)
+                    .assignedDeliveries(assigned)
+                    .completedDeliveries(completed)
+                    .cancelledDeliveries(cancelled)
+                    .averageDeliveryTimeMin(completed > 0 ? totalDeliveryTime / completed : 0)
+                    .deliveriesPerHour((double) completed / hours)
+                    .averageUtilization(activeWindows > 0 ? utilizationSum / activeWindows : 0)
+                    .hourly(hourly)
+                    .build();
+        }
+    }
+}
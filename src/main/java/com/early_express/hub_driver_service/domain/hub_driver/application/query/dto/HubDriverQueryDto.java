@@ -1,11 +1,17 @@
 package com.early_express.hub_driver_service.domain.hub_driver.application.query.dto;
 
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindow;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindowStats;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * HubDriver Query DTO
@@ -17,6 +23,7 @@ public class HubDriverQueryDto {
      */
     @Getter
     @Builder
+    @AllArgsConstructor
     public static class HubDriverResponse {
         private String driverId;
         private String userId;
@@ -31,7 +38,7 @@ public class HubDriverQueryDto {
         private LocalDateTime availableFrom;
         private LocalDateTime createdAt;
 
-        public static HubDriverResponse from(HubDriver driver) {
+        public static HubDriverResponse from(HubDriver driver, HubDriverStats stats) {
             return HubDriverResponse.builder()
                     .driverId(driver.getIdValue())
                     .userId(driver.getUserId())
@@ -39,16 +46,28 @@ public class HubDriverQueryDto {
                     .status(driver.getStatus())
                     .currentDeliveryId(driver.getCurrentDeliveryId())
                     .assignmentPriority(driver.getAssignmentPriority())
-                    .totalDeliveries(driver.getTotalDeliveries())
-                    .totalDeliveryTimeMin(driver.getTotalDeliveryTimeMin())
-                    .averageDeliveryTimeMin(driver.getAverageDeliveryTimeMin())
-                    .lastDeliveryCompletedAt(driver.getLastDeliveryCompletedAt())
+                    .totalDeliveries(stats.getTotalDeliveries())
+                    .totalDeliveryTimeMin(stats.getTotalDeliveryTimeMin())
+                    .averageDeliveryTimeMin(stats.getAverageDeliveryTimeMin())
+                    .lastDeliveryCompletedAt(stats.getLastDeliveryCompletedAt())
                     .availableFrom(driver.getAvailableFrom())
                     .createdAt(driver.getCreatedAt())
                     .build();
         }
     }
 
+    /**
+     * 드라이버 커서 기반 목록 응답
+     */
+    @Getter
+    @Builder
+    public static class HubDriverCursorPage {
+        private List<HubDriverResponse> content;
+        private int size;
+        private String nextCursor;
+        private Long totalElements;
+    }
+
     /**
      * 드라이버 상세 응답
      */
@@ -65,6 +84,15 @@ public class HubDriverQueryDto {
         private Long totalDeliveries;
         private Long totalDeliveryTimeMin;
         private Long averageDeliveryTimeMin;
+        private Long p50DeliveryTimeMin;
+        private Long p90DeliveryTimeMin;
+        private Long p99DeliveryTimeMin;
+        private Long deliveriesLastHour;
+        private Long averageDeliveryTimeMinLastHour;
+        private Long deliveriesLast24h;
+        private Long averageDeliveryTimeMinLast24h;
+        private Long deliveriesLast7d;
+        private Long averageDeliveryTimeMinLast7d;
         private LocalDateTime lastDeliveryCompletedAt;
         private LocalDateTime availableFrom;
         private Boolean isAvailable;
@@ -72,7 +100,14 @@ public class HubDriverQueryDto {
         private LocalDateTime createdAt;
         private String createdBy;
 
-        public static HubDriverDetailResponse from(HubDriver driver) {
+        /**
+         * @param stats 드라이버 통계 (write-behind 집계이므로 최대 flush 주기만큼 지연될 수 있음)
+         */
+        public static HubDriverDetailResponse from(HubDriver driver, HubDriverStats stats) {
+            RollingWindowStats lastHour = stats.getRecentStats(RollingWindow.LAST_HOUR);
+            RollingWindowStats lastDay = stats.getRecentStats(RollingWindow.LAST_DAY);
+            RollingWindowStats lastWeek = stats.getRecentStats(RollingWindow.LAST_WEEK);
+
             return HubDriverDetailResponse.builder()
                     .driverId(driver.getIdValue())
                     .userId(driver.getUserId())
@@ -81,10 +116,19 @@ public class HubDriverQueryDto {
                     .statusDescription(driver.getStatus().getDescription())
                     .currentDeliveryId(driver.getCurrentDeliveryId())
                     .assignmentPriority(driver.getAssignmentPriority())
-                    .totalDeliveries(driver.getTotalDeliveries())
-                    .totalDeliveryTimeMin(driver.getTotalDeliveryTimeMin())
-                    .averageDeliveryTimeMin(driver.getAverageDeliveryTimeMin())
-                    .lastDeliveryCompletedAt(driver.getLastDeliveryCompletedAt())
+                    .totalDeliveries(stats.getTotalDeliveries())
+                    .totalDeliveryTimeMin(stats.getTotalDeliveryTimeMin())
+                    .averageDeliveryTimeMin(stats.getAverageDeliveryTimeMin())
+                    .p50DeliveryTimeMin(stats.getDeliveryTimePercentile(50))
+                    .p90DeliveryTimeMin(stats.getDeliveryTimePercentile(90))
+                    .p99DeliveryTimeMin(stats.getDeliveryTimePercentile(99))
+                    .deliveriesLastHour(lastHour.getDeliveries())
+                    .averageDeliveryTimeMinLastHour(lastHour.getAverageDeliveryTimeMin())
+                    .deliveriesLast24h(lastDay.getDeliveries())
+                    .averageDeliveryTimeMinLast24h(lastDay.getAverageDeliveryTimeMin())
+                    .deliveriesLast7d(lastWeek.getDeliveries())
+                    .averageDeliveryTimeMinLast7d(lastWeek.getAverageDeliveryTimeMin())
+                    .lastDeliveryCompletedAt(stats.getLastDeliveryCompletedAt())
                     .availableFrom(driver.getAvailableFrom())
                     .isAvailable(driver.isAvailable())
                     .isOnDelivery(driver.isOnDelivery())
@@ -93,4 +137,44 @@ public class HubDriverQueryDto {
                     .build();
         }
     }
+
+    /**
+     * 상태별 드라이버 수 요약
+     */
+    @Getter
+    @Builder
+    public static class HubDriverStatusSummary {
+        private long available;
+        private long onDelivery;
+        private long offDuty;
+        private long inactive;
+        private long total;
+        private LocalDateTime reconciledAt;  // 마지막 DB 보정 시각 (이후 변경은 상태 전이로 반영)
+    }
+
+    /**
+     * 드라이버 상태 전이 1건 (실시간 스트림)
+     */
+    @Getter
+    @Builder
+    public static class HubDriverStatusChange {
+        private String eventId;
+        private String eventType;
+        private String driverId;
+        private String userId;
+        private HubDriverStatus previousStatus;
+        private HubDriverStatus status;
+        private String hubDeliveryId;  // 배정/완료/취소인 경우
+        private LocalDateTime occurredAt;
+    }
+
+    /**
+     * 드라이버 일괄 조회 결과
+     */
+    @Getter
+    @Builder
+    public static class HubDriverBulkResult {
+        private Map<String, HubDriverResponse> drivers;  // 요청한 ID → 드라이버 (요청 순서 유지)
+        private List<String> missingIds;                 // 찾지 못한 ID (삭제 포함)
+    }
 }
@@ -0,0 +1,22 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기 중이던 허브 배송에 드라이버가 배정됨
+ * 대기 모드 요청자는 응답 대신 이 이벤트로 배정 결과를 통지받음
+ */
+@Getter
+@Builder
+public class DeferredAssignmentCompletedEvent {
+
+    private String hubDeliveryId;
+    private String driverId;
+    private String userId;
+    private String driverName;
+    private LocalDateTime requestedAt;
+    private LocalDateTime assignedAt;
+}
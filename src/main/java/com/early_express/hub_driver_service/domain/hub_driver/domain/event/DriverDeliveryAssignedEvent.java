@@ -0,0 +1,20 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버에게 허브 배송이 배정됨
+ */
+@Getter
+@Builder
+public class DriverDeliveryAssignedEvent implements HubDriverDomainEvent {
+
+    private String driverId;
+    private String userId;
+    private String hubDeliveryId;
+    private Integer assignmentPriority;
+    private LocalDateTime occurredAt;
+}
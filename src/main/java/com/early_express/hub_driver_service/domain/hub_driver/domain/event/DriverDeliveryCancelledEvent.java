@@ -0,0 +1,20 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버의 허브 배송 배정이 취소됨
+ */
+@Getter
+@Builder
+public class DriverDeliveryCancelledEvent implements HubDriverDomainEvent {
+
+    private String driverId;
+    private String userId;
+    private String hubDeliveryId;
+    private LocalDateTime assignedAt;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,21 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버가 허브 배송을 완료함
+ */
+@Getter
+@Builder
+public class DriverDeliveryCompletedEvent implements HubDriverDomainEvent {
+
+    private String driverId;
+    private String userId;
+    private String hubDeliveryId;
+    private LocalDateTime assignedAt;
+    private Long deliveryTimeMin;
+    private LocalDateTime occurredAt;
+}
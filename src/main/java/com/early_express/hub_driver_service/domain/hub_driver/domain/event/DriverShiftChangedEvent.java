@@ -0,0 +1,21 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.event;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버 근무 상태 변경 (근무 시작/종료, 휴직/복직)
+ */
+@Getter
+@Builder
+public class DriverShiftChangedEvent implements HubDriverDomainEvent {
+
+    private String driverId;
+    private String userId;
+    private HubDriverStatus previousStatus;
+    private HubDriverStatus status;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,14 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * HubDriver 도메인 이벤트
+ * Aggregate 상태 전이 시 기록되고, 저장 시점에 같은 트랜잭션에서 Outbox 로 옮겨짐
+ */
+public interface HubDriverDomainEvent {
+
+    String getDriverId();
+
+    LocalDateTime getOccurredAt();
+}
@@ -22,9 +22,16 @@ public enum HubDriverErrorCode implements ErrorCode {
     // 배정 관련 (400)
     NO_AVAILABLE_DRIVER("HUB_DRIVER_201", "배정 가능한 배송 담당자가 없습니다.", 400),
     INVALID_HUB_ID("HUB_DRIVER_202", "유효하지 않은 허브 ID입니다.", 400),
+    DUPLICATE_HUB_DELIVERY_ID("HUB_DRIVER_203", "중복된 허브 배송 ID가 있습니다.", 400),
+    ASSIGNMENT_PENDING("HUB_DRIVER_204", "배정 대기 중인 허브 배송입니다.", 400),
+    INVALID_SORT_PROPERTY("HUB_DRIVER_205", "지원하지 않는 정렬 기준입니다.", 400),
 
     // 중복 관련 (409)
-    HUB_DRIVER_ALREADY_EXISTS("HUB_DRIVER_301", "이미 등록된 배송 담당자입니다.", 409);
+    HUB_DRIVER_ALREADY_EXISTS("HUB_DRIVER_301", "이미 등록된 배송 담당자입니다.", 409),
+
+    // 통계 관련 (503)
+    FLEET_STATS_UNAVAILABLE("HUB_DRIVER_401", "드라이버 운영 통계를 조회할 수 없습니다.", 503),
+    STATUS_STREAM_UNAVAILABLE("HUB_DRIVER_402", "상태 스트림 구독자가 너무 많습니다.", 503);
 
     private final String code;
     private final String message;
@@ -0,0 +1,49 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배송 배정 기록 (hubDeliveryId 기준 멱등성 키)
+ * 배정 시점의 결과를 보관하므로 배송 완료로 드라이버의 현재 배송이 비워져도 재요청에 같은 결과를 반환
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AssignmentRecord {
+
+    private String hubDeliveryId;
+    private String driverId;
+    private String userId;
+    private String driverName;
+    private String status;
+    private LocalDateTime assignedAt;
+
+    @Builder
+    private AssignmentRecord(String hubDeliveryId, String driverId, String userId,
+                             String driverName, String status, LocalDateTime assignedAt) {
+        this.hubDeliveryId = hubDeliveryId;
+        this.driverId = driverId;
+        this.userId = userId;
+        this.driverName = driverName;
+        this.status = status;
+        this.assignedAt = assignedAt;
+    }
+
+    // ===== 팩토리 메서드 =====
+
+    public static AssignmentRecord of(String hubDeliveryId, String driverId, String userId,
+                                      String driverName, String status, LocalDateTime assignedAt) {
+        return AssignmentRecord.builder()
+                .hubDeliveryId(hubDeliveryId)
+                .driverId(driverId)
+                .userId(userId)
+                .driverName(driverName)
+                .status(status)
+                .assignedAt(assignedAt)
+                .build();
+    }
+}
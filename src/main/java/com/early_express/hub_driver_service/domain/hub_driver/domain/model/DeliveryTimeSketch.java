@@ -0,0 +1,160 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 드라이버 배송 소요시간(분) 분포 스케치
+ *
+ * HDR 히스토그램과 같은 log-linear 고정 버킷 (2의 거듭제곱 구간마다 16개 하위 버킷)
+ * - 0~31분은 정확, 그 이상은 상대 오차 1/16(약 6%) 이내
+ * - 최대 16383분(약 11일), 초과 값은 최대 버킷에 기록
+ * - 기록은 배열 인덱스 계산 + 증가 1회 (할당 없음, O(1))
+ * - 같은 버킷 구조이므로 드라이버/허브 단위로 병합 가능
+ * - 저장 시 비어 있지 않은 버킷만 varint 로 인코딩 (일반적으로 수십 바이트)
+ *
+ * HubDriverStats 내부에서만 갱신 (단일 스레드 사용 전제)
+ */
+public class DeliveryTimeSketch {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 13;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final int[] counts = new int[BUCKET_COUNT];
+    private long totalCount;
+    private boolean modified;
+
+    private DeliveryTimeSketch() {
+    }
+
+    public static DeliveryTimeSketch empty() {
+        return new DeliveryTimeSketch();
+    }
+
+    /**
+     * 저장된 바이너리에서 복원 (null/빈 값이면 빈 스케치)
+     */
+    public static DeliveryTimeSketch fromBytes(byte[] bytes) {
+        DeliveryTimeSketch sketch = new DeliveryTimeSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        if (bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 스케치 포맷입니다. version: " + bytes[0]);
+        }
+
+        int[] position = {1};
+        int index = -1;
+        while (position[0] < bytes.length) {
+            index += (int) VarInt.read(bytes, position);
+            int count = (int) VarInt.read(bytes, position);
+            if (index < 0 || index >= BUCKET_COUNT) {
+                throw new IllegalArgumentException("스케치 버킷 범위를 벗어났습니다. index: " + index);
+            }
+            sketch.counts[index] = count;
+            sketch.totalCount += count;
+        }
+        return sketch;
+    }
+
+    /**
+     * 소요시간 기록
+     */
+    public void record(long valueMin) {
+        long value = Math.min(Math.max(valueMin, 0L), MAX_VALUE);
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        modified = true;
+    }
+
+    /**
+     * 다른 스케치 병합
+     */
+    public void merge(DeliveryTimeSketch other) {
+        if (other.totalCount == 0) {
+            return;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        modified = true;
+    }
+
+    /**
+     * 백분위 값(분) - 해당 버킷의 상한값 (기록이 없으면 null)
+     *
+     * @param percentile 0 < percentile <= 100
+     */
+    public Long percentile(double percentile) {
+        if (totalCount == 0) {
+            return null;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(totalCount * Math.min(percentile, 100.0) / 100.0));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return MAX_VALUE;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 복원 이후 기록/병합 여부 (변경 없으면 재인코딩 생략)
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * 비어 있지 않은 버킷만 (인덱스 차이, 건수) varint 쌍으로 인코딩
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32);
+        out.write(FORMAT_VERSION);
+
+        int previous = -1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0) {
+                VarInt.write(out, i - previous);
+                VarInt.write(out, counts[i]);
+                previous = i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 0~31 은 값 그대로, 이후 2의 거듭제곱 구간마다 16개 하위 버킷
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (index - shift * SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -1,5 +1,10 @@
 package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
 
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryAssignedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverShiftChangedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.HubDriverDomainEvent;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverId;
@@ -11,10 +16,13 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * HubDriver Aggregate Root
  * 허브 간 배송 담당자 (전사 소속)
+ * - 배정 상태와 우선순위만 보유 (배송 통계는 HubDriverStats 로 분리, 완료 이벤트로 비동기 집계)
  */
 @Slf4j
 @Getter
@@ -26,11 +34,8 @@ public class HubDriver {
     private String name;
     private HubDriverStatus status;
     private String currentDeliveryId;
+    private LocalDateTime deliveryAssignedAt;
     private Integer assignmentPriority;
-    private Long totalDeliveries;
-    private Long totalDeliveryTimeMin;
-    private Long averageDeliveryTimeMin;
-    private LocalDateTime lastDeliveryCompletedAt;
     private LocalDateTime availableFrom;
 
     // Audit 필드
@@ -42,12 +47,15 @@ public class HubDriver {
     private String deletedBy;
     private boolean isDeleted;
 
+    // 저장 전까지 쌓이는 도메인 이벤트 (Repository 저장 시 Outbox 로 이동)
+    @Getter(AccessLevel.NONE)
+    private final List<HubDriverDomainEvent> domainEvents = new ArrayList<>();
+
     @Builder
     private HubDriver(HubDriverId id, String userId, String name,
                       HubDriverStatus status, String currentDeliveryId,
-                      Integer assignmentPriority, Long totalDeliveries,
-                      Long totalDeliveryTimeMin, Long averageDeliveryTimeMin,
-                      LocalDateTime lastDeliveryCompletedAt, LocalDateTime availableFrom,
+                      LocalDateTime deliveryAssignedAt,
+                      Integer assignmentPriority, LocalDateTime availableFrom,
                       LocalDateTime createdAt, String createdBy,
                       LocalDateTime updatedAt, String updatedBy,
                       LocalDateTime deletedAt, String deletedBy, boolean isDeleted) {
@@ -56,11 +64,8 @@ public class HubDriver {
         this.name = name;
         this.status = status;
         this.currentDeliveryId = currentDeliveryId;
+        this.deliveryAssignedAt = deliveryAssignedAt;
         this.assignmentPriority = assignmentPriority;
-        this.totalDeliveries = totalDeliveries;
-        this.totalDeliveryTimeMin = totalDeliveryTimeMin;
-        this.averageDeliveryTimeMin = averageDeliveryTimeMin;
-        this.lastDeliveryCompletedAt = lastDeliveryCompletedAt;
         this.availableFrom = availableFrom;
         this.createdAt = createdAt;
         this.createdBy = createdBy;
@@ -86,9 +91,6 @@ public class HubDriver {
                 .name(name)
                 .status(HubDriverStatus.AVAILABLE)
                 .assignmentPriority(0)
-                .totalDeliveries(0L)
-                .totalDeliveryTimeMin(0L)
-                .averageDeliveryTimeMin(0L)
                 .availableFrom(LocalDateTime.now())
                 .createdAt(LocalDateTime.now())
                 .createdBy(createdBy)
@@ -102,9 +104,8 @@ public class HubDriver {
     public static HubDriver reconstitute(
             HubDriverId id, String userId, String name,
             HubDriverStatus status, String currentDeliveryId,
-            Integer assignmentPriority, Long totalDeliveries,
-            Long totalDeliveryTimeMin, Long averageDeliveryTimeMin,
-            LocalDateTime lastDeliveryCompletedAt, LocalDateTime availableFrom,
+            LocalDateTime deliveryAssignedAt,
+            Integer assignmentPriority, LocalDateTime availableFrom,
             LocalDateTime createdAt, String createdBy,
             LocalDateTime updatedAt, String updatedBy,
             LocalDateTime deletedAt, String deletedBy, boolean isDeleted) {
@@ -115,11 +116,8 @@ public class HubDriver {
                 .name(name)
                 .status(status)
                 .currentDeliveryId(currentDeliveryId)
+                .deliveryAssignedAt(deliveryAssignedAt)
                 .assignmentPriority(assignmentPriority)
-                .totalDeliveries(totalDeliveries)
-                .totalDeliveryTimeMin(totalDeliveryTimeMin)
-                .averageDeliveryTimeMin(averageDeliveryTimeMin)
-                .lastDeliveryCompletedAt(lastDeliveryCompletedAt)
                 .availableFrom(availableFrom)
                 .createdAt(createdAt)
                 .createdBy(createdBy)
@@ -146,14 +144,24 @@ public class HubDriver {
         }
 
         this.currentDeliveryId = deliveryId;
+        this.deliveryAssignedAt = LocalDateTime.now();
         this.status = HubDriverStatus.ON_DELIVERY;
         this.assignmentPriority++;  // 배정될 때마다 우선순위 증가
 
+        domainEvents.add(DriverDeliveryAssignedEvent.builder()
+                .driverId(this.getIdValue())
+                .userId(this.userId)
+                .hubDeliveryId(deliveryId)
+                .assignmentPriority(this.assignmentPriority)
+                .occurredAt(this.deliveryAssignedAt)
+                .build());
+
         log.info("배송 배정 - driverId: {}, deliveryId: {}", this.getIdValue(), deliveryId);
     }
 
     /**
      * 배송 완료
+     * 통계는 갱신하지 않음 - 완료 이벤트의 소요시간/완료 시각으로 HubDriverStats 에 비동기 집계
      */
     public void completeDelivery(Long deliveryTimeMin) {
         if (this.status != HubDriverStatus.ON_DELIVERY) {
@@ -163,21 +171,27 @@ public class HubDriver {
             );
         }
 
-        // 통계 업데이트
-        this.totalDeliveries++;
-        if (deliveryTimeMin != null) {
-            this.totalDeliveryTimeMin += deliveryTimeMin;
-            this.averageDeliveryTimeMin = this.totalDeliveryTimeMin / this.totalDeliveries;
-        }
+        String completedDeliveryId = this.currentDeliveryId;
+        LocalDateTime assignedAt = this.deliveryAssignedAt;
+        LocalDateTime completedAt = LocalDateTime.now();
 
-        this.lastDeliveryCompletedAt = LocalDateTime.now();
         this.currentDeliveryId = null;
+        this.deliveryAssignedAt = null;
         this.status = HubDriverStatus.AVAILABLE;
-        this.availableFrom = LocalDateTime.now();
+        this.availableFrom = completedAt;
         this.assignmentPriority = 0;  // 완료 후 우선순위 초기화
 
-        log.info("배송 완료 - driverId: {}, totalDeliveries: {}, avgTime: {}분",
-                this.getIdValue(), this.totalDeliveries, this.averageDeliveryTimeMin);
+        domainEvents.add(DriverDeliveryCompletedEvent.builder()
+                .driverId(this.getIdValue())
+                .userId(this.userId)
+                .hubDeliveryId(completedDeliveryId)
+                .assignedAt(assignedAt)
+                .deliveryTimeMin(deliveryTimeMin)
+                .occurredAt(completedAt)
+                .build());
+
+        log.info("배송 완료 - driverId: {}, deliveryId: {}, deliveryTime: {}분",
+                this.getIdValue(), completedDeliveryId, deliveryTimeMin);
     }
 
     /**
@@ -191,10 +205,22 @@ public class HubDriver {
             );
         }
 
+        String cancelledDeliveryId = this.currentDeliveryId;
+        LocalDateTime assignedAt = this.deliveryAssignedAt;
+
         this.currentDeliveryId = null;
+        this.deliveryAssignedAt = null;
         this.status = HubDriverStatus.AVAILABLE;
         this.availableFrom = LocalDateTime.now();
 
+        domainEvents.add(DriverDeliveryCancelledEvent.builder()
+                .driverId(this.getIdValue())
+                .userId(this.userId)
+                .hubDeliveryId(cancelledDeliveryId)
+                .assignedAt(assignedAt)
+                .occurredAt(this.availableFrom)
+                .build());
+
         log.info("배송 취소 - driverId: {}", this.getIdValue());
     }
 
@@ -205,6 +231,7 @@ public class HubDriver {
         if (this.status == HubDriverStatus.OFF_DUTY) {
             this.status = HubDriverStatus.AVAILABLE;
             this.availableFrom = LocalDateTime.now();
+            recordShiftChange(HubDriverStatus.OFF_DUTY);
             log.info("근무 시작 - driverId: {}", this.getIdValue());
         }
     }
@@ -219,7 +246,9 @@ public class HubDriver {
                     "배송 중인 담당자는 근무를 종료할 수 없습니다."
             );
         }
+        HubDriverStatus previousStatus = this.status;
         this.status = HubDriverStatus.OFF_DUTY;
+        recordShiftChange(previousStatus);
         log.info("근무 종료 - driverId: {}", this.getIdValue());
     }
 
@@ -233,7 +262,9 @@ public class HubDriver {
                     "배송 중인 담당자는 휴직 처리할 수 없습니다."
             );
         }
+        HubDriverStatus previousStatus = this.status;
         this.status = HubDriverStatus.INACTIVE;
+        recordShiftChange(previousStatus);
         log.info("휴직 처리 - driverId: {}", this.getIdValue());
     }
 
@@ -244,6 +275,7 @@ public class HubDriver {
         if (this.status == HubDriverStatus.INACTIVE) {
             this.status = HubDriverStatus.AVAILABLE;
             this.availableFrom = LocalDateTime.now();
+            recordShiftChange(HubDriverStatus.INACTIVE);
             log.info("복직 처리 - driverId: {}", this.getIdValue());
         }
     }
@@ -262,6 +294,33 @@ public class HubDriver {
         this.deletedBy = deletedBy;
     }
 
+    // ===== 도메인 이벤트 =====
+
+    /**
+     * 쌓인 도메인 이벤트를 꺼내고 비움
+     */
+    public List<HubDriverDomainEvent> pullDomainEvents() {
+        if (domainEvents.isEmpty()) {
+            return List.of();
+        }
+        List<HubDriverDomainEvent> events = List.copyOf(domainEvents);
+        domainEvents.clear();
+        return events;
+    }
+
+    private void recordShiftChange(HubDriverStatus previousStatus) {
+        if (previousStatus == this.status) {
+            return;
+        }
+        domainEvents.add(DriverShiftChangedEvent.builder()
+                .driverId(this.getIdValue())
+                .userId(this.userId)
+                .previousStatus(previousStatus)
+                .status(this.status)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
     // ===== 검증 메서드 =====
 
     private static void validateNotBlank(String value, String fieldName) {
@@ -0,0 +1,126 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindow;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindowStats;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버 배송 통계
+ *
+ * 배정 행(HubDriver)과 분리된 별도 저장소에 보관
+ * - 배송 완료 이벤트를 집계기가 메모리에서 드라이버별로 모아(delta) 주기적으로 일괄 반영
+ * - 배정 트랜잭션의 행 잠금과 경합하지 않음
+ * - 반영 시점까지 최대 flush 주기만큼 지연될 수 있음
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HubDriverStats {
+
+    private String driverId;
+    private Long totalDeliveries;
+    private Long totalDeliveryTimeMin;
+    private Long averageDeliveryTimeMin;
+    private DeliveryTimeSketch deliveryTimeSketch;
+    private RollingDeliveryStats rollingDeliveryStats;
+    private LocalDateTime lastDeliveryCompletedAt;
+
+    private HubDriverStats(String driverId, Long totalDeliveries,
+                           Long totalDeliveryTimeMin, Long averageDeliveryTimeMin,
+                           DeliveryTimeSketch deliveryTimeSketch,
+                           RollingDeliveryStats rollingDeliveryStats,
+                           LocalDateTime lastDeliveryCompletedAt) {
+        this.driverId = driverId;
+        this.totalDeliveries = totalDeliveries != null ? totalDeliveries : 0L;
+        this.totalDeliveryTimeMin = totalDeliveryTimeMin != null ? totalDeliveryTimeMin : 0L;
+        this.averageDeliveryTimeMin = averageDeliveryTimeMin != null ? averageDeliveryTimeMin : 0L;
+        this.deliveryTimeSketch = deliveryTimeSketch != null ? deliveryTimeSketch : DeliveryTimeSketch.empty();
+        this.rollingDeliveryStats = rollingDeliveryStats != null ? rollingDeliveryStats : RollingDeliveryStats.empty();
+        this.lastDeliveryCompletedAt = lastDeliveryCompletedAt;
+    }
+
+    // ===== 팩토리 메서드 =====
+
+    /**
+     * 완료 이력이 없는 드라이버 통계 (집계 delta 로도 사용)
+     */
+    public static HubDriverStats empty(String driverId) {
+        return new HubDriverStats(driverId, 0L, 0L, 0L, null, null, null);
+    }
+
+    /**
+     * DB 조회 후 도메인 복원용
+     */
+    public static HubDriverStats reconstitute(
+            String driverId, Long totalDeliveries,
+            Long totalDeliveryTimeMin, Long averageDeliveryTimeMin,
+            DeliveryTimeSketch deliveryTimeSketch,
+            RollingDeliveryStats rollingDeliveryStats,
+            LocalDateTime lastDeliveryCompletedAt) {
+
+        return new HubDriverStats(driverId, totalDeliveries, totalDeliveryTimeMin, averageDeliveryTimeMin,
+                deliveryTimeSketch, rollingDeliveryStats, lastDeliveryCompletedAt);
+    }
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 배송 완료 1건 반영
+     *
+     * @param deliveryTimeMin 소요시간(분), 없으면 건수만 증가
+     * @param completedAt     완료 시각 (이벤트 발생 시각)
+     */
+    public void recordCompletion(Long deliveryTimeMin, LocalDateTime completedAt) {
+        this.totalDeliveries++;
+        if (deliveryTimeMin != null) {
+            this.totalDeliveryTimeMin += deliveryTimeMin;
+            this.averageDeliveryTimeMin = this.totalDeliveryTimeMin / this.totalDeliveries;
+            this.deliveryTimeSketch.record(deliveryTimeMin);
+        }
+        this.rollingDeliveryStats.record(completedAt, deliveryTimeMin != null ? deliveryTimeMin : 0L);
+        updateLastCompletedAt(completedAt);
+    }
+
+    /**
+     * 집계된 delta 병합 (순서와 무관하게 같은 결과)
+     */
+    public void merge(HubDriverStats delta) {
+        if (delta.totalDeliveries == 0) {
+            return;
+        }
+        this.totalDeliveries += delta.totalDeliveries;
+        this.totalDeliveryTimeMin += delta.totalDeliveryTimeMin;
+        this.averageDeliveryTimeMin = this.totalDeliveryTimeMin / this.totalDeliveries;
+        this.deliveryTimeSketch.merge(delta.deliveryTimeSketch);
+        this.rollingDeliveryStats.merge(delta.rollingDeliveryStats);
+        updateLastCompletedAt(delta.lastDeliveryCompletedAt);
+    }
+
+    // ===== 조회 메서드 =====
+
+    /**
+     * 배송 소요시간 백분위(분) - 완료 이력이 없으면 null
+     */
+    public Long getDeliveryTimePercentile(double percentile) {
+        return this.deliveryTimeSketch.percentile(percentile);
+    }
+
+    /**
+     * 최근 구간(1시간/24시간/7일) 배송 통계
+     */
+    public RollingWindowStats getRecentStats(RollingWindow window) {
+        return this.rollingDeliveryStats.window(window, LocalDateTime.now());
+    }
+
+    // ===== Private Methods =====
+
+    private void updateLastCompletedAt(LocalDateTime completedAt) {
+        if (completedAt != null
+                && (this.lastDeliveryCompletedAt == null || completedAt.isAfter(this.lastDeliveryCompletedAt))) {
+            this.lastDeliveryCompletedAt = completedAt;
+        }
+    }
+}
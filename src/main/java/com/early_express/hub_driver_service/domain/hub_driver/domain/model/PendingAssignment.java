@@ -0,0 +1,61 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배정 대기 건
+ * 가용 드라이버가 없을 때 대기 모드로 요청된 허브 배송 (FIFO)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingAssignment {
+
+    private String id;
+    private String hubDeliveryId;
+    private LocalDateTime requestedAt;
+
+    @Builder
+    private PendingAssignment(String id, String hubDeliveryId, LocalDateTime requestedAt) {
+        this.id = id;
+        this.hubDeliveryId = hubDeliveryId;
+        this.requestedAt = requestedAt;
+    }
+
+    // ===== 팩토리 메서드 =====
+
+    /**
+     * 새로운 배정 대기 건 생성
+     */
+    public static PendingAssignment create(String hubDeliveryId) {
+        if (hubDeliveryId == null || hubDeliveryId.isBlank()) {
+            throw new HubDriverException(
+                    HubDriverErrorCode.INVALID_HUB_ID,
+                    "허브 배송 ID는 필수입니다."
+            );
+        }
+
+        return PendingAssignment.builder()
+                .id(null)  // Entity에서 UUID 생성
+                .hubDeliveryId(hubDeliveryId)
+                .requestedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * DB 조회 후 도메인 복원용
+     */
+    public static PendingAssignment reconstitute(String id, String hubDeliveryId, LocalDateTime requestedAt) {
+        return PendingAssignment.builder()
+                .id(id)
+                .hubDeliveryId(hubDeliveryId)
+                .requestedAt(requestedAt)
+                .build();
+    }
+}
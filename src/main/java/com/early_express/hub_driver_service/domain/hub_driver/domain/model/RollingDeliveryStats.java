@@ -0,0 +1,192 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindow;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindowStats;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 드라이버 최근 배송 통계 (1시간 / 24시간 / 7일)
+ *
+ * RollingWindow 별 고정 크기 링 버퍼
+ * - 슬롯마다 (버킷 번호, 완료 건수, 소요시간 합) 보관, 버킷 번호가 다르면 만료된 슬롯으로 보고 재사용
+ * - 기록: 구간별 슬롯 1개 갱신 (할당 없음, O(1))
+ * - 조회: 구간별 최대 28개 슬롯 합산 (이력 테이블 조회 없음)
+ * - 구간 경계는 버킷 단위 (예: 최근 1시간 = 5분 버킷 12개)
+ * - 저장 시 유효 슬롯만 varint 로 인코딩
+ *
+ * HubDriverStats 내부에서만 갱신 (단일 스레드 사용 전제)
+ */
+public class RollingDeliveryStats {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final RollingWindow[] WINDOWS = RollingWindow.values();
+
+    private final long[][] bucketIds = new long[WINDOWS.length][];
+    private final long[][] deliveries = new long[WINDOWS.length][];
+    private final long[][] deliveryTimeSums = new long[WINDOWS.length][];
+    private boolean modified;
+
+    private RollingDeliveryStats() {
+        for (RollingWindow window : WINDOWS) {
+            int size = window.getBucketCount();
+            bucketIds[window.ordinal()] = new long[size];
+            deliveries[window.ordinal()] = new long[size];
+            deliveryTimeSums[window.ordinal()] = new long[size];
+        }
+    }
+
+    public static RollingDeliveryStats empty() {
+        return new RollingDeliveryStats();
+    }
+
+    /**
+     * 저장된 바이너리에서 복원 (null/빈 값이면 빈 통계)
+     * 포맷: version, 구간별 [유효 슬롯 수, (버킷 번호, 건수, 소요시간 합)...]
+     */
+    public static RollingDeliveryStats fromBytes(byte[] bytes) {
+        RollingDeliveryStats stats = new RollingDeliveryStats();
+        if (bytes == null || bytes.length == 0) {
+            return stats;
+        }
+        if (bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 최근 통계 포맷입니다. version: " + bytes[0]);
+        }
+
+        int[] position = {1};
+        for (RollingWindow window : WINDOWS) {
+            int w = window.ordinal();
+            long slots = VarInt.read(bytes, position);
+            for (long i = 0; i < slots; i++) {
+                long bucketId = VarInt.read(bytes, position);
+                int slot = (int) (bucketId % window.getBucketCount());
+                stats.bucketIds[w][slot] = bucketId;
+                stats.deliveries[w][slot] = VarInt.read(bytes, position);
+                stats.deliveryTimeSums[w][slot] = VarInt.read(bytes, position);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 배송 완료 기록
+     */
+    public void record(LocalDateTime completedAt, long deliveryTimeMin) {
+        long epochMinute = epochMinute(completedAt);
+        long value = Math.max(deliveryTimeMin, 0L);
+
+        for (RollingWindow window : WINDOWS) {
+            int w = window.ordinal();
+            long bucketId = epochMinute / window.getBucketMinutes();
+            int slot = (int) (bucketId % window.getBucketCount());
+
+            if (bucketIds[w][slot] > bucketId) {
+                continue;  // 이미 한 바퀴 지난 과거 시각 (구간 밖)
+            }
+            if (bucketIds[w][slot] != bucketId) {
+                bucketIds[w][slot] = bucketId;
+                deliveries[w][slot] = 0;
+                deliveryTimeSums[w][slot] = 0;
+            }
+            deliveries[w][slot]++;
+            deliveryTimeSums[w][slot] += value;
+        }
+        modified = true;
+    }
+
+    /**
+     * 다른 통계 병합 (슬롯별로 같은 버킷이면 합산, 더 최신 버킷이면 교체, 과거 버킷이면 무시)
+     */
+    public void merge(RollingDeliveryStats other) {
+        for (RollingWindow window : WINDOWS) {
+            int w = window.ordinal();
+            for (int slot = 0; slot < window.getBucketCount(); slot++) {
+                long bucketId = other.bucketIds[w][slot];
+                if (other.deliveries[w][slot] == 0 || bucketIds[w][slot] > bucketId) {
+                    continue;
+                }
+                if (bucketIds[w][slot] != bucketId) {
+                    bucketIds[w][slot] = bucketId;
+                    deliveries[w][slot] = 0;
+                    deliveryTimeSums[w][slot] = 0;
+                }
+                deliveries[w][slot] += other.deliveries[w][slot];
+                deliveryTimeSums[w][slot] += other.deliveryTimeSums[w][slot];
+                modified = true;
+            }
+        }
+    }
+
+    /**
+     * now 기준 구간 통계
+     */
+    public RollingWindowStats window(RollingWindow window, LocalDateTime now) {
+        int w = window.ordinal();
+        long current = epochMinute(now) / window.getBucketMinutes();
+        long oldest = current - window.getBucketCount();
+
+        long count = 0;
+        long total = 0;
+        for (int slot = 0; slot < window.getBucketCount(); slot++) {
+            long bucketId = bucketIds[w][slot];
+            if (bucketId > oldest && bucketId <= current) {
+                count += deliveries[w][slot];
+                total += deliveryTimeSums[w][slot];
+            }
+        }
+        return RollingWindowStats.of(count, total);
+    }
+
+    /**
+     * 복원 이후 기록 여부 (변경 없으면 재인코딩 생략)
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * 인코딩 시점 기준 만료되지 않은 슬롯만 기록
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(FORMAT_VERSION);
+
+        long epochMinute = epochMinute(LocalDateTime.now());
+        for (RollingWindow window : WINDOWS) {
+            int w = window.ordinal();
+            long oldest = epochMinute / window.getBucketMinutes() - window.getBucketCount();
+
+            int live = 0;
+            for (int slot = 0; slot < window.getBucketCount(); slot++) {
+                if (isLive(w, slot, oldest)) {
+                    live++;
+                }
+            }
+
+            VarInt.write(out, live);
+            for (int slot = 0; slot < window.getBucketCount(); slot++) {
+                if (isLive(w, slot, oldest)) {
+                    VarInt.write(out, bucketIds[w][slot]);
+                    VarInt.write(out, deliveries[w][slot]);
+                    VarInt.write(out, deliveryTimeSums[w][slot]);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    // ===== Private Methods =====
+
+    private boolean isLive(int w, int slot, long oldest) {
+        return deliveries[w][slot] > 0 && bucketIds[w][slot] > oldest;
+    }
+
+    /**
+     * 로컬 시각 기준 분 단위 번호 (도메인 시각이 LocalDateTime 이므로 같은 기준 사용)
+     */
+    private static long epochMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
@@ -0,0 +1,38 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 통계 컬럼(스케치/링 버퍼) 바이너리 인코딩용 unsigned varint (LEB128)
+ */
+final class VarInt {
+
+    private VarInt() {
+    }
+
+    static void write(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * position[0] 위치부터 읽고 다음 위치로 이동
+     */
+    static long read(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (position[0] >= bytes.length || shift > 63) {
+                throw new IllegalArgumentException("잘못된 varint 인코딩입니다.");
+            }
+            b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,17 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배송 이력 종료 구분
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DeliveryLogOutcome {
+
+    COMPLETED("배송 완료"),
+    CANCELLED("배정 취소");
+
+    private final String description;
+}
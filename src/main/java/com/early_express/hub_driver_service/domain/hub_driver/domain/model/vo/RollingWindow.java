@@ -0,0 +1,21 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 드라이버 최근 통계 집계 구간
+ * 구간 = 버킷 크기 × 버킷 수 (링 버퍼 한 바퀴)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollingWindow {
+
+    LAST_HOUR("최근 1시간", 5, 12),
+    LAST_DAY("최근 24시간", 60, 24),
+    LAST_WEEK("최근 7일", 360, 28);
+
+    private final String description;
+    private final int bucketMinutes;
+    private final int bucketCount;
+}
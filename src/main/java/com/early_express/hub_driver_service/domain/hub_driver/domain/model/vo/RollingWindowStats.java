@@ -0,0 +1,34 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근 구간 배송 통계 값 객체
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RollingWindowStats {
+
+    private static final RollingWindowStats EMPTY = new RollingWindowStats(0L, 0L);
+
+    private final long deliveries;
+    private final long totalDeliveryTimeMin;
+
+    public static RollingWindowStats of(long deliveries, long totalDeliveryTimeMin) {
+        if (deliveries == 0 && totalDeliveryTimeMin == 0) {
+            return EMPTY;
+        }
+        return new RollingWindowStats(deliveries, totalDeliveryTimeMin);
+    }
+
+    /**
+     * 평균 배송 시간(분) - 구간 내 완료 건이 없으면 null
+     */
+    public Long getAverageDeliveryTimeMin() {
+        return deliveries > 0 ? totalDeliveryTimeMin / deliveries : null;
+    }
+}
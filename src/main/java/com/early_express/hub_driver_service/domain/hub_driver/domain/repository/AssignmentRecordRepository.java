@@ -0,0 +1,32 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.AssignmentRecord;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AssignmentRecord Domain Repository Interface
+ */
+public interface AssignmentRecordRepository {
+
+    /**
+     * 배정 기록 추가 (같은 hubDeliveryId 가 이미 있으면 커밋 시 유니크 제약 위반)
+     */
+    void save(AssignmentRecord assignmentRecord);
+
+    Optional<AssignmentRecord> findByHubDeliveryId(String hubDeliveryId);
+
+    List<AssignmentRecord> findAllByHubDeliveryIds(Collection<String> hubDeliveryIds);
+
+    void deleteByHubDeliveryId(String hubDeliveryId);
+
+    /**
+     * 보관 기간이 지난 기록 삭제
+     *
+     * @return 삭제 건수
+     */
+    int deleteAssignedBefore(LocalDateTime before);
+}
@@ -6,6 +6,7 @@ import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.Hu
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,16 +17,47 @@ public interface HubDriverRepository {
 
     HubDriver save(HubDriver hubDriver);
 
+    /**
+     * 기존 드라이버 일괄 저장 (JDBC 배치 업데이트)
+     */
+    List<HubDriver> saveAll(List<HubDriver> hubDrivers);
+
     Optional<HubDriver> findById(HubDriverId id);
 
     Optional<HubDriver> findByUserId(String userId);
 
+    /**
+     * 여러 드라이버를 IN 쿼리 1회로 조회 (없는 ID 는 결과에서 빠짐)
+     */
+    List<HubDriver> findAllByIds(Collection<String> driverIds);
+
+    List<HubDriver> findAllByUserIds(Collection<String> userIds);
+
+    /**
+     * 현재 배정된 허브 배송 ID로 일괄 조회 후 잠금 (배송 결과 반영용)
+     * 조회된 행은 현재 트랜잭션 종료 시까지 잠기며, ID 순서로 잠가 동시 배치 간 교착을 피함
+     */
+    List<HubDriver> findByCurrentDeliveryIdsForUpdate(List<String> hubDeliveryIds);
+
     /**
      * 배정 가능한 드라이버 조회 (전사 단위)
      * 우선순위 낮은 순서 (배정 횟수 적은 순서)
      */
     List<HubDriver> findAvailableDrivers();
 
+    /**
+     * 다음 배정 대상 드라이버 조회 (전사 단위)
+     * 우선순위가 가장 낮은 AVAILABLE 드라이버 1명
+     * 조회된 행은 현재 트랜잭션 종료 시까지 잠기며, 다른 트랜잭션이 잠근 행은 건너뜀
+     */
+    Optional<HubDriver> findNextAvailableDriver();
+
+    /**
+     * 다음 배정 대상 드라이버 일괄 조회 (최대 limit 명, 단일 쿼리)
+     * 조회된 행은 현재 트랜잭션 종료 시까지 잠기며, 다른 트랜잭션이 잠근 행은 건너뜀
+     */
+    List<HubDriver> findNextAvailableDrivers(int limit);
+
     Page<HubDriver> findByStatus(HubDriverStatus status, Pageable pageable);
 
     Page<HubDriver> findAll(Pageable pageable);
@@ -0,0 +1,26 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * HubDriverStats Domain Repository Interface
+ */
+public interface HubDriverStatsRepository {
+
+    Optional<HubDriverStats> findByDriverId(String driverId);
+
+    /**
+     * 드라이버 ID 목록으로 일괄 조회 (IN 쿼리 1회, 통계가 없는 드라이버는 결과에 없음)
+     */
+    Map<String, HubDriverStats> findAllByDriverIds(Collection<String> driverIds);
+
+    /**
+     * 일괄 저장 (기존 행은 갱신, 없으면 INSERT)
+     */
+    void saveAll(List<HubDriverStats> stats);
+}
@@ -0,0 +1,29 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.PendingAssignment;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PendingAssignment Domain Repository Interface
+ */
+public interface PendingAssignmentRepository {
+
+    PendingAssignment save(PendingAssignment pendingAssignment);
+
+    Optional<PendingAssignment> findByHubDeliveryId(String hubDeliveryId);
+
+    /**
+     * 가장 오래된 대기 건 조회 (FIFO)
+     * 조회된 행은 현재 트랜잭션 종료 시까지 잠기며, 다른 트랜잭션이 잠근 행은 건너뜀
+     */
+    Optional<PendingAssignment> findOldestForUpdate();
+
+    /**
+     * 전체 대기 건의 허브 배송 ID (요청 순)
+     */
+    List<String> findAllHubDeliveryIds();
+
+    void delete(PendingAssignment pendingAssignment);
+}
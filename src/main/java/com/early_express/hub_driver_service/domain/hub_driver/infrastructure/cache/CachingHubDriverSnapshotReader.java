@@ -0,0 +1,107 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.cache;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverSnapshotReader;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverId;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시 우선 HubDriver 스냅샷 Reader
+ * - 미스 시 HubDriverRepository 로 적재 (일괄 조회는 미스인 ID 만 모아 IN 쿼리 1회)
+ * - 적재는 읽기 전용이 아닌 트랜잭션으로 실행하여 프라이머리에서 조회
+ *   (레플리카 지연 동안 무효화 직후의 이전 상태를 다시 캐시하지 않도록)
+ */
+@Component
+public class CachingHubDriverSnapshotReader implements HubDriverSnapshotReader {
+
+    private final HubDriverSnapshotCache hubDriverSnapshotCache;
+    private final HubDriverRepository hubDriverRepository;
+    private final TransactionTemplate primaryReadTemplate;
+
+    public CachingHubDriverSnapshotReader(HubDriverSnapshotCache hubDriverSnapshotCache,
+                                          HubDriverRepository hubDriverRepository,
+                                          PlatformTransactionManager transactionManager) {
+        this.hubDriverSnapshotCache = hubDriverSnapshotCache;
+        this.hubDriverRepository = hubDriverRepository;
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public Optional<HubDriver> findById(String driverId) {
+        return Optional.ofNullable(hubDriverSnapshotCache.get(driverId, this::load));
+    }
+
+    @Override
+    public Optional<HubDriver> findByUserId(String userId) {
+        String driverId = hubDriverSnapshotCache.getDriverId(userId);
+        if (driverId != null) {
+            return findById(driverId);
+        }
+
+        return primaryReadTemplate.execute(status -> hubDriverRepository.findByUserId(userId))
+                .map(driver -> hubDriverSnapshotCache.putByUserId(userId, driver));
+    }
+
+    /**
+     * 캐시 적중분은 그대로, 미스인 ID 만 모아 IN 쿼리 1회로 적재
+     */
+    @Override
+    public Map<String, HubDriver> findAllByIds(Collection<String> driverIds) {
+        return hubDriverSnapshotCache.getAll(driverIds, this::loadAll);
+    }
+
+    /**
+     * userId → driverId 가 캐시에 있으면 driverId 일괄 조회로,
+     * 없는 userId 는 userId IN 쿼리 1회로 적재
+     */
+    @Override
+    public Map<String, HubDriver> findAllByUserIds(Collection<String> userIds) {
+        Map<String, String> knownDriverIds = hubDriverSnapshotCache.getDriverIds(userIds);
+        Map<String, HubDriver> knownDrivers = knownDriverIds.isEmpty()
+                ? Map.of()
+                : findAllByIds(knownDriverIds.values());
+
+        Map<String, HubDriver> result = new HashMap<>();
+        knownDriverIds.forEach((userId, driverId) -> {
+            HubDriver driver = knownDrivers.get(driverId);
+            if (driver != null) {
+                result.put(userId, driver);
+            }
+        });
+
+        List<String> unknownUserIds = userIds.stream()
+                .filter(userId -> !knownDriverIds.containsKey(userId))
+                .toList();
+        if (!unknownUserIds.isEmpty()) {
+            primaryReadTemplate.execute(status -> hubDriverRepository.findAllByUserIds(unknownUserIds))
+                    .forEach(driver -> result.put(driver.getUserId(),
+                            hubDriverSnapshotCache.putByUserId(driver.getUserId(), driver)));
+        }
+        return result;
+    }
+
+    // ===== Private Methods =====
+
+    private Map<String, HubDriver> loadAll(Set<? extends String> driverIds) {
+        return primaryReadTemplate.execute(status -> hubDriverRepository.findAllByIds(List.copyOf(driverIds)))
+                .stream()
+                .collect(Collectors.toMap(HubDriver::getIdValue, Function.identity()));
+    }
+
+    private HubDriver load(String driverId) {
+        return primaryReadTemplate.execute(status ->
+                hubDriverRepository.findById(HubDriverId.of(driverId)).orElse(null));
+    }
+}
@@ -0,0 +1,30 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.cache;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 드라이버 스냅샷 캐시 무효화 토픽
+ * 무효화는 수 초 안에만 의미가 있으므로 짧게 보관
+ */
+@Configuration
+public class HubDriverCacheConfig {
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${hub-driver.driver-cache.invalidation-retention-ms:3600000}")
+    private long invalidationRetentionMs;
+
+    @Bean
+    public NewTopic hubDriverCacheInvalidationTopic() {
+        return TopicBuilder.name(applicationName + "-cache-invalidation")
+                .partitions(3)
+                .replicas(3)
+                .config("retention.ms", String.valueOf(invalidationRetentionMs))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.cache;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverCacheInvalidatedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 드라이버 스냅샷 캐시 무효화 리스너
+ * - 모든 인스턴스가 받아야 하므로 호스트별 고정 컨슈머 그룹(hub-driver.instance-id)으로 구독
+ *   → 재기동해도 같은 그룹을 재사용하므로 고아 컨슈머 그룹이 쌓이지 않음
+ * - 최초 기동 시에는 최신 위치부터 구독 (auto.offset.reset=latest), 재기동 시 밀린 무효화는 빈 캐시에 대한 제거라 무해
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubDriverCacheInvalidationListener {
+
+    private final HubDriverSnapshotCache hubDriverSnapshotCache;
+
+    @KafkaListener(
+            topics = "${spring.application.name}-cache-invalidation",
+            groupId = "${spring.application.name}-cache-${hub-driver.instance-id:local}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onInvalidations(List<ConsumerRecord<String, BaseEvent>> records, Acknowledgment ack) {
+        for (ConsumerRecord<String, BaseEvent> record : records) {
+            if (record.value() instanceof HubDriverCacheInvalidatedEvent event) {
+                hubDriverSnapshotCache.evictRemote(event);
+            } else {
+                log.warn("드라이버 캐시 무효화 이벤트 해석 실패 - partition: {}, offset: {}",
+                        record.partition(), record.offset());
+            }
+        }
+        ack.acknowledge();
+    }
+}
@@ -0,0 +1,177 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.cache;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverCacheInvalidatedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * HubDriver 스냅샷 캐시 (인스턴스 로컬, Caffeine)
+ * - driverId → HubDriver, userId → driverId 두 개의 캐시 (최대 건수 + 기록 후 만료)
+ * - 저장이 커밋되면 로컬에서 즉시 제거하고 다른 인스턴스에 무효화 이벤트 브로드캐스트
+ * - 브로드캐스트는 best-effort (전송 실패 시에도 TTL 이 지나면 만료)
+ * - 적중/미스/제거 지표는 Micrometer 로 노출 (cache.gets{cache="hub_driver_snapshot", result="hit|miss"})
+ */
+@Slf4j
+@Component
+public class HubDriverSnapshotCache {
+
+    public static final String CACHE_NAME = "hub_driver_snapshot";
+    public static final String USER_ID_CACHE_NAME = "hub_driver_user_id";
+
+    private final Cache<String, HubDriver> byId;
+    private final Cache<String, String> driverIdByUserId;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final EventTypeRegistry eventTypeRegistry;
+    private final String applicationName;
+    private final String invalidationTopic;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+
+    // 프로세스 식별자 (자기가 발행한 무효화 메시지 구분용)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public HubDriverSnapshotCache(
+            @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> outboxKafkaTemplate,
+            EventTypeRegistry eventTypeRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${spring.application.name}") String applicationName,
+            @Value("${hub-driver.driver-cache.max-size:10000}") long maxSize,
+            @Value("${hub-driver.driver-cache.ttl-ms:60000}") long ttlMs) {
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.eventTypeRegistry = eventTypeRegistry;
+        this.applicationName = applicationName;
+        this.invalidationTopic = applicationName + "-cache-invalidation";
+
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        // userId → driverId 는 바뀌지 않으므로 무효화 대상 아님 (삭제된 드라이버는 byId 로드에서 걸러짐)
+        this.driverIdByUserId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, driverIdByUserId, USER_ID_CACHE_NAME);
+        this.localInvalidations = Counter.builder("hub_driver.cache.invalidations")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.remoteInvalidations = Counter.builder("hub_driver.cache.invalidations")
+                .tag("source", "remote")
+                .register(meterRegistry);
+    }
+
+    /**
+     * driverId 로 조회, 없으면 loader 로 적재 (같은 key 의 동시 미스는 1회만 로드)
+     * loader 가 null 을 반환하면 캐시하지 않음
+     */
+    public HubDriver get(String driverId, Function<String, HubDriver> loader) {
+        return byId.get(driverId, loader);
+    }
+
+    /**
+     * 여러 driverId 조회, 미스인 key 만 모아 bulkLoader 1회로 적재
+     * bulkLoader 결과에 없는 key 는 캐시하지 않고 반환 Map 에서도 빠짐
+     */
+    public Map<String, HubDriver> getAll(Collection<String> driverIds,
+                                         Function<Set<? extends String>, Map<String, HubDriver>> bulkLoader) {
+        return byId.getAll(driverIds, bulkLoader);
+    }
+
+    public String getDriverId(String userId) {
+        return driverIdByUserId.getIfPresent(userId);
+    }
+
+    /**
+     * 캐시에 있는 userId → driverId 만 반환
+     */
+    public Map<String, String> getDriverIds(Collection<String> userIds) {
+        return driverIdByUserId.getAllPresent(userIds);
+    }
+
+    /**
+     * userId 로 새로 조회한 드라이버 적재
+     * 그 사이 다른 요청이 적재한 스냅샷이 있으면 그것을 반환
+     */
+    public HubDriver putByUserId(String userId, HubDriver driver) {
+        driverIdByUserId.put(userId, driver.getIdValue());
+        return byId.get(driver.getIdValue(), id -> driver);
+    }
+
+    /**
+     * 커밋 이후 로컬 제거 + 무효화 브로드캐스트
+     * 트랜잭션 밖에서 호출되면 즉시 반영
+     */
+    public void evictAfterCommit(HubDriver driver) {
+        String driverId = driver.getIdValue();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAndBroadcast(driverId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAndBroadcast(driverId);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 이벤트 반영
+     */
+    public void evictRemote(HubDriverCacheInvalidatedEvent event) {
+        if (instanceId.equals(event.getOriginInstanceId())) {
+            return;
+        }
+        byId.invalidate(event.getDriverId());
+        remoteInvalidations.increment();
+    }
+
+    // ===== Private Methods =====
+
+    private void evictAndBroadcast(String driverId) {
+        // 진행 중인 같은 key 로드가 있으면 끝날 때까지 기다렸다가 제거
+        byId.invalidate(driverId);
+        localInvalidations.increment();
+
+        try {
+            HubDriverCacheInvalidatedEvent event =
+                    HubDriverCacheInvalidatedEvent.of(driverId, instanceId, applicationName);
+            ProducerRecord<String, String> record = new ProducerRecord<>(
+                    invalidationTopic, driverId, eventTypeRegistry.writeAsString(event));
+            eventTypeRegistry.writeHeaders(record.headers(), event.getEventType(), event.getVersion());
+
+            outboxKafkaTemplate.send(record).whenComplete((result, e) -> {
+                if (e != null) {
+                    log.warn("드라이버 캐시 무효화 브로드캐스트 실패 (TTL 만료로 보정) - driverId: {}", driverId, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("드라이버 캐시 무효화 브로드캐스트 실패 (TTL 만료로 보정) - driverId: {}", driverId, e);
+        }
+    }
+}
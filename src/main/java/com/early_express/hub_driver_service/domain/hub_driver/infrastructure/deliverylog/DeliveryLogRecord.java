@@ -0,0 +1,48 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.deliverylog;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.DeliveryLogOutcome;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배송 이력 적재 행 (p_hub_driver_delivery_log)
+ */
+@Getter
+@Builder
+public class DeliveryLogRecord {
+
+    private String eventId;
+    private String driverId;
+    private String hubDeliveryId;
+    private DeliveryLogOutcome outcome;
+    private LocalDateTime assignedAt;
+    private LocalDateTime finishedAt;
+    private Long deliveryTimeMin;
+
+    public static DeliveryLogRecord from(HubDriverDeliveryCompletedEvent event) {
+        return DeliveryLogRecord.builder()
+                .eventId(event.getEventId())
+                .driverId(event.getDriverId())
+                .hubDeliveryId(event.getHubDeliveryId())
+                .outcome(DeliveryLogOutcome.COMPLETED)
+                .assignedAt(event.getAssignedAt())
+                .finishedAt(event.getOccurredAt() != null ? event.getOccurredAt() : event.getTimestamp())
+                .deliveryTimeMin(event.getDeliveryTimeMin())
+                .build();
+    }
+
+    public static DeliveryLogRecord from(HubDriverDeliveryCancelledEvent event) {
+        return DeliveryLogRecord.builder()
+                .eventId(event.getEventId())
+                .driverId(event.getDriverId())
+                .hubDeliveryId(event.getHubDeliveryId())
+                .outcome(DeliveryLogOutcome.CANCELLED)
+                .assignedAt(event.getAssignedAt())
+                .finishedAt(event.getOccurredAt() != null ? event.getOccurredAt() : event.getTimestamp())
+                .build();
+    }
+}
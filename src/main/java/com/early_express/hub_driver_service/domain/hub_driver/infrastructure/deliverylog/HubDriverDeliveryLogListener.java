@@ -0,0 +1,54 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.deliverylog;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository.HubDriverDeliveryLogRepository;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배송 이력 적재 리스너
+ * - 자체 발행 이벤트(${spring.application.name}-events)의 완료/취소 이벤트를 별도 컨슈머 그룹으로 구독
+ * - 요청 경로(배정/완료 트랜잭션)와 분리되며, Outbox 를 거치므로 커밋된 상태 변경만 적재
+ * - poll 단위 배치 INSERT 후 오프셋 커밋 (실패 시 배치 재전달, PK 충돌은 무시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubDriverDeliveryLogListener {
+
+    private final HubDriverDeliveryLogRepository deliveryLogRepository;
+
+    @KafkaListener(
+            topics = "${spring.application.name}-events",
+            groupId = "${spring.application.name}-delivery-log",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void onDriverEvents(List<ConsumerRecord<String, BaseEvent>> records, Acknowledgment ack) {
+        List<DeliveryLogRecord> logs = new ArrayList<>();
+        for (ConsumerRecord<String, BaseEvent> record : records) {
+            switch (record.value()) {
+                case HubDriverDeliveryCompletedEvent completed -> logs.add(DeliveryLogRecord.from(completed));
+                case HubDriverDeliveryCancelledEvent cancelled -> logs.add(DeliveryLogRecord.from(cancelled));
+                case null -> log.error("드라이버 이벤트 해석 실패 - topic: {}, partition: {}, offset: {}",
+                        record.topic(), record.partition(), record.offset());
+                default -> {
+                    // 이력 대상 아님 (배정/근무 상태 변경 등)
+                }
+            }
+        }
+
+        deliveryLogRepository.appendAll(logs);
+        ack.acknowledge();
+
+        log.debug("배송 이력 적재 - 수신: {}건, 적재: {}건", records.size(), logs.size());
+    }
+}
@@ -0,0 +1,72 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.deliverylog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 배송 이력 월별 파티션 관리
+ * - 기동 시 및 매일 이번 달부터 ahead-months 개월 뒤까지 파티션을 미리 생성
+ * - 해당 월 행이 DEFAULT 파티션에 쌓이기 전에 만들어 두어야 하므로 여유 있게 선생성
+ * - PostgreSQL 이 아니면(H2 테스트 등) 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubDriverDeliveryLogPartitionManager {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${hub-driver.delivery-log.partition-ahead-months:3}")
+    private int aheadMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${hub-driver.delivery-log.partition-cron:0 0 4 * * *}")
+    public void ensurePartitions() {
+        if (!isPostgreSql()) {
+            return;
+        }
+
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= aheadMonths; i++) {
+            LocalDate from = thisMonth.plusMonths(i);
+            LocalDate to = from.plusMonths(1);
+            String partition = "p_hub_driver_delivery_log_" + from.format(PARTITION_SUFFIX);
+
+            try {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF p_hub_driver_delivery_log "
+                                + "FOR VALUES FROM ('%s') TO ('%s')",
+                        partition, from, to));
+            } catch (DataAccessException e) {
+                // DEFAULT 파티션에 이미 해당 월 행이 있으면 생성 실패 → 수동 이관 필요
+                log.error("배송 이력 파티션 생성 실패 - partition: {}", partition, e);
+            }
+        }
+
+        log.debug("배송 이력 파티션 확인 - {} ~ {}개월", thisMonth, aheadMonths);
+    }
+
+    private boolean isPostgreSql() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (DataAccessException e) {
+            log.warn("배송 이력 파티션 확인 생략 - DB 정보 조회 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.dispatch;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.RollingDeliveryStats;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindow;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.QHubDriverEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.QHubDriverStatsEntity;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 배정 가능 드라이버 디스패치 인덱스
+ * - (assignmentPriority, availableFrom) 순으로 정렬된 인메모리 인덱스
+ * - 배정 대상 선택 시 전체 조회 없이 O(log n)으로 후보 선택
+ * - 상태 전이가 커밋되면 Repository 저장 시점에 동기화
+ * - 기동 시 및 주기적으로 DB 기준으로 재구성 (다중 인스턴스 보정)
+ * - balance-recent-load 활성화 시 같은 우선순위 안에서는 최근 24시간 완료 건수가 적은 드라이버 우선
+ *   (완료 시 우선순위가 0 으로 초기화되어 대부분 동순위이므로, 누적 통계 대신 최근 부하로 분산)
+ *   최근 부하는 통계 저장소(p_hub_driver_stats) 기준 - 재구성 시 join, 통계 flush 시 갱신
+ *   인덱스 경로에만 적용되며, DB 선점 경로(인덱스가 비었거나 후보가 모두 잠긴 경우, 일괄 배정)는
+ *   (assignmentPriority, availableFrom, id) 순
+ */
+@Slf4j
+@Component
+public class HubDriverDispatchIndex {
+
+    private static final QHubDriverEntity hubDriver = QHubDriverEntity.hubDriverEntity;
+    private static final QHubDriverStatsEntity hubDriverStats = QHubDriverStatsEntity.hubDriverStatsEntity;
+
+    private static final Comparator<Entry> DISPATCH_ORDER = Comparator
+            .comparingInt(Entry::getAssignmentPriority)
+            .thenComparing(Entry::getAvailableFrom, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Entry::getDriverId);
+
+    private static final Comparator<Entry> RECENT_LOAD_BALANCED_ORDER = Comparator
+            .comparingInt(Entry::getAssignmentPriority)
+            .thenComparingLong(Entry::getRecentDeliveries)
+            .thenComparing(Entry::getAvailableFrom, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Entry::getDriverId);
+
+    private final JPAQueryFactory queryFactory;
+
+    private final ConcurrentSkipListSet<Entry> queue;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> recentDeliveries = new ConcurrentHashMap<>();
+
+    public HubDriverDispatchIndex(
+            JPAQueryFactory queryFactory,
+            @Value("${hub-driver.assignment.balance-recent-load:false}") boolean balanceRecentLoad) {
+        this.queryFactory = queryFactory;
+        this.queue = new ConcurrentSkipListSet<>(balanceRecentLoad ? RECENT_LOAD_BALANCED_ORDER : DISPATCH_ORDER);
+    }
+
+    /**
+     * 우선순위가 가장 낮은 후보를 꺼냄
+     * 꺼낸 후보는 다른 요청에 다시 주어지지 않으며, 트랜잭션 롤백 시 복원
+     */
+    public Optional<Entry> poll() {
+        Entry entry;
+        while ((entry = queue.pollFirst()) != null) {
+            if (entries.remove(entry.getDriverId(), entry)) {
+                releaseOnCompletion(entry);
+                return Optional.of(entry);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 커밋 이후 드라이버 상태를 인덱스에 반영
+     * 트랜잭션 밖에서 호출되면 즉시 반영
+     */
+    public void syncAfterCommit(HubDriver driver) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sync(driver);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sync(driver);
+            }
+        });
+    }
+
+    /**
+     * 드라이버 상태 반영
+     * AVAILABLE 이면 (재)등록, 그 외 상태면 제거
+     */
+    public void sync(HubDriver driver) {
+        if (driver.getStatus() == HubDriverStatus.AVAILABLE && !driver.isDeleted()) {
+            put(new Entry(
+                    driver.getIdValue(),
+                    driver.getAssignmentPriority(),
+                    driver.getAvailableFrom(),
+                    recentDeliveries.getOrDefault(driver.getIdValue(), 0L)
+            ));
+        } else {
+            remove(driver.getIdValue());
+        }
+    }
+
+    /**
+     * 통계 반영 이후 최근 24시간 완료 건수 갱신 (등록된 항목은 새 정렬 키로 재등록)
+     */
+    public void updateRecentDeliveries(List<HubDriverStats> stats) {
+        for (HubDriverStats stat : stats) {
+            long deliveries = stat.getRecentStats(RollingWindow.LAST_DAY).getDeliveries();
+            recentDeliveries.put(stat.getDriverId(), deliveries);
+
+            Entry current = entries.get(stat.getDriverId());
+            if (current != null && current.getRecentDeliveries() != deliveries) {
+                Entry updated = new Entry(current.getDriverId(), current.getAssignmentPriority(),
+                        current.getAvailableFrom(), deliveries);
+                if (entries.replace(current.getDriverId(), current, updated)) {
+                    queue.remove(current);
+                    queue.add(updated);
+                }
+            }
+        }
+    }
+
+    public void remove(String driverId) {
+        Entry removed = entries.remove(driverId);
+        if (removed != null) {
+            queue.remove(removed);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * DB 기준 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${hub-driver.dispatch-index.refresh-interval-ms:30000}",
+            fixedDelayString = "${hub-driver.dispatch-index.refresh-interval-ms:30000}"
+    )
+    public void rebuild() {
+        List<Entry> available = queryFactory
+                .select(Projections.constructor(Entry.class,
+                        hubDriver.id,
+                        hubDriver.assignmentPriority,
+                        hubDriver.availableFrom,
+                        hubDriverStats.rollingDeliveryStats))
+                .from(hubDriver)
+                .leftJoin(hubDriverStats).on(hubDriverStats.driverId.eq(hubDriver.id))
+                .where(
+                        hubDriver.status.eq(HubDriverStatus.AVAILABLE),
+                        hubDriver.isDeleted.eq(false)
+                )
+                .fetch();
+
+        Map<String, Entry> latest = new ConcurrentHashMap<>();
+        available.forEach(entry -> latest.put(entry.getDriverId(), entry));
+
+        latest.values().forEach(entry -> recentDeliveries.put(entry.getDriverId(), entry.getRecentDeliveries()));
+
+        entries.keySet().removeIf(driverId -> !latest.containsKey(driverId));
+        queue.removeIf(entry -> !latest.containsKey(entry.getDriverId()));
+        latest.values().stream()
+                .filter(entry -> !claimed.contains(entry.getDriverId()))
+                .forEach(this::put);
+
+        log.debug("디스패치 인덱스 재구성 - available: {}", entries.size());
+    }
+
+    // ===== Private Methods =====
+
+    private void put(Entry entry) {
+        Entry previous = entries.put(entry.getDriverId(), entry);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        queue.add(entry);
+    }
+
+    /**
+     * 꺼낸 후보는 트랜잭션 종료 전까지 재구성 대상에서 제외하고, 롤백 시 복원
+     */
+    private void releaseOnCompletion(Entry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        claimed.add(entry.getDriverId());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                claimed.remove(entry.getDriverId());
+                if (status == STATUS_ROLLED_BACK) {
+                    entries.putIfAbsent(entry.getDriverId(), entry);
+                    if (entries.get(entry.getDriverId()) == entry) {
+                        queue.add(entry);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 인덱스 항목 (정렬 키 스냅샷)
+     */
+    @lombok.Value
+    public static class Entry {
+        String driverId;
+        int assignmentPriority;
+        LocalDateTime availableFrom;
+        long recentDeliveries;  // 최근 24시간 완료 건수
+
+        public Entry(String driverId, Integer assignmentPriority, LocalDateTime availableFrom,
+                     long recentDeliveries) {
+            this.driverId = driverId;
+            this.assignmentPriority = assignmentPriority != null ? assignmentPriority : 0;
+            this.availableFrom = availableFrom;
+            this.recentDeliveries = recentDeliveries;
+        }
+
+        /**
+         * DB 재구성용 (최근 통계 컬럼 디코딩)
+         */
+        public Entry(String driverId, Integer assignmentPriority, LocalDateTime availableFrom,
+                     byte[] rollingDeliveryStats) {
+            this(driverId, assignmentPriority, availableFrom,
+                    RollingDeliveryStats.fromBytes(rollingDeliveryStats)
+                            .window(RollingWindow.LAST_DAY, LocalDateTime.now())
+                            .getDeliveries());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.support.AssignmentIdempotencyStore;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 배정 멱등성 캐시 제거 리스너
+ * - 배송 취소(배정 해제)가 커밋되면 모든 인스턴스의 LRU 에서 해당 hubDeliveryId 를 제거해 재배정 허용
+ *   (취소를 처리한 인스턴스는 커밋 직후 이미 제거, 나머지는 Outbox Relay 지연 이내에 제거)
+ * - 자체 발행 이벤트(${spring.application.name}-events)를 호스트별 고정 컨슈머 그룹(hub-driver.instance-id)으로 구독
+ *   (재기동해도 같은 그룹을 재사용하므로 고아 컨슈머 그룹이 쌓이지 않음, 재기동 중 밀린 취소는 재생되어도 무해)
+ */
+@Component
+@RequiredArgsConstructor
+public class AssignmentIdempotencyEvictionListener {
+
+    private final AssignmentIdempotencyStore assignmentIdempotencyStore;
+
+    @KafkaListener(
+            topics = "${spring.application.name}-events",
+            groupId = "${spring.application.name}-idempotency-${hub-driver.instance-id:local}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onDriverEvents(List<ConsumerRecord<String, BaseEvent>> records, Acknowledgment ack) {
+        for (ConsumerRecord<String, BaseEvent> record : records) {
+            if (record.value() instanceof HubDriverDeliveryCancelledEvent cancelled) {
+                assignmentIdempotencyStore.evict(cancelled.getHubDeliveryId());
+            }
+        }
+        ack.acknowledge();
+    }
+}
@@ -0,0 +1,66 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup.ProcessedEventStore;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 허브 배송 완료/취소 이벤트 배치 구독
+ * - poll 한 번에 받은 레코드를 한 트랜잭션에서 드라이버별로 묶어 반영
+ * - 처리 후 배치 단위로 오프셋 커밋 (처리 실패 시 배치 전체 재전달, eventId 로 중복 제거)
+ * - 파티션 할당 시 다른 인스턴스가 처리한 eventId 를 중복 판별 Bloom Filter 에 보충 (인계 직후 재전달 대비)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubDeliveryEventListener implements ConsumerSeekAware {
+
+    private final HubDeliveryEventProcessor hubDeliveryEventProcessor;
+    private final ProcessedEventStore processedEventStore;
+
+    @KafkaListener(
+            topics = {
+                    "${spring.kafka.topic.hub-delivery-completed:hub-delivery-completed}",
+                    "${spring.kafka.topic.hub-delivery-cancelled:hub-delivery-cancelled}"
+            },
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void onHubDeliveryEvents(List<ConsumerRecord<String, BaseEvent>> records, Acknowledgment ack) {
+        List<BaseEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, BaseEvent> record : records) {
+            // 역직렬화에 실패한 레코드(value = null)는 건너뜀 (파티션 정체 방지)
+            if (record.value() == null) {
+                log.error("허브 배송 이벤트 해석 실패 - topic: {}, partition: {}, offset: {}",
+                        record.topic(), record.partition(), record.offset());
+                continue;
+            }
+            events.add(record.value());
+        }
+
+        if (!events.isEmpty()) {
+            hubDeliveryEventProcessor.process(events);
+        }
+
+        ack.acknowledge();
+
+        log.debug("허브 배송 이벤트 배치 처리 - 수신: {}건, 처리 대상: {}건", records.size(), events.size());
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (!assignments.isEmpty()) {
+            processedEventStore.syncBloomFilter();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.HubDriverCommandService;
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.ApplyDeliveryOutcomesCommand;
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.DeliveryOutcome;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup.ProcessedEventStore;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 허브 배송 완료/취소 이벤트 처리
+ * - eventId 로 이미 처리한 이벤트를 제외하고, 남은 이벤트 반영과 처리 기록을 한 트랜잭션으로 수행
+ * - eventId 가 없는 이벤트는 중복 판별 없이 반영 (현재 배송 일치 여부로만 걸러짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubDeliveryEventProcessor {
+
+    private final HubDriverCommandService hubDriverCommandService;
+    private final ProcessedEventStore processedEventStore;
+
+    @Transactional
+    public void process(List<BaseEvent> events) {
+        Set<String> processed = processedEventStore.findProcessed(events.stream()
+                .map(BaseEvent::getEventId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+
+        List<DeliveryOutcome> outcomes = new ArrayList<>(events.size());
+        Map<String, String> handled = new LinkedHashMap<>();
+        int duplicates = 0;
+
+        for (BaseEvent event : events) {
+            String eventId = event.getEventId();
+            if (eventId != null && (processed.contains(eventId) || handled.containsKey(eventId))) {
+                duplicates++;
+                continue;
+            }
+
+            DeliveryOutcome outcome = toOutcome(event);
+            if (outcome == null || outcome.getHubDeliveryId() == null) {
+                continue;
+            }
+
+            outcomes.add(outcome);
+            if (eventId != null) {
+                handled.put(eventId, event.getEventType());
+            }
+        }
+
+        if (duplicates > 0) {
+            log.info("중복 이벤트 건너뜀 - {}건", duplicates);
+        }
+
+        if (!outcomes.isEmpty()) {
+            hubDriverCommandService.applyDeliveryOutcomes(ApplyDeliveryOutcomesCommand.builder()
+                    .outcomes(outcomes)
+                    .build());
+        }
+
+        processedEventStore.markProcessed(handled);
+    }
+
+    // ===== Private Methods =====
+
+    private DeliveryOutcome toOutcome(BaseEvent event) {
+        if (event instanceof HubDeliveryCompletedEvent completed) {
+            return DeliveryOutcome.completed(
+                    completed.getHubDeliveryId(), completed.getDriverId(), completed.getDeliveryTimeMin());
+        }
+        if (event instanceof HubDeliveryCancelledEvent cancelled) {
+            return DeliveryOutcome.cancelled(cancelled.getHubDeliveryId(), cancelled.getDriverId());
+        }
+        return null;
+    }
+}
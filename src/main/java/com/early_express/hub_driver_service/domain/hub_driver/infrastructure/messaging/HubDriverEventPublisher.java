@@ -0,0 +1,36 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DeferredAssignmentCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.DeferredDriverAssignedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.outbox.HubDriverOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * HubDriver 애플리케이션 이벤트 Kafka 발행
+ * 이벤트를 발행한 트랜잭션 안에서 Outbox 에 기록하고, 실제 발행은 Outbox Relay 가
+ * ${spring.application.name}-events 토픽으로 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubDriverEventPublisher {
+
+    private final HubDriverOutbox hubDriverOutbox;
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @EventListener
+    public void onDeferredAssignmentCompleted(DeferredAssignmentCompletedEvent event) {
+        DeferredDriverAssignedEvent message = DeferredDriverAssignedEvent.from(event, applicationName);
+
+        hubDriverOutbox.append(event.getHubDeliveryId(), message);
+
+        log.info("대기 배정 이벤트 Outbox 기록 - hubDeliveryId: {}, driverId: {}",
+                event.getHubDeliveryId(), event.getDriverId());
+    }
+}
@@ -0,0 +1,50 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.DeferredDriverAssignedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverCacheInvalidatedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryAssignedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverShiftChangedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HubDriver Service 이벤트 타입 등록
+ * 발행/구독하는 모든 이벤트의 타입과 지원 스키마 메이저 버전
+ */
+@Configuration
+public class HubDriverEventTypeConfig {
+
+    @Value("${spring.kafka.topic.hub-delivery-completed:hub-delivery-completed}")
+    private String hubDeliveryCompletedTopic;
+
+    @Value("${spring.kafka.topic.hub-delivery-cancelled:hub-delivery-cancelled}")
+    private String hubDeliveryCancelledTopic;
+
+    @Bean
+    public EventTypeRegistry eventTypeRegistry(ObjectMapper objectMapper) {
+        return EventTypeRegistry.builder(objectMapper)
+                // 발행
+                .register(HubDriverDeliveryAssignedEvent.EVENT_TYPE, HubDriverDeliveryAssignedEvent.class, 1)
+                // 2.0 에서 통계 필드 제거 (1.x 도 같은 reader 로 읽음)
+                .register(HubDriverDeliveryCompletedEvent.EVENT_TYPE, HubDriverDeliveryCompletedEvent.class,
+                        HubDriverDeliveryCompletedEvent.MAJOR_VERSION)
+                .register(HubDriverDeliveryCancelledEvent.EVENT_TYPE, HubDriverDeliveryCancelledEvent.class, 1)
+                .register(HubDriverShiftChangedEvent.EVENT_TYPE, HubDriverShiftChangedEvent.class, 1)
+                .register(DeferredDriverAssignedEvent.EVENT_TYPE, DeferredDriverAssignedEvent.class, 1)
+                // 인스턴스 간 캐시 무효화 (발행/구독)
+                .register(HubDriverCacheInvalidatedEvent.EVENT_TYPE, HubDriverCacheInvalidatedEvent.class, 1)
+                // 구독
+                .register(HubDeliveryCompletedEvent.EVENT_TYPE, HubDeliveryCompletedEvent.class, 1)
+                .register(HubDeliveryCancelledEvent.EVENT_TYPE, HubDeliveryCancelledEvent.class, 1)
+                .bindTopic(hubDeliveryCompletedTopic, HubDeliveryCompletedEvent.EVENT_TYPE)
+                .bindTopic(hubDeliveryCancelledTopic, HubDeliveryCancelledEvent.EVENT_TYPE)
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.ProcessedEventEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.ProcessedEventJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구독 이벤트 중복 처리 방지 저장소 (BaseEvent.eventId 기준)
+ * - 1차: 최근 처리한 eventId 의 시간 제한 인메모리 집합 (재전달 대부분은 여기서 O(1) 판별)
+ * - 2차(선택): Bloom Filter - "처리된 적 없음" 이 확정이면 DB 조회 생략 (보관 기간마다 세대 교체)
+ *   필터는 인스턴스 로컬이므로 파티션 할당마다 다른 인스턴스가 처리한 기록을 DB 에서 보충하고,
+ *   첫 동기화 전에는 필터를 신뢰하지 않고 DB 로 확인
+ * - 3차: processed_event 테이블 (이벤트 처리와 같은 트랜잭션에서 기록, 최종 판단 기준)
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+    private final ProcessedEventJpaRepository processedEventJpaRepository;
+    private final long ttlMillis;
+    private final Duration retention;
+    private final Map<String, Long> recent;
+    private final RotatingEventIdBloomFilter bloomFilter;
+    private final Duration syncOverlap;
+    // 마지막 Bloom Filter 동기화 시작 시각 (null 이면 아직 동기화 전 → 필터 미사용)
+    private volatile LocalDateTime bloomFilterSyncedAt;
+
+    public ProcessedEventStore(
+            ProcessedEventJpaRepository processedEventJpaRepository,
+            @Value("${hub-driver.event-dedup.memory-ttl-ms:3600000}") long ttlMillis,
+            @Value("${hub-driver.event-dedup.memory-max-entries:100000}") int maxEntries,
+            @Value("${hub-driver.event-dedup.retention-days:7}") int retentionDays,
+            @Value("${hub-driver.event-dedup.bloom-filter.enabled:true}") boolean bloomFilterEnabled,
+            @Value("${hub-driver.event-dedup.bloom-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${hub-driver.event-dedup.bloom-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${hub-driver.event-dedup.bloom-filter.sync-overlap-ms:60000}") long syncOverlapMillis) {
+        this.processedEventJpaRepository = processedEventJpaRepository;
+        this.ttlMillis = ttlMillis;
+        this.retention = Duration.ofDays(retentionDays);
+        this.recent = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxEntries || eldest.getValue() < System.currentTimeMillis();
+            }
+        };
+        this.bloomFilter = bloomFilterEnabled
+                ? new RotatingEventIdBloomFilter(expectedInsertions, falsePositiveRate, retention)
+                : null;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMillis);
+    }
+
+    /**
+     * 이미 처리된 eventId 선별
+     * 인메모리/Bloom Filter 로 판별되지 않은 eventId 만 IN 쿼리 1회로 확인
+     */
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        Set<String> processed = new HashSet<>();
+        List<String> uncertain = new ArrayList<>();
+
+        for (String eventId : eventIds) {
+            if (isRecent(eventId)) {
+                processed.add(eventId);
+            } else if (bloomFilter == null || bloomFilterSyncedAt == null || bloomFilter.mightContain(eventId)) {
+                uncertain.add(eventId);
+            }
+        }
+
+        if (!uncertain.isEmpty()) {
+            List<String> existing = processedEventJpaRepository.findExistingEventIds(uncertain);
+            existing.forEach(this::remember);
+            processed.addAll(existing);
+        }
+
+        return processed;
+    }
+
+    /**
+     * 처리 완료 기록
+     * 호출한 트랜잭션에서 INSERT 하고, 커밋 이후 인메모리/Bloom Filter 에 반영
+     * (동시에 같은 eventId 를 처리하면 PK 충돌로 한쪽 트랜잭션이 롤백되어 재전달됨)
+     */
+    public void markProcessed(Map<String, String> eventTypesById) {
+        if (eventTypesById.isEmpty()) {
+            return;
+        }
+
+        processedEventJpaRepository.saveAll(eventTypesById.entrySet().stream()
+                .map(entry -> ProcessedEventEntity.of(entry.getKey(), entry.getValue()))
+                .toList());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventTypesById.keySet().forEach(this::remember);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventTypesById.keySet().forEach(ProcessedEventStore.this::remember);
+            }
+        });
+    }
+
+    /**
+     * 보관 기간 내 처리 기록으로 Bloom Filter 채움 (재기동 직후 재전달 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warmUp() {
+        syncBloomFilter();
+    }
+
+    /**
+     * 다른 인스턴스가 처리한 기록을 Bloom Filter 에 보충 (파티션 할당 시 리스너에서 호출)
+     * - 첫 동기화는 보관 기간 전체, 이후는 직전 동기화 시작 sync-overlap-ms 전부터 증분 적재
+     *   (processed_at 은 커밋 전에 기록되므로 직전 동기화 도중 커밋된 기록까지 포함)
+     * - 이전 소유 인스턴스의 처리는 파티션 회수 전에 커밋되므로 할당 이후 재전달분은 필터에 반영되어 있음
+     * - 최신 기록이 필요하므로 readOnly 로 선언하지 않음 (레플리카 라우팅 제외)
+     */
+    @Transactional
+    public synchronized void syncBloomFilter() {
+        if (bloomFilter == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = bloomFilterSyncedAt == null
+                ? startedAt.minus(retention)
+                : bloomFilterSyncedAt.minus(syncOverlap);
+
+        List<String> eventIds = processedEventJpaRepository.findEventIdsProcessedSince(since);
+        eventIds.forEach(bloomFilter::put);
+        boolean initial = bloomFilterSyncedAt == null;
+        bloomFilterSyncedAt = startedAt;
+
+        if (initial) {
+            log.info("처리 이벤트 Bloom Filter 적재 - {}건", eventIds.size());
+        } else {
+            log.debug("처리 이벤트 Bloom Filter 동기화 - since: {}, {}건", since, eventIds.size());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 처리 기록 삭제
+     * 현재 Bloom Filter 세대가 보관 기간을 넘겼으면 함께 교체 (삭제된 기록이 필터에 계속 남지 않도록)
+     */
+    @Scheduled(cron = "${hub-driver.event-dedup.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purge() {
+        int deleted = processedEventJpaRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("처리 이벤트 기록 정리 - {}건 삭제", deleted);
+        }
+
+        if (bloomFilter != null && bloomFilter.rotateIfExpired(System.currentTimeMillis())) {
+            log.info("처리 이벤트 Bloom Filter 세대 교체 - 교체 주기: {}일", retention.toDays());
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private boolean isRecent(String eventId) {
+        synchronized (recent) {
+            Long expiresAt = recent.get(eventId);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt < System.currentTimeMillis()) {
+                recent.remove(eventId);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private void remember(String eventId) {
+        synchronized (recent) {
+            recent.put(eventId, System.currentTimeMillis() + ttlMillis);
+        }
+        if (bloomFilter != null) {
+            bloomFilter.put(eventId);
+        }
+    }
+}
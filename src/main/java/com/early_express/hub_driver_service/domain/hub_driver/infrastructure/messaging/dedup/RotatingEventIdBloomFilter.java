@@ -0,0 +1,56 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup;
+
+import java.time.Duration;
+
+/**
+ * 2세대 교체 Bloom Filter (보관 기간 단위)
+ * - 기록은 현재 세대에만, 조회는 현재/이전 세대 모두 확인
+ * - 보관 기간이 지날 때마다 현재 → 이전, 새 현재 세대 생성 (이전 세대는 버림)
+ * - 기록된 eventId 는 최소 보관 기간 동안 남으므로 processed_event 정리 주기와 같은 범위를 유지하고,
+ *   정리된 기록까지 계속 쌓여 오탐률이 올라가는 것을 막음
+ */
+final class RotatingEventIdBloomFilter {
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long rotationIntervalMillis;
+
+    private volatile EventIdBloomFilter current;
+    private volatile EventIdBloomFilter previous;
+    private volatile long rotatedAt;
+
+    RotatingEventIdBloomFilter(long expectedInsertions, double falsePositiveRate, Duration rotationInterval) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rotationIntervalMillis = rotationInterval.toMillis();
+        this.current = new EventIdBloomFilter(expectedInsertions, falsePositiveRate);
+        this.previous = new EventIdBloomFilter(expectedInsertions, falsePositiveRate);
+        this.rotatedAt = System.currentTimeMillis();
+    }
+
+    void put(String eventId) {
+        current.put(eventId);
+    }
+
+    boolean mightContain(String eventId) {
+        return current.mightContain(eventId) || previous.mightContain(eventId);
+    }
+
+    /**
+     * 현재 세대가 교체 주기를 넘겼으면 세대 교체
+     * @return 교체 여부
+     */
+    synchronized boolean rotateIfExpired(long nowMillis) {
+        if (nowMillis - rotatedAt < rotationIntervalMillis) {
+            return false;
+        }
+        rotate(nowMillis);
+        return true;
+    }
+
+    synchronized void rotate(long nowMillis) {
+        previous = current;
+        current = new EventIdBloomFilter(expectedInsertions, falsePositiveRate);
+        rotatedAt = nowMillis;
+    }
+}
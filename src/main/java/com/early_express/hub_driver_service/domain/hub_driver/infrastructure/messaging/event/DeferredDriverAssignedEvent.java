@@ -0,0 +1,43 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DeferredAssignmentCompletedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기 배정 완료 Kafka 이벤트
+ * HubDriver Service → HubDelivery Service
+ */
+@Getter
+@NoArgsConstructor
+public class DeferredDriverAssignedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "DEFERRED_DRIVER_ASSIGNED";
+
+    private String hubDeliveryId;
+    private String driverId;
+    private String userId;
+    private String driverName;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime requestedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime assignedAt;
+
+    public static DeferredDriverAssignedEvent from(DeferredAssignmentCompletedEvent source, String publisher) {
+        DeferredDriverAssignedEvent event = new DeferredDriverAssignedEvent();
+        event.hubDeliveryId = source.getHubDeliveryId();
+        event.driverId = source.getDriverId();
+        event.userId = source.getUserId();
+        event.driverName = source.getDriverName();
+        event.requestedAt = source.getRequestedAt();
+        event.assignedAt = source.getAssignedAt();
+        event.initBaseEvent(EVENT_TYPE, publisher);
+        return event;
+    }
+}
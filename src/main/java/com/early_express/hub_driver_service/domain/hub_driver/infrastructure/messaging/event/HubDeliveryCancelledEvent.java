@@ -0,0 +1,22 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event;
+
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 허브 배송 취소 Kafka 이벤트 (구독)
+ * HubDelivery Service → HubDriver Service
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HubDeliveryCancelledEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "HUB_DELIVERY_CANCELLED";
+
+    private String hubDeliveryId;
+    private String driverId;
+    private String reason;
+}
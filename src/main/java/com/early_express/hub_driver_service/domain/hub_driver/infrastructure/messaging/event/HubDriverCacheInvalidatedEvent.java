@@ -0,0 +1,27 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event;
+
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 드라이버 스냅샷 캐시 무효화 Kafka 이벤트
+ * HubDriver Service 인스턴스 간 브로드캐스트 (${spring.application.name}-cache-invalidation)
+ */
+@Getter
+@NoArgsConstructor
+public class HubDriverCacheInvalidatedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "HUB_DRIVER_CACHE_INVALIDATED";
+
+    private String driverId;
+    private String originInstanceId;  // 발행 인스턴스 (자기 자신이 보낸 무효화는 이미 반영됨)
+
+    public static HubDriverCacheInvalidatedEvent of(String driverId, String originInstanceId, String publisher) {
+        HubDriverCacheInvalidatedEvent event = new HubDriverCacheInvalidatedEvent();
+        event.driverId = driverId;
+        event.originInstanceId = originInstanceId;
+        event.initBaseEvent(EVENT_TYPE, publisher);
+        return event;
+    }
+}
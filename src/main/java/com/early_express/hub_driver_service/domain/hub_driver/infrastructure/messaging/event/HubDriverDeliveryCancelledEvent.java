@@ -0,0 +1,41 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버 배송 취소 Kafka 이벤트
+ * HubDriver Service → HubDelivery Service 등 구독 서비스
+ */
+@Getter
+@NoArgsConstructor
+public class HubDriverDeliveryCancelledEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "HUB_DRIVER_DELIVERY_CANCELLED";
+
+    private String driverId;
+    private String userId;
+    private String hubDeliveryId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime assignedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime occurredAt;
+
+    public static HubDriverDeliveryCancelledEvent from(DriverDeliveryCancelledEvent source, String publisher) {
+        HubDriverDeliveryCancelledEvent event = new HubDriverDeliveryCancelledEvent();
+        event.driverId = source.getDriverId();
+        event.userId = source.getUserId();
+        event.hubDeliveryId = source.getHubDeliveryId();
+        event.assignedAt = source.getAssignedAt();
+        event.occurredAt = source.getOccurredAt();
+        event.initBaseEvent(EVENT_TYPE, publisher);
+        return event;
+    }
+}
@@ -0,0 +1,48 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버 배송 완료 Kafka 이벤트
+ * HubDriver Service → HubDelivery Service 등 구독 서비스
+ *
+ * 스키마 2.0: totalDeliveries / averageDeliveryTimeMin 제거 (통계는 완료 이벤트로 비동기 집계)
+ * 1.x 페이로드는 제거된 필드를 무시하고 같은 클래스로 읽음
+ */
+@Getter
+@NoArgsConstructor
+public class HubDriverDeliveryCompletedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "HUB_DRIVER_DELIVERY_COMPLETED";
+    public static final int MAJOR_VERSION = 2;
+    public static final String SCHEMA_VERSION = MAJOR_VERSION + ".0";
+
+    private String driverId;
+    private String userId;
+    private String hubDeliveryId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime assignedAt;
+    private Long deliveryTimeMin;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime occurredAt;
+
+    public static HubDriverDeliveryCompletedEvent from(DriverDeliveryCompletedEvent source, String publisher) {
+        HubDriverDeliveryCompletedEvent event = new HubDriverDeliveryCompletedEvent();
+        event.driverId = source.getDriverId();
+        event.userId = source.getUserId();
+        event.hubDeliveryId = source.getHubDeliveryId();
+        event.assignedAt = source.getAssignedAt();
+        event.deliveryTimeMin = source.getDeliveryTimeMin();
+        event.occurredAt = source.getOccurredAt();
+        event.initBaseEvent(EVENT_TYPE, publisher, SCHEMA_VERSION);
+        return event;
+    }
+}
@@ -0,0 +1,40 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverShiftChangedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버 근무 상태 변경 Kafka 이벤트
+ * HubDriver Service → HubDelivery Service 등 구독 서비스
+ */
+@Getter
+@NoArgsConstructor
+public class HubDriverShiftChangedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "HUB_DRIVER_SHIFT_CHANGED";
+
+    private String driverId;
+    private String userId;
+    private HubDriverStatus previousStatus;
+    private HubDriverStatus status;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime occurredAt;
+
+    public static HubDriverShiftChangedEvent from(DriverShiftChangedEvent source, String publisher) {
+        HubDriverShiftChangedEvent event = new HubDriverShiftChangedEvent();
+        event.driverId = source.getDriverId();
+        event.userId = source.getUserId();
+        event.previousStatus = source.getPreviousStatus();
+        event.status = source.getStatus();
+        event.occurredAt = source.getOccurredAt();
+        event.initBaseEvent(EVENT_TYPE, publisher);
+        return event;
+    }
+}
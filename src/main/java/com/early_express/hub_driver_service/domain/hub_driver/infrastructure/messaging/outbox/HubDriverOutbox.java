@@ -0,0 +1,85 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.outbox;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryAssignedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverShiftChangedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.HubDriverDomainEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryAssignedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverShiftChangedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverOutboxEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.HubDriverOutboxJpaRepository;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * HubDriver Outbox 기록
+ * 호출한 트랜잭션 안에서 Kafka 이벤트를 Outbox 테이블에 INSERT (발행은 HubDriverOutboxRelay 가 담당)
+ */
+@Component
+@RequiredArgsConstructor
+public class HubDriverOutbox {
+
+    private final HubDriverOutboxJpaRepository outboxJpaRepository;
+    private final EventTypeRegistry eventTypeRegistry;
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    /**
+     * 도메인 이벤트를 Kafka 이벤트로 변환해 기록 (key: driverId)
+     */
+    public void append(List<HubDriverDomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        outboxJpaRepository.saveAll(events.stream()
+                .map(event -> toEntity(event.getDriverId(), toMessage(event)))
+                .toList());
+    }
+
+    /**
+     * Kafka 이벤트를 지정한 key 로 기록
+     */
+    public void append(String key, BaseEvent message) {
+        outboxJpaRepository.save(toEntity(key, message));
+    }
+
+    // ===== Private Methods =====
+
+    private BaseEvent toMessage(HubDriverDomainEvent event) {
+        return switch (event) {
+            case DriverDeliveryAssignedEvent assigned ->
+                    HubDriverDeliveryAssignedEvent.from(assigned, applicationName);
+            case DriverDeliveryCompletedEvent completed ->
+                    HubDriverDeliveryCompletedEvent.from(completed, applicationName);
+            case DriverDeliveryCancelledEvent cancelled ->
+                    HubDriverDeliveryCancelledEvent.from(cancelled, applicationName);
+            case DriverShiftChangedEvent shiftChanged ->
+                    HubDriverShiftChangedEvent.from(shiftChanged, applicationName);
+            default -> throw new IllegalArgumentException(
+                    "지원하지 않는 도메인 이벤트입니다: " + event.getClass().getSimpleName());
+        };
+    }
+
+    private HubDriverOutboxEntity toEntity(String key, BaseEvent message) {
+        return HubDriverOutboxEntity.builder()
+                .eventId(message.getEventId())
+                .eventType(message.getEventType())
+                .eventVersion(message.getVersion())
+                .topic(applicationName + "-events")
+                .messageKey(key)
+                .payload(eventTypeRegistry.writeAsString(message))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,237 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.outbox;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverOutboxEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.QHubDriverOutboxEntity;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * HubDriver Outbox Relay
+ * - Outbox 를 기록 순서대로 batch-size 건씩 선점(claimed_by/claimed_until)하고 선점 트랜잭션을 바로 커밋
+ * - Kafka 전송과 ack 대기는 트랜잭션/행 잠금 없이 수행 (프로듀서 linger/압축 설정에 따라 배치로 묶임)
+ * - key 별로 첫 실패 이전까지 ack 를 받은 행만 삭제하고, 나머지는 선점을 풀어 다음 주기에 재전송
+ *   (at-least-once, 소비자는 eventId 로 중복 제거)
+ * - 선점 조회는 잠금 대기(SKIP LOCKED 미사용)로 인스턴스 간 직렬화하고,
+ *   다른 Relay 가 발행 중인 key 는 건너뛰어 같은 key 의 발행 순서를 보존
+ */
+@Slf4j
+@Component
+public class HubDriverOutboxRelay {
+
+    private static final QHubDriverOutboxEntity outbox = QHubDriverOutboxEntity.hubDriverOutboxEntity;
+
+    private final String relayId = UUID.randomUUID().toString();
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final EventTypeRegistry eventTypeRegistry;
+
+    @Value("${hub-driver.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${hub-driver.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${hub-driver.outbox.claim-timeout-ms:30000}")
+    private long claimTimeoutMs;
+
+    public HubDriverOutboxRelay(JPAQueryFactory queryFactory,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> outboxKafkaTemplate,
+                                EventTypeRegistry eventTypeRegistry) {
+        this.queryFactory = queryFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.eventTypeRegistry = eventTypeRegistry;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Outbox 한 배치 발행
+     * @return 선점한 Outbox 건수 (batch-size 와 같으면 남은 건이 있을 수 있음)
+     */
+    public int relayBatch() {
+        List<HubDriverOutboxEntity> batch = transactionTemplate.execute(status -> claimBatch());
+
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = batch.stream()
+                .map(entry -> outboxKafkaTemplate.send(toRecord(entry)))
+                .toList();
+
+        awaitAcks(futures);
+
+        // key 별 첫 실패 이후 행은 ack 를 받았더라도 남겨 순서대로 재전송
+        List<Long> published = new ArrayList<>(batch.size());
+        List<Long> unpublished = new ArrayList<>();
+        Set<String> failedKeys = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            HubDriverOutboxEntity entry = batch.get(i);
+            CompletableFuture<SendResult<String, String>> future = futures.get(i);
+            boolean acked = future.isDone() && !future.isCompletedExceptionally();
+
+            if (acked && !failedKeys.contains(entry.getMessageKey())) {
+                published.add(entry.getId());
+            } else {
+                unpublished.add(entry.getId());
+                if (entry.getMessageKey() != null) {
+                    failedKeys.add(entry.getMessageKey());
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> complete(published, unpublished));
+
+        if (!unpublished.isEmpty()) {
+            log.warn("Outbox 일부 발행 실패 - 선점: {}건, 발행: {}건 (미발행 건은 다음 주기에 재시도)",
+                    batch.size(), published.size());
+        } else {
+            log.debug("Outbox 발행 - {}건", published.size());
+        }
+
+        return batch.size();
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 기록 순서대로 선점 가능한 행을 잠그고 선점 기록 (트랜잭션 커밋 시 잠금 해제)
+     * 다른 Relay 의 선점 커밋을 기다린 뒤 조회하므로 발행 중인 key 를 정확히 제외할 수 있음
+     */
+    private List<HubDriverOutboxEntity> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<HubDriverOutboxEntity> candidates = queryFactory
+                .selectFrom(outbox)
+                .where(claimable(now))
+                .orderBy(outbox.id.asc())
+                .limit(batchSize)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> busyKeys = findKeysClaimedByOthers(candidates, now);
+        LocalDateTime claimedUntil = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(claimTimeoutMs));
+
+        List<HubDriverOutboxEntity> claimed = new ArrayList<>(candidates.size());
+        for (HubDriverOutboxEntity entry : candidates) {
+            if (entry.getMessageKey() != null && busyKeys.contains(entry.getMessageKey())) {
+                continue;
+            }
+            entry.claim(relayId, claimedUntil);
+            claimed.add(entry);
+        }
+
+        if (!busyKeys.isEmpty()) {
+            log.debug("다른 Relay 가 발행 중인 key 건너뜀 - {}개", busyKeys.size());
+        }
+
+        return claimed;
+    }
+
+    private Set<String> findKeysClaimedByOthers(List<HubDriverOutboxEntity> candidates, LocalDateTime now) {
+        List<String> keys = candidates.stream()
+                .map(HubDriverOutboxEntity::getMessageKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(queryFactory
+                .select(outbox.messageKey)
+                .distinct()
+                .from(outbox)
+                .where(
+                        outbox.messageKey.in(keys),
+                        outbox.claimedUntil.goe(now),
+                        outbox.claimedBy.ne(relayId)
+                )
+                .fetch());
+    }
+
+    /**
+     * 발행된 행 삭제, 미발행 행 선점 해제 (선점 만료 후 다른 Relay 가 가져간 행은 건드리지 않음)
+     */
+    private void complete(List<Long> published, List<Long> unpublished) {
+        if (!published.isEmpty()) {
+            queryFactory
+                    .delete(outbox)
+                    .where(outbox.id.in(published))
+                    .execute();
+        }
+
+        if (!unpublished.isEmpty()) {
+            queryFactory
+                    .update(outbox)
+                    .setNull(outbox.claimedBy)
+                    .setNull(outbox.claimedUntil)
+                    .where(
+                            outbox.id.in(unpublished),
+                            outbox.claimedBy.eq(relayId)
+                    )
+                    .execute();
+        }
+    }
+
+    private BooleanExpression claimable(LocalDateTime now) {
+        return outbox.claimedUntil.isNull().or(outbox.claimedUntil.lt(now));
+    }
+
+    /**
+     * 구독 측 TypedEventDeserializer 가 타입/버전을 바로 알 수 있도록 헤더 포함
+     */
+    private ProducerRecord<String, String> toRecord(HubDriverOutboxEntity entry) {
+        ProducerRecord<String, String> record =
+                new ProducerRecord<>(entry.getTopic(), entry.getMessageKey(), entry.getPayload());
+        eventTypeRegistry.writeHeaders(record.headers(), entry.getEventType(), entry.getEventVersion());
+        return record;
+    }
+
+    private void awaitAcks(List<CompletableFuture<SendResult<String, String>>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            log.error("Outbox Kafka 전송 실패", e.getCause());
+        } catch (TimeoutException e) {
+            log.error("Outbox Kafka 전송 ack 대기 시간 초과 - timeout: {}ms", sendTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Outbox Kafka 전송 ack 대기 중 인터럽트");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox Relay 주기 실행
+ * 한 주기에서 Outbox 가 빌 때까지(최대 MAX_BATCHES_PER_RUN 배치) 연속 발행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubDriverOutboxRelayScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final HubDriverOutboxRelay outboxRelay;
+
+    @Scheduled(fixedDelayString = "${hub-driver.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (outboxRelay.relayBatch() < outboxRelay.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Outbox Relay 실패", e);
+        }
+    }
+}
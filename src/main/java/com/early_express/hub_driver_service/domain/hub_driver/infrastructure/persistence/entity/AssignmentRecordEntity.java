@@ -0,0 +1,80 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.AssignmentRecord;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배송 배정 기록 JPA Entity (hubDeliveryId 가 PK → 같은 배송의 중복 배정은 커밋 시 충돌)
+ * - 식별자를 직접 할당하므로 Persistable 로 merge(SELECT) 없이 바로 INSERT
+ */
+@Entity
+@Table(name = "p_hub_driver_assignment_record", indexes = {
+        @Index(name = "idx_assignment_record_assigned_at", columnList = "assigned_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AssignmentRecordEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "hub_delivery_id", length = 36)
+    private String hubDeliveryId;
+
+    @Column(name = "driver_id", nullable = false, length = 36)
+    private String driverId;
+
+    @Column(name = "user_id", nullable = false, length = 36)
+    private String userId;
+
+    @Column(name = "driver_name", nullable = false, length = 100)
+    private String driverName;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "assigned_at", nullable = false)
+    private LocalDateTime assignedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    // ===== 도메인 → 엔티티 변환 =====
+
+    public static AssignmentRecordEntity fromDomain(AssignmentRecord assignmentRecord) {
+        AssignmentRecordEntity entity = new AssignmentRecordEntity();
+        entity.hubDeliveryId = assignmentRecord.getHubDeliveryId();
+        entity.driverId = assignmentRecord.getDriverId();
+        entity.userId = assignmentRecord.getUserId();
+        entity.driverName = assignmentRecord.getDriverName();
+        entity.status = assignmentRecord.getStatus();
+        entity.assignedAt = assignmentRecord.getAssignedAt();
+        return entity;
+    }
+
+    // ===== 엔티티 → 도메인 변환 =====
+
+    public AssignmentRecord toDomain() {
+        return AssignmentRecord.of(hubDeliveryId, driverId, userId, driverName, status, assignedAt);
+    }
+
+    @Override
+    public String getId() {
+        return hubDeliveryId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
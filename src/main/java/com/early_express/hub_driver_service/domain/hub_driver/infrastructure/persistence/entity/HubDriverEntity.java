@@ -15,12 +15,16 @@ import java.util.UUID;
 
 /**
  * HubDriver JPA Entity
+ * 배정 가능 드라이버 풀 부분 인덱스(idx_hub_driver_available_pool)는
+ * JPA 로 표현할 수 없어 Flyway 마이그레이션(V2)에서 관리
+ * 배송 통계는 p_hub_driver_stats (HubDriverStatsEntity) 로 분리 - 배정 잠금 대상 행은 상태/우선순위만 갱신
  */
 @Entity
 @Table(name = "p_hub_driver", indexes = {
         @Index(name = "idx_hub_driver_user_id", columnList = "user_id", unique = true),
         @Index(name = "idx_hub_driver_status", columnList = "status"),
-        @Index(name = "idx_hub_driver_priority", columnList = "assignment_priority, available_from")
+        @Index(name = "idx_hub_driver_current_delivery_id", columnList = "current_delivery_id", unique = true),
+        @Index(name = "idx_hub_driver_created_at_id", columnList = "created_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -43,40 +47,26 @@ public class HubDriverEntity extends BaseEntity {
     @Column(name = "current_delivery_id", length = 36)
     private String currentDeliveryId;
 
+    @Column(name = "delivery_assigned_at")
+    private LocalDateTime deliveryAssignedAt;
+
     @Column(name = "assignment_priority", nullable = false)
     private Integer assignmentPriority;
 
-    @Column(name = "total_deliveries", nullable = false)
-    private Long totalDeliveries;
-
-    @Column(name = "total_delivery_time_min", nullable = false)
-    private Long totalDeliveryTimeMin;
-
-    @Column(name = "average_delivery_time_min", nullable = false)
-    private Long averageDeliveryTimeMin;
-
-    @Column(name = "last_delivery_completed_at")
-    private LocalDateTime lastDeliveryCompletedAt;
-
     @Column(name = "available_from")
     private LocalDateTime availableFrom;
 
     @Builder
     private HubDriverEntity(String id, String userId, String name,
-                            HubDriverStatus status, String currentDeliveryId,
-                            Integer assignmentPriority, Long totalDeliveries,
-                            Long totalDeliveryTimeMin, Long averageDeliveryTimeMin,
-                            LocalDateTime lastDeliveryCompletedAt, LocalDateTime availableFrom) {
+                            HubDriverStatus status, String currentDeliveryId, LocalDateTime deliveryAssignedAt,
+                            Integer assignmentPriority, LocalDateTime availableFrom) {
         this.id = id;
         this.userId = userId;
         this.name = name;
         this.status = status;
         this.currentDeliveryId = currentDeliveryId;
+        this.deliveryAssignedAt = deliveryAssignedAt;
         this.assignmentPriority = assignmentPriority;
-        this.totalDeliveries = totalDeliveries;
-        this.totalDeliveryTimeMin = totalDeliveryTimeMin;
-        this.averageDeliveryTimeMin = averageDeliveryTimeMin;
-        this.lastDeliveryCompletedAt = lastDeliveryCompletedAt;
         this.availableFrom = availableFrom;
     }
 
@@ -93,11 +83,8 @@ public class HubDriverEntity extends BaseEntity {
                 .name(hubDriver.getName())
                 .status(hubDriver.getStatus())
                 .currentDeliveryId(hubDriver.getCurrentDeliveryId())
+                .deliveryAssignedAt(hubDriver.getDeliveryAssignedAt())
                 .assignmentPriority(hubDriver.getAssignmentPriority())
-                .totalDeliveries(hubDriver.getTotalDeliveries())
-                .totalDeliveryTimeMin(hubDriver.getTotalDeliveryTimeMin())
-                .averageDeliveryTimeMin(hubDriver.getAverageDeliveryTimeMin())
-                .lastDeliveryCompletedAt(hubDriver.getLastDeliveryCompletedAt())
                 .availableFrom(hubDriver.getAvailableFrom())
                 .build();
     }
@@ -111,11 +98,8 @@ public class HubDriverEntity extends BaseEntity {
                 this.name,
                 this.status,
                 this.currentDeliveryId,
+                this.deliveryAssignedAt,
                 this.assignmentPriority,
-                this.totalDeliveries,
-                this.totalDeliveryTimeMin,
-                this.averageDeliveryTimeMin,
-                this.lastDeliveryCompletedAt,
                 this.availableFrom,
                 this.getCreatedAt(),
                 this.getCreatedBy(),
@@ -140,11 +124,8 @@ public class HubDriverEntity extends BaseEntity {
         this.name = hubDriver.getName();
         this.status = hubDriver.getStatus();
         this.currentDeliveryId = hubDriver.getCurrentDeliveryId();
+        this.deliveryAssignedAt = hubDriver.getDeliveryAssignedAt();
         this.assignmentPriority = hubDriver.getAssignmentPriority();
-        this.totalDeliveries = hubDriver.getTotalDeliveries();
-        this.totalDeliveryTimeMin = hubDriver.getTotalDeliveryTimeMin();
-        this.averageDeliveryTimeMin = hubDriver.getAverageDeliveryTimeMin();
-        this.lastDeliveryCompletedAt = hubDriver.getLastDeliveryCompletedAt();
         this.availableFrom = hubDriver.getAvailableFrom();
     }
 }
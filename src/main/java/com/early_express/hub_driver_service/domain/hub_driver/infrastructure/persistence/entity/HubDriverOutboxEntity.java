@@ -0,0 +1,76 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * HubDriver Outbox JPA Entity
+ * 상태 변경과 같은 트랜잭션에서 기록되고, Relay 가 Kafka 로 발행한 뒤 삭제
+ * - id 는 시퀀스 기반으로 기록 순서(같은 드라이버 내 이벤트 순서)를 보존
+ *   (인스턴스별 id 블록을 받지 않도록 allocationSize = 1, 같은 드라이버의 기록은 행 잠금으로 직렬화)
+ */
+@Entity
+@Table(name = "p_hub_driver_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HubDriverOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hub_driver_outbox_seq")
+    @SequenceGenerator(name = "hub_driver_outbox_seq", sequenceName = "p_hub_driver_outbox_seq", allocationSize = 1)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "event_version", length = 10)
+    private String eventVersion;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", length = 36)
+    private String messageKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 발행 중인 Relay 인스턴스 (claimed_until 이 지나면 다른 Relay 가 다시 선점)
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Builder
+    private HubDriverOutboxEntity(String eventId, String eventType, String eventVersion, String topic,
+                                  String messageKey, String payload, LocalDateTime createdAt) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.eventVersion = eventVersion;
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Relay 발행 선점 (선점 트랜잭션 커밋 후 잠금 없이 Kafka 전송)
+     */
+    public void claim(String relayId, LocalDateTime until) {
+        this.claimedBy = relayId;
+        this.claimedUntil = until;
+    }
+}
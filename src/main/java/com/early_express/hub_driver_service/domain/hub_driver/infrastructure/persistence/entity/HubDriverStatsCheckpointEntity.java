@@ -0,0 +1,65 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버 통계 집계 체크포인트
+ * - "{topic}-{partition}" : 다음에 읽을 오프셋 (통계 반영과 같은 트랜잭션에서 기록)
+ * - "baseline"           : 통계 테이블 백필 시각(epoch millis, V9 에서 기록) - 체크포인트가 없는 파티션의 재생 시작점
+ * Kafka 커밋 오프셋이 아닌 이 값을 기준으로 재시작 시 재생하므로, 반영된 완료 건은 정확히 한 번만 집계됨
+ */
+@Entity
+@Table(name = "p_hub_driver_stats_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HubDriverStatsCheckpointEntity implements Persistable<String> {
+
+    public static final String BASELINE_ID = "baseline";
+
+    @Id
+    @Column(name = "id", length = 255)
+    private String id;
+
+    @Column(name = "position", nullable = false)
+    private Long position;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public static HubDriverStatsCheckpointEntity of(String id, long position) {
+        HubDriverStatsCheckpointEntity entity = new HubDriverStatsCheckpointEntity();
+        entity.id = id;
+        entity.position = position;
+        entity.updatedAt = LocalDateTime.now();
+        return entity;
+    }
+
+    public static String partitionId(String topic, int partition) {
+        return topic + "-" + partition;
+    }
+
+    public void advanceTo(long position) {
+        this.position = Math.max(this.position, position);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
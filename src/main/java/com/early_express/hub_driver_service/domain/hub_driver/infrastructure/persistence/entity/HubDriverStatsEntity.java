@@ -0,0 +1,124 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.DeliveryTimeSketch;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.RollingDeliveryStats;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * HubDriverStats JPA Entity
+ * - 배정 행(p_hub_driver)과 분리된 통계 전용 테이블 (배정 잠금과 경합 없음)
+ * - 드라이버 ID 를 그대로 식별자로 사용하므로 Persistable 로 merge(SELECT) 없이 바로 INSERT
+ */
+@Entity
+@Table(name = "p_hub_driver_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HubDriverStatsEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "driver_id", length = 36)
+    private String driverId;
+
+    @Column(name = "total_deliveries", nullable = false)
+    private Long totalDeliveries;
+
+    @Column(name = "total_delivery_time_min", nullable = false)
+    private Long totalDeliveryTimeMin;
+
+    @Column(name = "average_delivery_time_min", nullable = false)
+    private Long averageDeliveryTimeMin;
+
+    // 배송 소요시간 분포 스케치 (DeliveryTimeSketch 인코딩, 변경 시에만 재인코딩)
+    @Column(name = "delivery_time_sketch", length = 2048)
+    private byte[] deliveryTimeSketch;
+
+    // 최근 1시간/24시간/7일 링 버퍼 (RollingDeliveryStats 인코딩, 변경 시에만 재인코딩)
+    @Column(name = "rolling_delivery_stats", length = 2048)
+    private byte[] rollingDeliveryStats;
+
+    @Column(name = "last_delivery_completed_at")
+    private LocalDateTime lastDeliveryCompletedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    // ===== 도메인 → 엔티티 변환 =====
+
+    public static HubDriverStatsEntity fromDomain(HubDriverStats stats) {
+        HubDriverStatsEntity entity = new HubDriverStatsEntity();
+        entity.driverId = stats.getDriverId();
+        entity.deliveryTimeSketch = stats.getDeliveryTimeSketch().toBytes();
+        entity.rollingDeliveryStats = stats.getRollingDeliveryStats().toBytes();
+        entity.copyTotals(stats);
+        return entity;
+    }
+
+    // ===== 엔티티 → 도메인 변환 =====
+
+    public HubDriverStats toDomain() {
+        return HubDriverStats.reconstitute(
+                this.driverId,
+                this.totalDeliveries,
+                this.totalDeliveryTimeMin,
+                this.averageDeliveryTimeMin,
+                DeliveryTimeSketch.fromBytes(this.deliveryTimeSketch),
+                RollingDeliveryStats.fromBytes(this.rollingDeliveryStats),
+                this.lastDeliveryCompletedAt
+        );
+    }
+
+    // ===== 도메인 → 엔티티 업데이트 =====
+
+    public void updateFromDomain(HubDriverStats stats) {
+        if (!this.driverId.equals(stats.getDriverId())) {
+            throw new IllegalStateException(
+                    "엔티티 ID와 도메인 ID가 일치하지 않습니다. " +
+                            "Entity ID: " + this.driverId + ", Domain ID: " + stats.getDriverId()
+            );
+        }
+
+        if (stats.getDeliveryTimeSketch().isModified()) {
+            this.deliveryTimeSketch = stats.getDeliveryTimeSketch().toBytes();
+        }
+        if (stats.getRollingDeliveryStats().isModified()) {
+            this.rollingDeliveryStats = stats.getRollingDeliveryStats().toBytes();
+        }
+        copyTotals(stats);
+    }
+
+    @Override
+    public String getId() {
+        return driverId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    // ===== Private Methods =====
+
+    private void copyTotals(HubDriverStats stats) {
+        this.totalDeliveries = stats.getTotalDeliveries();
+        this.totalDeliveryTimeMin = stats.getTotalDeliveryTimeMin();
+        this.averageDeliveryTimeMin = stats.getAverageDeliveryTimeMin();
+        this.lastDeliveryCompletedAt = stats.getLastDeliveryCompletedAt();
+        this.updatedAt = LocalDateTime.now();
+    }
+}
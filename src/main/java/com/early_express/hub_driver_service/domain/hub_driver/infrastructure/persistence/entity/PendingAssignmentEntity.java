@@ -0,0 +1,62 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.PendingAssignment;
+import com.early_express.hub_driver_service.global.infrastructure.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * PendingAssignment JPA Entity
+ */
+@Entity
+@Table(name = "p_hub_driver_pending_assignment", indexes = {
+        @Index(name = "idx_pending_assignment_hub_delivery_id", columnList = "hub_delivery_id", unique = true),
+        @Index(name = "idx_pending_assignment_requested_at", columnList = "requested_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingAssignmentEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "hub_delivery_id", nullable = false, unique = true, length = 36)
+    private String hubDeliveryId;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Builder
+    private PendingAssignmentEntity(String id, String hubDeliveryId, LocalDateTime requestedAt) {
+        this.id = id;
+        this.hubDeliveryId = hubDeliveryId;
+        this.requestedAt = requestedAt;
+    }
+
+    // ===== 도메인 → 엔티티 변환 =====
+
+    public static PendingAssignmentEntity fromDomain(PendingAssignment pendingAssignment) {
+        String entityId = pendingAssignment.getId() != null
+                ? pendingAssignment.getId()
+                : UUID.randomUUID().toString();
+
+        return PendingAssignmentEntity.builder()
+                .id(entityId)
+                .hubDeliveryId(pendingAssignment.getHubDeliveryId())
+                .requestedAt(pendingAssignment.getRequestedAt())
+                .build();
+    }
+
+    // ===== 엔티티 → 도메인 변환 =====
+
+    public PendingAssignment toDomain() {
+        return PendingAssignment.reconstitute(this.id, this.hubDeliveryId, this.requestedAt);
+    }
+}
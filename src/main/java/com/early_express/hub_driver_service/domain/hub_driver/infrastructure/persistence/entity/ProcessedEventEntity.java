@@ -0,0 +1,60 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료된 구독 이벤트 (eventId 기준 중복 처리 방지)
+ * - 이벤트 처리와 같은 트랜잭션에서 기록 → 재전달 시 DB 기준으로 중복 판별
+ * - 식별자를 직접 할당하므로 Persistable 로 merge(SELECT) 없이 바로 INSERT
+ */
+@Entity
+@Table(name = "p_hub_driver_processed_event", indexes = {
+        @Index(name = "idx_processed_event_processed_at", columnList = "processed_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEventEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "event_id", length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", length = 50)
+    private String eventType;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public static ProcessedEventEntity of(String eventId, String eventType) {
+        ProcessedEventEntity entity = new ProcessedEventEntity();
+        entity.eventId = eventId;
+        entity.eventType = eventType;
+        entity.processedAt = LocalDateTime.now();
+        return entity;
+    }
+
+    @Override
+    public String getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
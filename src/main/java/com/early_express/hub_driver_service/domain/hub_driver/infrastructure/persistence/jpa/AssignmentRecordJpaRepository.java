@@ -0,0 +1,19 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.AssignmentRecordEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * AssignmentRecord JPA Repository
+ */
+public interface AssignmentRecordJpaRepository extends JpaRepository<AssignmentRecordEntity, String> {
+
+    @Modifying
+    @Query("delete from AssignmentRecordEntity a where a.assignedAt < :before")
+    int deleteAssignedBefore(@Param("before") LocalDateTime before);
+}
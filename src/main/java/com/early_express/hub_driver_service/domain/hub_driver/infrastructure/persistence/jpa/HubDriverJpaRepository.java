@@ -6,6 +6,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,6 +19,10 @@ public interface HubDriverJpaRepository extends JpaRepository<HubDriverEntity, S
 
     Optional<HubDriverEntity> findByUserIdAndIsDeletedFalse(String userId);
 
+    List<HubDriverEntity> findByIdInAndIsDeletedFalse(Collection<String> ids);
+
+    List<HubDriverEntity> findByUserIdInAndIsDeletedFalse(Collection<String> userIds);
+
     boolean existsByUserIdAndIsDeletedFalse(String userId);
 
     Page<HubDriverEntity> findByStatusAndIsDeletedFalse(HubDriverStatus status, Pageable pageable);
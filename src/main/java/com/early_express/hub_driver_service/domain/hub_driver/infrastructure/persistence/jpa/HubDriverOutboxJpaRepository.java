@@ -0,0 +1,10 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * HubDriver Outbox JPA Repository
+ */
+public interface HubDriverOutboxJpaRepository extends JpaRepository<HubDriverOutboxEntity, Long> {
+}
@@ -0,0 +1,11 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverStatsCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * HubDriverStats 집계 체크포인트 JPA Repository
+ */
+public interface HubDriverStatsCheckpointJpaRepository
+        extends JpaRepository<HubDriverStatsCheckpointEntity, String> {
+}
@@ -0,0 +1,10 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * HubDriverStats JPA Repository
+ */
+public interface HubDriverStatsJpaRepository extends JpaRepository<HubDriverStatsEntity, String> {
+}
@@ -0,0 +1,14 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.PendingAssignmentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * PendingAssignment JPA Repository
+ */
+public interface PendingAssignmentJpaRepository extends JpaRepository<PendingAssignmentEntity, String> {
+
+    Optional<PendingAssignmentEntity> findByHubDeliveryId(String hubDeliveryId);
+}
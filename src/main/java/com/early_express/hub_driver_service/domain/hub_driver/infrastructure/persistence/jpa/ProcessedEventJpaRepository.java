@@ -0,0 +1,27 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.ProcessedEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ProcessedEvent JPA Repository
+ */
+public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventEntity, String> {
+
+    @Query("select p.eventId from ProcessedEventEntity p where p.eventId in :eventIds")
+    List<String> findExistingEventIds(@Param("eventIds") Collection<String> eventIds);
+
+    @Query("select p.eventId from ProcessedEventEntity p where p.processedAt >= :since")
+    List<String> findEventIdsProcessedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from ProcessedEventEntity p where p.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
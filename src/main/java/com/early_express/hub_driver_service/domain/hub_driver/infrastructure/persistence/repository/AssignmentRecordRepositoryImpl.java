@@ -0,0 +1,58 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.AssignmentRecord;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.AssignmentRecordRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.AssignmentRecordEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.AssignmentRecordJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AssignmentRecord Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssignmentRecordRepositoryImpl implements AssignmentRecordRepository {
+
+    private final AssignmentRecordJpaRepository jpaRepository;
+
+    @Override
+    @Transactional
+    public void save(AssignmentRecord assignmentRecord) {
+        jpaRepository.save(AssignmentRecordEntity.fromDomain(assignmentRecord));
+    }
+
+    @Override
+    public Optional<AssignmentRecord> findByHubDeliveryId(String hubDeliveryId) {
+        return jpaRepository.findById(hubDeliveryId)
+                .map(AssignmentRecordEntity::toDomain);
+    }
+
+    @Override
+    public List<AssignmentRecord> findAllByHubDeliveryIds(Collection<String> hubDeliveryIds) {
+        if (hubDeliveryIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(hubDeliveryIds).stream()
+                .map(AssignmentRecordEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteByHubDeliveryId(String hubDeliveryId) {
+        jpaRepository.deleteById(hubDeliveryId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAssignedBefore(LocalDateTime before) {
+        return jpaRepository.deleteAssignedBefore(before);
+    }
+}
@@ -0,0 +1,105 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.DeliveryLogQueryRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.DeliveryLogQueryDto.DeliveryLogResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.DeliveryLogOutcome;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.deliverylog.DeliveryLogRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 드라이버 배송 이력 Repository (JDBC)
+ * - 파티션 테이블이라 JPA 엔티티 없이 JDBC 로 적재/조회 (append-only, 더티 체킹 불필요)
+ * - 적재는 배치 INSERT, (event_id, finished_at) 충돌 시 무시하여 재전달에도 1건만 유지
+ */
+@Repository
+@RequiredArgsConstructor
+public class HubDriverDeliveryLogRepository implements DeliveryLogQueryRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO p_hub_driver_delivery_log
+                (event_id, driver_id, hub_delivery_id, outcome, assigned_at, finished_at, delivery_time_min)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT event_id, driver_id, hub_delivery_id, outcome, assigned_at, finished_at, delivery_time_min
+            FROM p_hub_driver_delivery_log
+            """;
+
+    private static final RowMapper<DeliveryLogResponse> ROW_MAPPER = (rs, rowNum) -> new DeliveryLogResponse(
+            rs.getString("event_id"),
+            rs.getString("driver_id"),
+            rs.getString("hub_delivery_id"),
+            DeliveryLogOutcome.valueOf(rs.getString("outcome")),
+            toLocalDateTime(rs.getTimestamp("assigned_at")),
+            toLocalDateTime(rs.getTimestamp("finished_at")),
+            rs.getObject("delivery_time_min", Long.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치 INSERT (드라이버 행과 분리된 테이블이므로 배정/완료 트랜잭션과 경합 없음)
+     */
+    public void appendAll(List<DeliveryLogRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setString(1, record.getEventId());
+            ps.setString(2, record.getDriverId());
+            ps.setString(3, record.getHubDeliveryId());
+            ps.setString(4, record.getOutcome().name());
+            ps.setTimestamp(5, toTimestamp(record.getAssignedAt()));
+            ps.setTimestamp(6, toTimestamp(record.getFinishedAt()));
+            if (record.getDeliveryTimeMin() != null) {
+                ps.setLong(7, record.getDeliveryTimeMin());
+            } else {
+                ps.setNull(7, Types.BIGINT);
+            }
+        });
+    }
+
+    @Override
+    public List<DeliveryLogResponse> findByDriverIdAfter(String driverId, LocalDateTime cursorFinishedAt,
+                                                         String cursorEventId, int limit) {
+        if (cursorFinishedAt == null || cursorEventId == null) {
+            return jdbcTemplate.query(
+                    SELECT_COLUMNS + """
+                            WHERE driver_id = ?
+                            ORDER BY finished_at DESC, event_id DESC
+                            LIMIT ?
+                            """,
+                    ROW_MAPPER, driverId, limit);
+        }
+
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + """
+                        WHERE driver_id = ?
+                          AND (finished_at, event_id) < (?, ?)
+                        ORDER BY finished_at DESC, event_id DESC
+                        LIMIT ?
+                        """,
+                ROW_MAPPER, driverId, toTimestamp(cursorFinishedAt), cursorEventId, limit);
+    }
+
+    // ===== Private Methods =====
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverExportRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 드라이버 전체 내보내기 Repository (JDBC)
+ * - 전방향(forward-only) 읽기 전용 커서를 fetch-size 단위로 가져오며 한 행씩 전달
+ * - 엔티티/영속성 컨텍스트를 거치지 않고 결과 목록도 만들지 않으므로 메모리 사용량은 행 수와 무관
+ * - PostgreSQL 은 auto-commit 이 꺼진 커넥션에서만 커서 조회를 하므로 트랜잭션 안에서 호출해야 함
+ */
+@Repository
+public class HubDriverExportJdbcRepository implements HubDriverExportRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT d.id, d.user_id, d.name, d.status, d.current_delivery_id, d.assignment_priority,
+                   COALESCE(s.total_deliveries, 0)          AS total_deliveries,
+                   COALESCE(s.total_delivery_time_min, 0)   AS total_delivery_time_min,
+                   COALESCE(s.average_delivery_time_min, 0) AS average_delivery_time_min,
+                   s.last_delivery_completed_at, d.available_from, d.created_at
+            FROM p_hub_driver d
+            LEFT JOIN p_hub_driver_stats s ON s.driver_id = d.id
+            WHERE d.is_deleted = false
+            """;
+
+    private static final String ORDER_BY = """
+            ORDER BY d.created_at DESC, d.id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public HubDriverExportJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${hub-driver.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void streamAll(HubDriverStatus status, Consumer<HubDriverResponse> consumer) {
+        String sql = status != null
+                ? SELECT_SQL + "  AND d.status = ?\n" + ORDER_BY
+                : SELECT_SQL + ORDER_BY;
+
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    if (status != null) {
+                        ps.setString(1, status.name());
+                    }
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(toResponse(rs)));
+    }
+
+    // ===== Private Methods =====
+
+    private static HubDriverResponse toResponse(ResultSet rs) throws SQLException {
+        return new HubDriverResponse(
+                rs.getString("id"),
+                rs.getString("user_id"),
+                rs.getString("name"),
+                HubDriverStatus.valueOf(rs.getString("status")),
+                rs.getString("current_delivery_id"),
+                rs.getInt("assignment_priority"),
+                rs.getLong("total_deliveries"),
+                rs.getLong("total_delivery_time_min"),
+                rs.getLong("average_delivery_time_min"),
+                toLocalDateTime(rs.getTimestamp("last_delivery_completed_at")),
+                toLocalDateTime(rs.getTimestamp("available_from")),
+                toLocalDateTime(rs.getTimestamp("created_at"))
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
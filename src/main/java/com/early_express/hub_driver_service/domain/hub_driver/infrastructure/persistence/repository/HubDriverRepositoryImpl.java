@@ -1,67 +1,219 @@
 package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository;
 
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverQueryRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverResponse;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverId;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.cache.HubDriverSnapshotCache;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.dispatch.HubDriverDispatchIndex;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.outbox.HubDriverOutbox;
 import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverEntity;
 import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.QHubDriverEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.QHubDriverStatsEntity;
 import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.HubDriverJpaRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats.HubDriverStatusCounters;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * HubDriver Repository 구현체
  */
+@Slf4j
 @Repository
 @RequiredArgsConstructor
-public class HubDriverRepositoryImpl implements HubDriverRepository {
+public class HubDriverRepositoryImpl implements HubDriverRepository, HubDriverQueryRepository {
 
     private final HubDriverJpaRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final HubDriverDispatchIndex dispatchIndex;
+    private final HubDriverOutbox hubDriverOutbox;
+    private final HubDriverSnapshotCache hubDriverSnapshotCache;
+    private final HubDriverStatusCounters statusCounters;
+    private final EntityManager entityManager;
 
     private static final QHubDriverEntity hubDriver = QHubDriverEntity.hubDriverEntity;
+    private static final QHubDriverStatsEntity hubDriverStats = QHubDriverStatsEntity.hubDriverStatsEntity;
 
+    /**
+     * 목록 조회 정렬 기준 (sort 파라미터 → 정렬 식)
+     * 통계 컬럼은 p_hub_driver_stats 로 분리되어 엔티티 경로가 없으므로 응답과 같은 coalesce 식으로 정렬
+     */
+    private static final Map<String, ComparableExpressionBase<?>> RESPONSE_SORT_KEYS = Map.ofEntries(
+            Map.entry("id", hubDriver.id),
+            Map.entry("userId", hubDriver.userId),
+            Map.entry("name", hubDriver.name),
+            Map.entry("status", hubDriver.status),
+            Map.entry("currentDeliveryId", hubDriver.currentDeliveryId),
+            Map.entry("assignmentPriority", hubDriver.assignmentPriority),
+            Map.entry("availableFrom", hubDriver.availableFrom),
+            Map.entry("createdAt", hubDriver.createdAt),
+            Map.entry("totalDeliveries", hubDriverStats.totalDeliveries.coalesce(0L)),
+            Map.entry("totalDeliveryTimeMin", hubDriverStats.totalDeliveryTimeMin.coalesce(0L)),
+            Map.entry("averageDeliveryTimeMin", hubDriverStats.averageDeliveryTimeMin.coalesce(0L)),
+            Map.entry("lastDeliveryCompletedAt", hubDriverStats.lastDeliveryCompletedAt)
+    );
+
+    // 인덱스 후보가 실제 상태와 다를 때 DB 조회로 전환하기 전 최대 재시도 횟수
+    private static final int MAX_INDEX_CANDIDATES = 3;
+
+    /**
+     * 드라이버 저장
+     * 같은 트랜잭션에서 조회한 도메인 객체는 재조회 없이 관리 엔티티에 반영 (UPDATE 는 flush 시 1회)
+     * 쌓인 도메인 이벤트는 같은 트랜잭션에서 Outbox 에 기록
+     * 커밋 이후 디스패치 인덱스 동기화, 스냅샷 캐시 무효화, 상태 카운터 반영 (모든 커맨드가 이 경로로 저장)
+     */
     @Override
     @Transactional
     public HubDriver save(HubDriver hubDriver) {
-        HubDriverEntity entity;
+        HubDriver saved;
+        HubDriverStatus previousStatus;
 
         if (hubDriver.getId() != null) {
-            entity = jpaRepository.findByIdAndIsDeletedFalse(hubDriver.getIdValue())
-                    .orElseThrow(() -> new HubDriverException(
-                            HubDriverErrorCode.HUB_DRIVER_NOT_FOUND,
-                            "허브 배송 담당자를 찾을 수 없습니다: " + hubDriver.getIdValue()
-                    ));
+            HubDriverEntity entity = HubDriverUnitOfWork.managedEntityOf(hubDriver)
+                    .orElseGet(() -> findEntity(hubDriver.getIdValue()));
+            previousStatus = countedStatus(entity);
             entity.updateFromDomain(hubDriver);
+            saved = hubDriver;
         } else {
-            entity = HubDriverEntity.fromDomain(hubDriver);
-            entity = jpaRepository.save(entity);
+            // 식별자를 직접 할당하므로 merge(SELECT 후 INSERT) 대신 persist 로 바로 INSERT
+            HubDriverEntity entity = HubDriverEntity.fromDomain(hubDriver);
+            entityManager.persist(entity);
+            saved = HubDriverUnitOfWork.register(entity);
+            previousStatus = null;
         }
 
-        return entity.toDomain();
+        hubDriverOutbox.append(saved.pullDomainEvents());
+        dispatchIndex.syncAfterCommit(saved);
+        hubDriverSnapshotCache.evictAfterCommit(saved);
+        statusCounters.recordAfterCommit(previousStatus, countedStatus(saved));
+
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<HubDriver> saveAll(List<HubDriver> hubDrivers) {
+        if (hubDrivers.isEmpty()) {
+            return List.of();
+        }
+
+        // 같은 트랜잭션에서 조회하지 않은 드라이버만 한 번에 조회
+        List<String> untrackedIds = hubDrivers.stream()
+                .filter(driver -> HubDriverUnitOfWork.managedEntityOf(driver).isEmpty())
+                .map(HubDriver::getIdValue)
+                .toList();
+
+        Map<String, HubDriverEntity> untracked = untrackedIds.isEmpty()
+                ? Map.of()
+                : queryFactory
+                        .selectFrom(hubDriver)
+                        .where(
+                                hubDriver.id.in(untrackedIds),
+                                isNotDeleted()
+                        )
+                        .fetch()
+                        .stream()
+                        .collect(Collectors.toMap(HubDriverEntity::getId, Function.identity()));
+
+        // 변경 내용은 커밋 시 hibernate.jdbc.batch_size 단위로 묶여 UPDATE
+        hubDrivers.forEach(driver -> {
+            HubDriverEntity entity = HubDriverUnitOfWork.managedEntityOf(driver)
+                    .orElseGet(() -> untracked.get(driver.getIdValue()));
+            if (entity == null) {
+                throw new HubDriverException(
+                        HubDriverErrorCode.HUB_DRIVER_NOT_FOUND,
+                        "허브 배송 담당자를 찾을 수 없습니다: " + driver.getIdValue()
+                );
+            }
+            HubDriverStatus previousStatus = countedStatus(entity);
+            entity.updateFromDomain(driver);
+            hubDriverOutbox.append(driver.pullDomainEvents());
+            dispatchIndex.syncAfterCommit(driver);
+            hubDriverSnapshotCache.evictAfterCommit(driver);
+            statusCounters.recordAfterCommit(previousStatus, countedStatus(driver));
+        });
+
+        return hubDrivers;
     }
 
     @Override
     public Optional<HubDriver> findById(HubDriverId id) {
         return jpaRepository.findByIdAndIsDeletedFalse(id.getValue())
-                .map(HubDriverEntity::toDomain);
+                .map(HubDriverUnitOfWork::register);
     }
 
     @Override
     public Optional<HubDriver> findByUserId(String userId) {
         return jpaRepository.findByUserIdAndIsDeletedFalse(userId)
-                .map(HubDriverEntity::toDomain);
+                .map(HubDriverUnitOfWork::register);
+    }
+
+    @Override
+    public List<HubDriver> findAllByIds(Collection<String> driverIds) {
+        if (driverIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByIdInAndIsDeletedFalse(driverIds).stream()
+                .map(HubDriverUnitOfWork::register)
+                .toList();
+    }
+
+    @Override
+    public List<HubDriver> findAllByUserIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByUserIdInAndIsDeletedFalse(userIds).stream()
+                .map(HubDriverUnitOfWork::register)
+                .toList();
+    }
+
+    @Override
+    public List<HubDriver> findByCurrentDeliveryIdsForUpdate(List<String> hubDeliveryIds) {
+        if (hubDeliveryIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(hubDriver)
+                .where(
+                        hubDriver.currentDeliveryId.in(hubDeliveryIds),
+                        isNotDeleted()
+                )
+                .orderBy(hubDriver.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch()
+                .stream()
+                .map(HubDriverUnitOfWork::register)
+                .toList();
     }
 
     @Override
@@ -83,6 +235,53 @@ public class HubDriverRepositoryImpl implements HubDriverRepository {
                 .toList();
     }
 
+    /**
+     * 다음 배정 대상 드라이버를 행 잠금과 함께 조회
+     * - SELECT ... FOR UPDATE SKIP LOCKED 로 다른 트랜잭션이 잡고 있는 행은 건너뜀
+     * - 동시 배정 요청이 같은 드라이버를 두고 경합하지 않고 서로 다른 드라이버로 분산됨
+     */
+    @Override
+    public Optional<HubDriver> findNextAvailableDriver() {
+        for (int attempt = 0; attempt < MAX_INDEX_CANDIDATES; attempt++) {
+            Optional<HubDriverDispatchIndex.Entry> candidate = dispatchIndex.poll();
+            if (candidate.isEmpty()) {
+                break;
+            }
+
+            HubDriverEntity entity = lockFirstAvailable(idEq(candidate.get().getDriverId()));
+            if (entity != null) {
+                return Optional.of(HubDriverUnitOfWork.register(entity));
+            }
+
+            log.debug("디스패치 인덱스 후보 불일치 또는 잠금 중 - driverId: {}", candidate.get().getDriverId());
+        }
+
+        // 인덱스가 비었거나 오래된 경우 잠기지 않은 첫 번째 행을 DB에서 선점
+        return Optional.ofNullable(lockFirstAvailable(null))
+                .map(HubDriverUnitOfWork::register);
+    }
+
+    /**
+     * 일괄 배정 후보는 디스패치 인덱스를 거치지 않고 DB 정렬(dispatchOrder)로 선점
+     */
+    @Override
+    public List<HubDriver> findNextAvailableDrivers(int limit) {
+        return queryFactory
+                .selectFrom(hubDriver)
+                .where(
+                        statusEq(HubDriverStatus.AVAILABLE),
+                        isNotDeleted()
+                )
+                .orderBy(dispatchOrder())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch()
+                .stream()
+                .map(HubDriverUnitOfWork::register)
+                .toList();
+    }
+
     @Override
     public Page<HubDriver> findByStatus(HubDriverStatus status, Pageable pageable) {
         return jpaRepository.findByStatusAndIsDeletedFalse(status, pageable)
@@ -95,13 +294,175 @@ public class HubDriverRepositoryImpl implements HubDriverRepository {
                 .map(HubDriverEntity::toDomain);
     }
 
+    // ===== 조회 전용 프로젝션 (영속성 컨텍스트/더티 체킹 미사용) =====
+
+    @Override
+    public Page<HubDriverResponse> findResponses(HubDriverStatus status, Pageable pageable) {
+        JPAQuery<HubDriverResponse> query = queryFactory
+                .select(responseProjection())
+                .from(hubDriver)
+                .leftJoin(hubDriverStats).on(hubDriverStats.driverId.eq(hubDriver.id))
+                .where(
+                        statusEq(status),
+                        isNotDeleted()
+                );
+
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset())
+                    .limit(pageable.getPageSize());
+        }
+        List<HubDriverResponse> content = query
+                .orderBy(responseOrder(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(hubDriver.count())
+                .from(hubDriver)
+                .where(
+                        statusEq(status),
+                        isNotDeleted()
+                );
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<HubDriverResponse> findResponsesAfter(HubDriverStatus status, LocalDateTime cursorCreatedAt,
+                                                      String cursorId, int limit) {
+        return queryFactory
+                .select(responseProjection())
+                .from(hubDriver)
+                .leftJoin(hubDriverStats).on(hubDriverStats.driverId.eq(hubDriver.id))
+                .where(
+                        statusEq(status),
+                        isNotDeleted(),
+                        afterCursor(cursorCreatedAt, cursorId)
+                )
+                .orderBy(
+                        hubDriver.createdAt.desc(),
+                        hubDriver.id.desc()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countByStatus(HubDriverStatus status) {
+        Long count = queryFactory
+                .select(hubDriver.count())
+                .from(hubDriver)
+                .where(
+                        statusEq(status),
+                        isNotDeleted()
+                )
+                .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+
     @Override
     public boolean existsByUserId(String userId) {
         return jpaRepository.existsByUserIdAndIsDeletedFalse(userId);
     }
 
+    // ===== Private Methods =====
+
+    /**
+     * 목록 응답 DTO 생성자 프로젝션 (HubDriverResponse 필드 순서와 동일)
+     * 통계는 p_hub_driver_stats 와 left join (집계 전이면 0)
+     */
+    private ConstructorExpression<HubDriverResponse> responseProjection() {
+        return Projections.constructor(HubDriverResponse.class,
+                hubDriver.id,
+                hubDriver.userId,
+                hubDriver.name,
+                hubDriver.status,
+                hubDriver.currentDeliveryId,
+                hubDriver.assignmentPriority,
+                hubDriverStats.totalDeliveries.coalesce(0L),
+                hubDriverStats.totalDeliveryTimeMin.coalesce(0L),
+                hubDriverStats.averageDeliveryTimeMin.coalesce(0L),
+                hubDriverStats.lastDeliveryCompletedAt,
+                hubDriver.availableFrom,
+                hubDriver.createdAt
+        );
+    }
+
+    /**
+     * Pageable 정렬 → 정렬 식 (지원하지 않는 기준은 400)
+     * 통계가 아직 없는 드라이버(lastDeliveryCompletedAt null)는 방향과 관계없이 뒤로
+     */
+    private static OrderSpecifier<?>[] responseOrder(Sort sort) {
+        return sort.stream()
+                .map(order -> {
+                    ComparableExpressionBase<?> expression = RESPONSE_SORT_KEYS.get(order.getProperty());
+                    if (expression == null) {
+                        throw new HubDriverException(
+                                HubDriverErrorCode.INVALID_SORT_PROPERTY,
+                                "지원하지 않는 정렬 기준입니다: " + order.getProperty()
+                        );
+                    }
+                    OrderSpecifier<?> specifier = order.isAscending() ? expression.asc() : expression.desc();
+                    return specifier.nullsLast();
+                })
+                .toArray(OrderSpecifier<?>[]::new);
+    }
+
+    private HubDriverEntity findEntity(String id) {
+        return jpaRepository.findByIdAndIsDeletedFalse(id)
+                .orElseThrow(() -> new HubDriverException(
+                        HubDriverErrorCode.HUB_DRIVER_NOT_FOUND,
+                        "허브 배송 담당자를 찾을 수 없습니다: " + id
+                ));
+    }
+
+    /**
+     * 배정 가능한 첫 번째 드라이버 행을 잠금 (이미 잠긴 행은 건너뜀)
+     */
+    private HubDriverEntity lockFirstAvailable(BooleanExpression condition) {
+        return queryFactory
+                .selectFrom(hubDriver)
+                .where(
+                        condition,
+                        statusEq(HubDriverStatus.AVAILABLE),
+                        isNotDeleted()
+                )
+                .orderBy(dispatchOrder())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetchFirst();
+    }
+
+    /**
+     * 상태 카운터 기준 상태 (삭제된 드라이버는 어느 상태로도 세지 않음 → 삭제 시 이전 상태에서 차감)
+     */
+    private static HubDriverStatus countedStatus(HubDriverEntity entity) {
+        return entity.isDeleted() ? null : entity.getStatus();
+    }
+
+    private static HubDriverStatus countedStatus(HubDriver driver) {
+        return driver.isDeleted() ? null : driver.getStatus();
+    }
+
+    /**
+     * DB 선점 경로 정렬 (idx_hub_driver_available_pool 컬럼 순서와 동일 → Index Only Scan)
+     * 최근 부하 동순위 분산(balance-recent-load)은 디스패치 인덱스 경로에만 적용
+     * (최근 완료 건수는 링 버퍼 바이너리 컬럼이라 SQL 로 정렬할 수 없음)
+     */
+    private static OrderSpecifier<?>[] dispatchOrder() {
+        return new OrderSpecifier<?>[]{
+                hubDriver.assignmentPriority.asc(),
+                hubDriver.availableFrom.asc(),
+                hubDriver.id.asc()
+        };
+    }
+
     // ===== BooleanExpression =====
 
+    private BooleanExpression idEq(String id) {
+        return id != null ? hubDriver.id.eq(id) : null;
+    }
+
     private BooleanExpression statusEq(HubDriverStatus status) {
         return status != null ? hubDriver.status.eq(status) : null;
     }
@@ -109,4 +470,15 @@ public class HubDriverRepositoryImpl implements HubDriverRepository {
     private BooleanExpression isNotDeleted() {
         return hubDriver.isDeleted.eq(false);
     }
+
+    /**
+     * (createdAt, id) 기준 커서 이후 조건 (내림차순)
+     */
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, String cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return hubDriver.createdAt.lt(cursorCreatedAt)
+                .or(hubDriver.createdAt.eq(cursorCreatedAt).and(hubDriver.id.lt(cursorId)));
+    }
 }
@@ -0,0 +1,73 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverStatsRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverStatsEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.HubDriverStatsJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * HubDriverStats Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class HubDriverStatsRepositoryImpl implements HubDriverStatsRepository {
+
+    private final HubDriverStatsJpaRepository jpaRepository;
+
+    @Override
+    public Optional<HubDriverStats> findByDriverId(String driverId) {
+        return jpaRepository.findById(driverId)
+                .map(HubDriverStatsEntity::toDomain);
+    }
+
+    @Override
+    public Map<String, HubDriverStats> findAllByDriverIds(Collection<String> driverIds) {
+        if (driverIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.findAllById(driverIds).stream()
+                .map(HubDriverStatsEntity::toDomain)
+                .collect(Collectors.toMap(HubDriverStats::getDriverId, Function.identity()));
+    }
+
+    /**
+     * 기존 행은 IN 쿼리 1회로 불러와 변경 감지로 갱신 (같은 트랜잭션에서 조회했다면 영속성 컨텍스트 재사용)
+     * 없는 행만 INSERT
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<HubDriverStats> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+
+        Map<String, HubDriverStatsEntity> existing = jpaRepository
+                .findAllById(stats.stream().map(HubDriverStats::getDriverId).toList()).stream()
+                .collect(Collectors.toMap(HubDriverStatsEntity::getDriverId, Function.identity()));
+
+        List<HubDriverStatsEntity> created = new ArrayList<>();
+        for (HubDriverStats stat : stats) {
+            HubDriverStatsEntity entity = existing.get(stat.getDriverId());
+            if (entity != null) {
+                entity.updateFromDomain(stat);
+            } else {
+                created.add(HubDriverStatsEntity.fromDomain(stat));
+            }
+        }
+
+        if (!created.isEmpty()) {
+            jpaRepository.saveAll(created);
+        }
+    }
+}
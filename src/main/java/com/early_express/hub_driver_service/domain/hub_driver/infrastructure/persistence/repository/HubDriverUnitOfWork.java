@@ -0,0 +1,69 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 트랜잭션 단위 HubDriver 작업 단위(Unit of Work)
+ * - 트랜잭션 안에서 조회한 도메인 객체와 그 뒤의 관리(managed) 엔티티를 연결해 둠
+ * - 저장 시 다시 조회하지 않고 관리 엔티티에 바로 반영 → 커맨드당 SELECT 1회, UPDATE 1회
+ */
+final class HubDriverUnitOfWork {
+
+    private static final Object RESOURCE_KEY = HubDriverUnitOfWork.class;
+
+    private HubDriverUnitOfWork() {
+    }
+
+    /**
+     * 관리 엔티티를 도메인으로 변환하고 현재 트랜잭션에 등록
+     */
+    static HubDriver register(HubDriverEntity entity) {
+        HubDriver driver = entity.toDomain();
+
+        Map<HubDriver, HubDriverEntity> managed = current();
+        if (managed != null) {
+            managed.put(driver, entity);
+        }
+        return driver;
+    }
+
+    /**
+     * 현재 트랜잭션에서 도메인 객체를 조회한 관리 엔티티
+     */
+    static Optional<HubDriverEntity> managedEntityOf(HubDriver driver) {
+        Map<HubDriver, HubDriverEntity> managed = current();
+        return managed != null
+                ? Optional.ofNullable(managed.get(driver))
+                : Optional.empty();
+    }
+
+    // ===== Private Methods =====
+
+    @SuppressWarnings("unchecked")
+    private static Map<HubDriver, HubDriverEntity> current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<HubDriver, HubDriverEntity> managed =
+                (Map<HubDriver, HubDriverEntity>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (managed == null) {
+            managed = new IdentityHashMap<>();
+            TransactionSynchronizationManager.bindResource(RESOURCE_KEY, managed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+                }
+            });
+        }
+        return managed;
+    }
+}
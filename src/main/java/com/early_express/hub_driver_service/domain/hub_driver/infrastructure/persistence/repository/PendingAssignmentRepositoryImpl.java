@@ -0,0 +1,72 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.PendingAssignment;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.PendingAssignmentRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.PendingAssignmentEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.QPendingAssignmentEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.PendingAssignmentJpaRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PendingAssignment Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class PendingAssignmentRepositoryImpl implements PendingAssignmentRepository {
+
+    private final PendingAssignmentJpaRepository jpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    private static final QPendingAssignmentEntity pendingAssignment =
+            QPendingAssignmentEntity.pendingAssignmentEntity;
+
+    @Override
+    @Transactional
+    public PendingAssignment save(PendingAssignment pendingAssignment) {
+        PendingAssignmentEntity entity = jpaRepository.save(PendingAssignmentEntity.fromDomain(pendingAssignment));
+        return entity.toDomain();
+    }
+
+    @Override
+    public Optional<PendingAssignment> findByHubDeliveryId(String hubDeliveryId) {
+        return jpaRepository.findByHubDeliveryId(hubDeliveryId)
+                .map(PendingAssignmentEntity::toDomain);
+    }
+
+    @Override
+    public Optional<PendingAssignment> findOldestForUpdate() {
+        PendingAssignmentEntity entity = queryFactory
+                .selectFrom(pendingAssignment)
+                .orderBy(pendingAssignment.requestedAt.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetchFirst();
+
+        return Optional.ofNullable(entity)
+                .map(PendingAssignmentEntity::toDomain);
+    }
+
+    @Override
+    public List<String> findAllHubDeliveryIds() {
+        return queryFactory
+                .select(pendingAssignment.hubDeliveryId)
+                .from(pendingAssignment)
+                .orderBy(pendingAssignment.requestedAt.asc())
+                .fetch();
+    }
+
+    @Override
+    @Transactional
+    public void delete(PendingAssignment pendingAssignment) {
+        jpaRepository.deleteById(pendingAssignment.getId());
+    }
+}
@@ -0,0 +1,103 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.FleetStatsQueryDto.FleetStatsWindow;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryAssignedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 1시간 윈도우 운영 통계 집계 값 (Kafka Streams 상태 저장소 / 통계 토픽 값)
+ * - 집계는 단일 스트림 스레드에서만 갱신되므로 가변 객체로 유지
+ * - 가동률은 윈도우 내 완료 배송 소요시간 합 / (활동 드라이버 수 × 60분) 근사치
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FleetStatsAggregate {
+
+    private static final double WINDOW_MINUTES = 60.0;
+
+    private long windowStart;
+    private long windowEnd;
+    private long assignedCount;
+    private long completedCount;
+    private long cancelledCount;
+    private long totalDeliveryTimeMin;
+    private long maxDeliveryTimeMin;
+    private Set<String> activeDriverIds = new HashSet<>();
+
+    /**
+     * 집계 대상 이벤트 여부 (배정/완료/취소)
+     */
+    public static boolean supports(BaseEvent event) {
+        return event instanceof HubDriverDeliveryAssignedEvent
+                || event instanceof HubDriverDeliveryCompletedEvent
+                || event instanceof HubDriverDeliveryCancelledEvent;
+    }
+
+    /**
+     * 윈도우 시작 시각 기준 키 (고정 길이 → 사전순 = 시간순)
+     */
+    public static String windowKey(long windowStartEpochMilli) {
+        return String.format("%019d", windowStartEpochMilli);
+    }
+
+    public FleetStatsAggregate add(BaseEvent event) {
+        switch (event) {
+            case HubDriverDeliveryAssignedEvent assigned -> {
+                assignedCount++;
+                activeDriverIds.add(assigned.getDriverId());
+            }
+            case HubDriverDeliveryCompletedEvent completed -> {
+                completedCount++;
+                long deliveryTime = completed.getDeliveryTimeMin() != null ? completed.getDeliveryTimeMin() : 0L;
+                totalDeliveryTimeMin += deliveryTime;
+                maxDeliveryTimeMin = Math.max(maxDeliveryTimeMin, deliveryTime);
+                activeDriverIds.add(completed.getDriverId());
+            }
+            case HubDriverDeliveryCancelledEvent cancelled -> {
+                cancelledCount++;
+                activeDriverIds.add(cancelled.getDriverId());
+            }
+            default -> {
+                // 집계 대상 아님
+            }
+        }
+        return this;
+    }
+
+    public FleetStatsAggregate withWindow(long start, long end) {
+        this.windowStart = start;
+        this.windowEnd = end;
+        return this;
+    }
+
+    public FleetStatsWindow toWindow(ZoneId zoneId) {
+        int activeDrivers = activeDriverIds.size();
+        double utilization = activeDrivers > 0
+                ? Math.min(1.0, totalDeliveryTimeMin / (activeDrivers * WINDOW_MINUTES))
+                : 0.0;
+
+        return FleetStatsWindow.builder()
+                .windowStart(LocalDateTime.ofInstant(Instant.ofEpochMilli(windowStart), zoneId))
+                .windowEnd(LocalDateTime.ofInstant(Instant.ofEpochMilli(windowEnd), zoneId))
+                .assignedDeliveries(assignedCount)
+                .completedDeliveries(completedCount)
+                .cancelledDeliveries(cancelledCount)
+                .averageDeliveryTimeMin(completedCount > 0 ? (double) totalDeliveryTimeMin / completedCount : 0.0)
+                .maxDeliveryTimeMin(maxDeliveryTimeMin)
+                .activeDrivers(activeDrivers)
+                .utilization(utilization)
+                .build();
+    }
+}
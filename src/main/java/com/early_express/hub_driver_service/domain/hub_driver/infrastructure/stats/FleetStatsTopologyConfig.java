@@ -0,0 +1,149 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.TypedEventDeserializer;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.TypedEventSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.LogAndContinueExceptionHandler;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.GlobalKTable;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.WindowStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.support.serializer.JsonSerde;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 드라이버 운영 통계 Kafka Streams 토폴로지
+ *
+ * ${spring.application.name}-events (배정/완료/취소)
+ *   → 단일 키("fleet")로 재분배
+ *   → 1시간 텀블링 윈도우 집계 (window store)
+ *   → ${spring.application.name}-fleet-stats (compacted, 윈도우 시작 시각 키)
+ *   → GlobalKTable (모든 인스턴스가 전체 통계를 로컬 보관)
+ *
+ * 집계는 파티션을 가진 인스턴스 한 곳에서만 수행되지만,
+ * 결과는 GlobalKTable 로 모든 인스턴스에 복제되므로 조회 요청은 어느 인스턴스에서든 원격 호출 없이 처리
+ */
+@Slf4j
+@Configuration
+@EnableKafkaStreams
+@ConditionalOnProperty(name = "hub-driver.fleet-stats.enabled", havingValue = "true")
+public class FleetStatsTopologyConfig {
+
+    public static final String FLEET_KEY = "fleet";
+    public static final String HOURLY_WINDOW_STORE = "fleet-stats-hourly-window";
+    public static final String HOURLY_STATS_STORE = "fleet-stats-hourly";
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${hub-driver.fleet-stats.grace-period-ms:300000}")
+    private long gracePeriodMs;
+
+    @Value("${hub-driver.fleet-stats.retention-hours:168}")
+    private long retentionHours;
+
+    @Value("${hub-driver.fleet-stats.commit-interval-ms:10000}")
+    private long commitIntervalMs;
+
+    @Value("${hub-driver.fleet-stats.state-dir:/tmp/kafka-streams}")
+    private String stateDir;
+
+    @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
+    public KafkaStreamsConfiguration defaultKafkaStreamsConfig() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationName + "-fleet-stats");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.ByteArraySerde.class);
+        props.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, commitIntervalMs);
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+        // 등록되지 않은 타입/깨진 레코드는 건너뜀 (통계 집계가 전체 스트림을 멈추지 않도록)
+        props.put(StreamsConfig.DEFAULT_DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG,
+                LogAndContinueExceptionHandler.class);
+        return new KafkaStreamsConfiguration(props);
+    }
+
+    // 통계 토픽 - 윈도우당 최신 값만 필요하므로 compaction
+    @Bean
+    public NewTopic fleetStatsTopic() {
+        return TopicBuilder.name(fleetStatsTopicName())
+                .partitions(1)
+                .replicas(3)
+                .config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT)
+                .config("min.insync.replicas", "2")
+                .build();
+    }
+
+    @Bean
+    public GlobalKTable<String, FleetStatsAggregate> fleetStatsTopology(StreamsBuilder builder,
+                                                                       EventTypeRegistry eventTypeRegistry,
+                                                                       ObjectMapper objectMapper) {
+        Serde<BaseEvent> eventSerde = Serdes.serdeFrom(
+                new TypedEventSerializer(eventTypeRegistry),
+                new TypedEventDeserializer(eventTypeRegistry)
+        );
+        Serde<FleetStatsAggregate> aggregateSerde =
+                new JsonSerde<>(FleetStatsAggregate.class, objectMapper).noTypeInfo().ignoreTypeHeaders();
+        Duration retention = Duration.ofHours(retentionHours);
+
+        builder.stream(applicationName + "-events", Consumed.with(Serdes.String(), eventSerde))
+                .filter((key, event) -> event != null && FleetStatsAggregate.supports(event))
+                .groupBy((key, event) -> FLEET_KEY, Grouped.with(Serdes.String(), eventSerde))
+                .windowedBy(TimeWindows.ofSizeAndGrace(Duration.ofHours(1), Duration.ofMillis(gracePeriodMs)))
+                .aggregate(
+                        FleetStatsAggregate::new,
+                        (key, event, aggregate) -> aggregate.add(event),
+                        Materialized.<String, FleetStatsAggregate, WindowStore<Bytes, byte[]>>as(HOURLY_WINDOW_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(aggregateSerde)
+                                .withRetention(retention)
+                )
+                .toStream()
+                .map((windowedKey, aggregate) -> KeyValue.pair(
+                        FleetStatsAggregate.windowKey(windowedKey.window().start()),
+                        aggregate.withWindow(windowedKey.window().start(), windowedKey.window().end())
+                ))
+                .to(fleetStatsTopicName(), Produced.with(Serdes.String(), aggregateSerde));
+
+        return builder.globalTable(
+                fleetStatsTopicName(),
+                Consumed.with(Serdes.String(), aggregateSerde),
+                Materialized.<String, FleetStatsAggregate, KeyValueStore<Bytes, byte[]>>as(HOURLY_STATS_STORE)
+                        .withKeySerde(Serdes.String())
+                        .withValueSerde(aggregateSerde)
+        );
+    }
+
+    private String fleetStatsTopicName() {
+        return applicationName + "-fleet-stats";
+    }
+}
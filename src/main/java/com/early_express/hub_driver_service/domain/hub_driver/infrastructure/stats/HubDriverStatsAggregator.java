@@ -0,0 +1,210 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.dispatch.HubDriverDispatchIndex;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup.ProcessedEventStore;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverStatsCheckpointEntity;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 드라이버 통계 write-behind 집계기
+ *
+ * - 배송 완료 이벤트를 파티션별 / 드라이버별 delta 로 메모리에 누적 (이벤트 N건 → 드라이버당 행 1개 갱신)
+ * - flush 주기마다 또는 대기 건수가 상한을 넘으면 HubDriverStatsWriter 로 일괄 반영
+ * - 반영 트랜잭션에 파티션별 다음 오프셋(체크포인트)을 함께 기록
+ *   → 비정상 종료로 메모리 delta 가 유실되어도 재기동 시 체크포인트부터 재생하여 복구
+ * - 반영 실패 시 delta 를 다시 대기열에 합쳐 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+public class HubDriverStatsAggregator {
+
+    private final HubDriverStatsWriter hubDriverStatsWriter;
+    private final ProcessedEventStore processedEventStore;
+    private final HubDriverDispatchIndex dispatchIndex;
+    private final int maxPendingEvents;
+
+    // flush 는 한 번에 하나만 (리밸런스 시 진행 중인 flush 가 끝난 뒤 파티션을 넘기기 위함)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private Map<TopicPartition, PartitionBuffer> buffers = new HashMap<>();
+    private int pendingEvents;
+
+    public HubDriverStatsAggregator(
+            HubDriverStatsWriter hubDriverStatsWriter,
+            ProcessedEventStore processedEventStore,
+            HubDriverDispatchIndex dispatchIndex,
+            @Value("${hub-driver.driver-stats.max-pending-events:10000}") int maxPendingEvents) {
+        this.hubDriverStatsWriter = hubDriverStatsWriter;
+        this.processedEventStore = processedEventStore;
+        this.dispatchIndex = dispatchIndex;
+        this.maxPendingEvents = maxPendingEvents;
+    }
+
+    /**
+     * poll 단위 레코드 누적
+     * 완료 이벤트가 아니어도 오프셋은 전진 (체크포인트가 정체되지 않도록)
+     *
+     * @return 대기 건수가 상한 이상이면 true (호출한 컨슈머 스레드에서 즉시 flush)
+     */
+    public boolean accept(List<ConsumerRecord<String, BaseEvent>> records) {
+        List<String> eventIds = records.stream()
+                .filter(record -> record.value() instanceof HubDriverDeliveryCompletedEvent)
+                .map(record -> record.value().getEventId())
+                .toList();
+        Set<String> processed = eventIds.isEmpty() ? Set.of() : processedEventStore.findProcessed(eventIds);
+
+        synchronized (this) {
+            for (ConsumerRecord<String, BaseEvent> record : records) {
+                PartitionBuffer buffer = buffers.computeIfAbsent(
+                        new TopicPartition(record.topic(), record.partition()), tp -> new PartitionBuffer());
+                buffer.nextOffset = Math.max(buffer.nextOffset, record.offset() + 1);
+
+                if (record.value() instanceof HubDriverDeliveryCompletedEvent completed
+                        && !processed.contains(completed.getEventId())
+                        && buffer.add(completed)) {
+                    pendingEvents++;
+                }
+            }
+            return pendingEvents >= maxPendingEvents;
+        }
+    }
+
+    /**
+     * 대기 중인 delta 일괄 반영
+     *
+     * @return 반영 성공(또는 대기 없음) 여부
+     */
+    @Scheduled(
+            initialDelayString = "${hub-driver.driver-stats.flush-interval-ms:5000}",
+            fixedDelayString = "${hub-driver.driver-stats.flush-interval-ms:5000}"
+    )
+    public boolean flush() {
+        flushLock.lock();
+        try {
+            Map<TopicPartition, PartitionBuffer> batch;
+            int batchEvents;
+            synchronized (this) {
+                if (buffers.isEmpty()) {
+                    return true;
+                }
+                batch = buffers;
+                batchEvents = pendingEvents;
+                buffers = new HashMap<>();
+                pendingEvents = 0;
+            }
+
+            try {
+                List<HubDriverStats> updated = write(batch);
+                dispatchIndex.updateRecentDeliveries(updated);
+                log.debug("드라이버 통계 반영 - 완료 이벤트: {}건, 드라이버: {}명", batchEvents, updated.size());
+                return true;
+            } catch (RuntimeException e) {
+                log.error("드라이버 통계 반영 실패 - 다음 주기에 재시도, 대기: {}건", batchEvents, e);
+                restore(batch, batchEvents);
+                return false;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 파티션 회수 전 반영 (리밸런스)
+     * 반영에 실패하면 해당 파티션 delta 를 버림 - 새 소유자가 DB 체크포인트부터 재생하므로 중복/유실 없음
+     */
+    public void flushBeforeRevoke(Collection<TopicPartition> partitions) {
+        if (flush()) {
+            return;
+        }
+        synchronized (this) {
+            for (TopicPartition partition : partitions) {
+                PartitionBuffer dropped = buffers.remove(partition);
+                if (dropped != null) {
+                    pendingEvents -= dropped.events.size();
+                }
+            }
+        }
+        log.warn("드라이버 통계 반영 실패로 회수 파티션 집계를 폐기 (새 소유자가 재생) - partitions: {}", partitions);
+    }
+
+    // ===== Private Methods =====
+
+    private List<HubDriverStats> write(Map<TopicPartition, PartitionBuffer> batch) {
+        Map<String, HubDriverStats> deltas = new HashMap<>();
+        Map<String, Long> nextOffsets = new HashMap<>();
+        Map<String, String> eventTypesById = new HashMap<>();
+
+        batch.forEach((partition, buffer) -> {
+            nextOffsets.put(
+                    HubDriverStatsCheckpointEntity.partitionId(partition.topic(), partition.partition()),
+                    buffer.nextOffset);
+            buffer.deltas.forEach((driverId, delta) -> deltas.merge(driverId, delta, (left, right) -> {
+                left.merge(right);
+                return left;
+            }));
+            eventTypesById.putAll(buffer.events);
+        });
+
+        return hubDriverStatsWriter.write(deltas, nextOffsets, eventTypesById);
+    }
+
+    /**
+     * 반영 실패한 배치를 현재 대기열에 합침 (delta 병합은 순서와 무관)
+     */
+    private synchronized void restore(Map<TopicPartition, PartitionBuffer> batch, int batchEvents) {
+        batch.forEach((partition, failed) -> {
+            PartitionBuffer current = buffers.get(partition);
+            if (current != null) {
+                failed.absorb(current);
+            }
+            buffers.put(partition, failed);
+        });
+        pendingEvents += batchEvents;
+    }
+
+    /**
+     * 파티션별 대기 delta
+     */
+    private static class PartitionBuffer {
+
+        private long nextOffset = -1;
+        private final Map<String, HubDriverStats> deltas = new HashMap<>();
+        private final Map<String, String> events = new HashMap<>();
+
+        /**
+         * @return 새로 누적했으면 true (대기 중인 같은 eventId 는 무시)
+         */
+        boolean add(HubDriverDeliveryCompletedEvent event) {
+            if (events.putIfAbsent(event.getEventId(), event.getEventType()) != null) {
+                return false;
+            }
+            deltas.computeIfAbsent(event.getDriverId(), HubDriverStats::empty)
+                    .recordCompletion(event.getDeliveryTimeMin(), event.getOccurredAt());
+            return true;
+        }
+
+        void absorb(PartitionBuffer newer) {
+            nextOffset = Math.max(nextOffset, newer.nextOffset);
+            newer.deltas.forEach((driverId, delta) -> deltas.merge(driverId, delta, (left, right) -> {
+                left.merge(right);
+                return left;
+            }));
+            events.putAll(newer.events);
+        }
+    }
+}
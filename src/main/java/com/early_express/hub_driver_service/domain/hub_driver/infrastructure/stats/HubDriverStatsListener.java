@@ -0,0 +1,94 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup.ProcessedEventStore;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverStatsCheckpointEntity;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 드라이버 통계 집계 리스너
+ * - 자체 발행 이벤트(${spring.application.name}-events)를 별도 컨슈머 그룹으로 구독하여 HubDriverStatsAggregator 에 누적
+ * - 파티션 할당 시 Kafka 커밋 오프셋이 아닌 DB 체크포인트로 이동 (통계와 같은 트랜잭션에 기록된 위치)
+ *   체크포인트가 없으면 백필 기준 시각(baseline), 그마저 없으면 처음부터 재생
+ * - 파티션 할당 시 다른 인스턴스가 처리한 eventId 를 중복 판별 Bloom Filter 에 보충
+ * - 오프셋 커밋은 컨슈머 랙 모니터링 용도로만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubDriverStatsListener implements ConsumerSeekAware {
+
+    private final HubDriverStatsAggregator hubDriverStatsAggregator;
+    private final HubDriverStatsWriter hubDriverStatsWriter;
+    private final ProcessedEventStore processedEventStore;
+
+    @KafkaListener(
+            topics = "${spring.application.name}-events",
+            groupId = "${spring.application.name}-driver-stats",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void onDriverEvents(List<ConsumerRecord<String, BaseEvent>> records, Acknowledgment ack) {
+        for (ConsumerRecord<String, BaseEvent> record : records) {
+            if (record.value() == null) {
+                log.error("드라이버 이벤트 해석 실패 - topic: {}, partition: {}, offset: {}",
+                        record.topic(), record.partition(), record.offset());
+            }
+        }
+
+        // 대기 건수가 상한을 넘었는데 반영도 실패하면 수신을 멈추고 배치 재전달 (대기 중인 eventId 는 중복 누적하지 않음)
+        if (hubDriverStatsAggregator.accept(records) && !hubDriverStatsAggregator.flush()) {
+            throw new IllegalStateException("드라이버 통계 반영 실패 - 대기 중인 집계가 상한을 초과했습니다.");
+        }
+
+        ack.acknowledge();
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (assignments.isEmpty()) {
+            return;
+        }
+        processedEventStore.syncBloomFilter();
+
+        List<String> ids = new ArrayList<>();
+        ids.add(HubDriverStatsCheckpointEntity.BASELINE_ID);
+        assignments.keySet().forEach(partition ->
+                ids.add(HubDriverStatsCheckpointEntity.partitionId(partition.topic(), partition.partition())));
+
+        Map<String, Long> checkpoints = hubDriverStatsWriter.findCheckpoints(ids);
+        Long baseline = checkpoints.get(HubDriverStatsCheckpointEntity.BASELINE_ID);
+
+        for (TopicPartition partition : assignments.keySet()) {
+            Long offset = checkpoints.get(
+                    HubDriverStatsCheckpointEntity.partitionId(partition.topic(), partition.partition()));
+            if (offset != null) {
+                callback.seek(partition.topic(), partition.partition(), offset);
+            } else if (baseline != null) {
+                callback.seekToTimestamp(partition.topic(), partition.partition(), baseline);
+            } else {
+                callback.seekToBeginning(partition.topic(), partition.partition());
+            }
+        }
+
+        log.info("드라이버 통계 파티션 할당 - partitions: {}, checkpoints: {}", assignments.keySet(), checkpoints);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            hubDriverStatsAggregator.flushBeforeRevoke(partitions);
+        }
+    }
+}
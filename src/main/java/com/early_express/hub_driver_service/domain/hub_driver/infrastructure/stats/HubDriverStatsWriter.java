@@ -0,0 +1,94 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverStatsRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup.ProcessedEventStore;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverStatsCheckpointEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.HubDriverStatsCheckpointJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 드라이버 통계 일괄 반영
+ * 통계 갱신 / 파티션 체크포인트 / 처리 이벤트 기록을 한 트랜잭션에서 저장
+ * → 커밋되면 체크포인트 이전 이벤트는 모두 반영된 것이고, 롤백되면 체크포인트부터 다시 재생
+ */
+@Component
+@RequiredArgsConstructor
+public class HubDriverStatsWriter {
+
+    private final HubDriverStatsRepository hubDriverStatsRepository;
+    private final HubDriverStatsCheckpointJpaRepository checkpointJpaRepository;
+    private final ProcessedEventStore processedEventStore;
+
+    /**
+     * @param deltas         드라이버별 집계 delta
+     * @param nextOffsets    체크포인트 ID 별 다음에 읽을 오프셋
+     * @param eventTypesById 반영한 완료 이벤트
+     * @return 반영 후 드라이버 통계
+     */
+    @Transactional
+    public List<HubDriverStats> write(Map<String, HubDriverStats> deltas,
+                                      Map<String, Long> nextOffsets,
+                                      Map<String, String> eventTypesById) {
+        Map<String, HubDriverStats> stored = hubDriverStatsRepository.findAllByDriverIds(deltas.keySet());
+
+        List<HubDriverStats> updated = new ArrayList<>(deltas.size());
+        deltas.forEach((driverId, delta) -> {
+            HubDriverStats stats = stored.getOrDefault(driverId, HubDriverStats.empty(driverId));
+            stats.merge(delta);
+            updated.add(stats);
+        });
+        hubDriverStatsRepository.saveAll(updated);
+
+        saveCheckpoints(nextOffsets);
+        processedEventStore.markProcessed(eventTypesById);
+
+        return updated;
+    }
+
+    /**
+     * 재생 시작점 조회 (파티션 체크포인트 + 백필 기준 시각)
+     * 복제 지연으로 과거 체크포인트를 읽으면 중복 집계되므로 레플리카 라우팅 대상(readOnly)에서 제외
+     */
+    @Transactional
+    public Map<String, Long> findCheckpoints(List<String> ids) {
+        return checkpointJpaRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(
+                        HubDriverStatsCheckpointEntity::getId,
+                        HubDriverStatsCheckpointEntity::getPosition));
+    }
+
+    // ===== Private Methods =====
+
+    private void saveCheckpoints(Map<String, Long> nextOffsets) {
+        if (nextOffsets.isEmpty()) {
+            return;
+        }
+
+        Map<String, HubDriverStatsCheckpointEntity> existing = checkpointJpaRepository
+                .findAllById(nextOffsets.keySet()).stream()
+                .collect(Collectors.toMap(HubDriverStatsCheckpointEntity::getId, Function.identity()));
+
+        List<HubDriverStatsCheckpointEntity> created = new ArrayList<>();
+        nextOffsets.forEach((id, offset) -> {
+            HubDriverStatsCheckpointEntity checkpoint = existing.get(id);
+            if (checkpoint != null) {
+                checkpoint.advanceTo(offset);
+            } else {
+                created.add(HubDriverStatsCheckpointEntity.of(id, offset));
+            }
+        });
+
+        if (!created.isEmpty()) {
+            checkpointJpaRepository.saveAll(created);
+        }
+    }
+}
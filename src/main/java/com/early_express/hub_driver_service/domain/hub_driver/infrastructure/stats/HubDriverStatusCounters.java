@@ -0,0 +1,156 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverStatusCountReader;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusSummary;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.QHubDriverEntity;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상태별 드라이버 수 카운터
+ * - 저장 시점의 상태 전이(이전 상태 → 현재 상태)를 커밋 이후 원자적으로 반영 → 조회는 O(1)
+ * - 기동 시 및 주기적으로 DB GROUP BY 1회로 보정 (다른 인스턴스의 전이, 반영 누락 보정)
+ * - 보정 쿼리 도중 반영된 전이는 보정 결과에 다시 더해 유실하지 않음
+ *   (쿼리 직전에 커밋되어 양쪽에 모두 잡힌 전이는 다음 보정에서 수렴)
+ */
+@Slf4j
+@Component
+public class HubDriverStatusCounters implements HubDriverStatusCountReader {
+
+    private static final QHubDriverEntity hubDriver = QHubDriverEntity.hubDriverEntity;
+
+    private final JPAQueryFactory queryFactory;
+
+    private final Map<HubDriverStatus, AtomicLong> counts = new EnumMap<>(HubDriverStatus.class);
+    // 상태별 누적 전이량 (보정 쿼리 도중 반영된 전이 계산용)
+    private final Map<HubDriverStatus, AtomicLong> applied = new EnumMap<>(HubDriverStatus.class);
+    private volatile LocalDateTime reconciledAt;
+
+    public HubDriverStatusCounters(JPAQueryFactory queryFactory, MeterRegistry meterRegistry) {
+        this.queryFactory = queryFactory;
+        for (HubDriverStatus status : HubDriverStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            counts.put(status, count);
+            applied.put(status, new AtomicLong());
+            Gauge.builder("hub_driver.drivers", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .description("상태별 드라이버 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 커밋 이후 상태 전이 반영
+     * 트랜잭션 밖에서 호출되면 즉시 반영
+     *
+     * @param previousStatus 저장 전 상태 (신규 드라이버면 null)
+     * @param status         저장 후 상태
+     */
+    public void recordAfterCommit(HubDriverStatus previousStatus, HubDriverStatus status) {
+        if (previousStatus == status) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(previousStatus, status);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(previousStatus, status);
+            }
+        });
+    }
+
+    @Override
+    public HubDriverStatusSummary getSummary() {
+        long available = count(HubDriverStatus.AVAILABLE);
+        long onDelivery = count(HubDriverStatus.ON_DELIVERY);
+        long offDuty = count(HubDriverStatus.OFF_DUTY);
+        long inactive = count(HubDriverStatus.INACTIVE);
+
+        return HubDriverStatusSummary.builder()
+                .available(available)
+                .onDelivery(onDelivery)
+                .offDuty(offDuty)
+                .inactive(inactive)
+                .total(available + onDelivery + offDuty + inactive)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    /**
+     * DB 기준 보정
+     * 트랜잭션 밖에서 조회하므로 레플리카 라우팅 대상이 아님 (프라이머리 기준)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${hub-driver.status-counters.reconcile-interval-ms:30000}",
+            fixedDelayString = "${hub-driver.status-counters.reconcile-interval-ms:30000}"
+    )
+    public synchronized void reconcile() {
+        Map<HubDriverStatus, Long> appliedBefore = new EnumMap<>(HubDriverStatus.class);
+        applied.forEach((status, value) -> appliedBefore.put(status, value.get()));
+
+        List<Tuple> rows = queryFactory
+                .select(hubDriver.status, hubDriver.count())
+                .from(hubDriver)
+                .where(hubDriver.isDeleted.eq(false))
+                .groupBy(hubDriver.status)
+                .fetch();
+
+        Map<HubDriverStatus, Long> dbCounts = new EnumMap<>(HubDriverStatus.class);
+        rows.forEach(row -> dbCounts.put(row.get(hubDriver.status), row.get(hubDriver.count())));
+
+        synchronized (counts) {
+            for (HubDriverStatus status : HubDriverStatus.values()) {
+                long inFlight = applied.get(status).get() - appliedBefore.get(status);
+                long expected = dbCounts.getOrDefault(status, 0L) + inFlight;
+                long previous = counts.get(status).getAndSet(expected);
+                if (previous != expected) {
+                    log.debug("드라이버 상태 카운터 보정 - status: {}, {} → {}", status, previous, expected);
+                }
+            }
+        }
+        reconciledAt = LocalDateTime.now();
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 보정 값 설정과 겹치지 않도록 짧게 잠금 (보정의 DB 조회 중에는 잠그지 않음)
+     */
+    private void apply(HubDriverStatus previousStatus, HubDriverStatus status) {
+        synchronized (counts) {
+            if (previousStatus != null) {
+                counts.get(previousStatus).decrementAndGet();
+                applied.get(previousStatus).decrementAndGet();
+            }
+            if (status != null) {
+                counts.get(status).incrementAndGet();
+                applied.get(status).incrementAndGet();
+            }
+        }
+    }
+
+    private long count(HubDriverStatus status) {
+        return Math.max(counts.get(status).get(), 0L);
+    }
+}
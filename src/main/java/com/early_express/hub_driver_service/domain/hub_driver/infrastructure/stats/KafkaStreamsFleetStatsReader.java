@@ -0,0 +1,82 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.FleetStatsReader;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.FleetStatsQueryDto.FleetStatsWindow;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kafka Streams 상태 저장소 기반 운영 통계 조회 (Interactive Query)
+ * GlobalKTable 저장소를 조회하므로 모든 인스턴스가 로컬에서 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "hub-driver.fleet-stats.enabled", havingValue = "true")
+public class KafkaStreamsFleetStatsReader implements FleetStatsReader {
+
+    private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+
+    @Override
+    public List<FleetStatsWindow> findHourly(LocalDateTime from, LocalDateTime to) {
+        ReadOnlyKeyValueStore<String, FleetStatsAggregate> store = store();
+
+        String fromKey = FleetStatsAggregate.windowKey(from.atZone(ZONE_ID).toInstant().toEpochMilli());
+        String toKey = FleetStatsAggregate.windowKey(to.atZone(ZONE_ID).toInstant().toEpochMilli() - 1);
+
+        List<FleetStatsWindow> windows = new ArrayList<>();
+        try (KeyValueIterator<String, FleetStatsAggregate> iterator = store.range(fromKey, toKey)) {
+            iterator.forEachRemaining(entry -> windows.add(entry.value.toWindow(ZONE_ID)));
+        } catch (InvalidStateStoreException e) {
+            throw unavailable(e);
+        }
+        return windows;
+    }
+
+    // ===== Private Methods =====
+
+    private ReadOnlyKeyValueStore<String, FleetStatsAggregate> store() {
+        KafkaStreams kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (kafkaStreams == null || kafkaStreams.state() != KafkaStreams.State.RUNNING) {
+            throw new HubDriverException(
+                    HubDriverErrorCode.FLEET_STATS_UNAVAILABLE,
+                    "운영 통계 스트림이 아직 준비되지 않았습니다."
+            );
+        }
+
+        try {
+            return kafkaStreams.store(StoreQueryParameters.fromNameAndType(
+                    FleetStatsTopologyConfig.HOURLY_STATS_STORE,
+                    QueryableStoreTypes.keyValueStore()
+            ));
+        } catch (InvalidStateStoreException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private HubDriverException unavailable(InvalidStateStoreException e) {
+        log.warn("운영 통계 저장소 조회 실패 - {}", e.getMessage());
+        return new HubDriverException(
+                HubDriverErrorCode.FLEET_STATS_UNAVAILABLE,
+                "운영 통계 저장소를 조회할 수 없습니다. (리밸런싱 중)"
+        );
+    }
+}
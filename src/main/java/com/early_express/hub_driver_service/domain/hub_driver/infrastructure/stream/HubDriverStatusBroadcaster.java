@@ -0,0 +1,191 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stream;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverStatusStream;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusChange;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverErrorCode;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 드라이버 상태 전이 브로드캐스터 (인스턴스당 1개)
+ *
+ * - 상태 전이 1건을 모든 구독자 버퍼에 넣고, 구독자별 전송은 가상 스레드에서 순서대로 처리
+ *   (전송이 응답 쓰기에서 막혀도 해당 구독자만 대기)
+ * - 구독자 버퍼는 buffer-size 로 제한, 가득 차면 가장 오래된 변경을 버림 (drop-oldest)
+ *   → 느린 구독자는 최신 상태 위주로 받고, 발행 스레드와 다른 구독자는 막히지 않음
+ * - 전송 실패(연결 종료) 시 구독 해지
+ */
+@Slf4j
+@Component
+public class HubDriverStatusBroadcaster implements HubDriverStatusStream {
+
+    private final Set<BufferedSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Counter droppedChanges;
+
+    public HubDriverStatusBroadcaster(
+            MeterRegistry meterRegistry,
+            @Value("${hub-driver.status-stream.buffer-size:256}") int bufferSize,
+            @Value("${hub-driver.status-stream.max-subscribers:500}") int maxSubscribers) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.sender = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("hub-driver-status-stream-", 0).factory());
+
+        Gauge.builder("hub_driver.status_stream.subscribers", subscriptions, Set::size)
+                .register(meterRegistry);
+        this.droppedChanges = Counter.builder("hub_driver.status_stream.dropped")
+                .description("구독자 버퍼 초과로 버린 상태 전이 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Subscription subscribe(Subscriber subscriber) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new HubDriverException(
+                    HubDriverErrorCode.STATUS_STREAM_UNAVAILABLE,
+                    "상태 스트림 구독자 수가 상한(" + maxSubscribers + ")에 도달했습니다."
+            );
+        }
+
+        BufferedSubscription subscription = new BufferedSubscription(subscriber);
+        subscriptions.add(subscription);
+        log.debug("상태 스트림 구독 - subscribers: {}", subscriptions.size());
+        return subscription;
+    }
+
+    /**
+     * 상태 전이 발행 (구독자 버퍼에 넣기만 하고 바로 반환)
+     */
+    public void publish(HubDriverStatusChange change) {
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.offer(change);
+        }
+    }
+
+    /**
+     * 연결 유지 확인 (버퍼가 빈 구독자에게만 전송)
+     */
+    @Scheduled(
+            initialDelayString = "${hub-driver.status-stream.heartbeat-interval-ms:15000}",
+            fixedDelayString = "${hub-driver.status-stream.heartbeat-interval-ms:15000}"
+    )
+    public void heartbeat() {
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.offerHeartbeat();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.clear();
+        sender.shutdownNow();
+    }
+
+    /**
+     * 구독자별 제한 버퍼
+     * 전송은 구독자당 한 번에 한 스레드만 수행 (draining) 하여 순서 보장
+     */
+    private class BufferedSubscription implements Subscription {
+
+        private final Subscriber subscriber;
+        private final ArrayDeque<HubDriverStatusChange> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private boolean heartbeatPending;
+        private volatile boolean cancelled;
+
+        BufferedSubscription(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+
+        void offer(HubDriverStatusChange change) {
+            synchronized (this) {
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    droppedChanges.increment();
+                }
+                buffer.addLast(change);
+            }
+            scheduleDrain();
+        }
+
+        void offerHeartbeat() {
+            synchronized (this) {
+                if (!buffer.isEmpty()) {
+                    return;
+                }
+                heartbeatPending = true;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!cancelled && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (!cancelled) {
+                HubDriverStatusChange next;
+                boolean heartbeat;
+                synchronized (this) {
+                    next = buffer.pollFirst();
+                    heartbeat = next == null && heartbeatPending;
+                    heartbeatPending = false;
+                }
+
+                if (next == null && !heartbeat) {
+                    draining.set(false);
+                    // 해제 직전에 들어온 변경이 있으면 이어서 전송
+                    synchronized (this) {
+                        if (buffer.isEmpty() && !heartbeatPending) {
+                            return;
+                        }
+                    }
+                    if (!draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+
+                try {
+                    if (next != null) {
+                        subscriber.onChange(next);
+                    } else {
+                        subscriber.onHeartbeat();
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("상태 스트림 전송 실패로 구독 해지 - {}", e.getMessage());
+                    cancel();
+                }
+            }
+            draining.set(false);
+        }
+    }
+}
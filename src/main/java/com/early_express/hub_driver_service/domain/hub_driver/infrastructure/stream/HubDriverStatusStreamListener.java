@@ -0,0 +1,101 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stream;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusChange;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryAssignedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCancelledEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverShiftChangedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 드라이버 상태 전이 스트림 리스너
+ * - 자체 발행 이벤트(${spring.application.name}-events)를 호스트별 고정 컨슈머 그룹(hub-driver.instance-id)으로 구독
+ *   → 어느 인스턴스에서 커밋된 전이든 모든 인스턴스의 구독자에게 전달 (DB 조회 없음)
+ *   → 재기동해도 같은 그룹을 재사용하므로 고아 컨슈머 그룹이 쌓이지 않음
+ * - 파티션 할당 시 끝으로 이동해 재기동 중 밀린 전이는 재생하지 않음 (구독자는 연결 이후 전이만 수신)
+ * - 배정/완료/취소/근무 상태 변경만 상태 전이로 변환해 HubDriverStatusBroadcaster 로 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class HubDriverStatusStreamListener implements ConsumerSeekAware {
+
+    private final HubDriverStatusBroadcaster hubDriverStatusBroadcaster;
+
+    @KafkaListener(
+            topics = "${spring.application.name}-events",
+            groupId = "${spring.application.name}-status-stream-${hub-driver.instance-id:local}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onDriverEvents(List<ConsumerRecord<String, BaseEvent>> records, Acknowledgment ack) {
+        for (ConsumerRecord<String, BaseEvent> record : records) {
+            HubDriverStatusChange change = toStatusChange(record.value());
+            if (change != null) {
+                hubDriverStatusBroadcaster.publish(change);
+            }
+        }
+        ack.acknowledge();
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+
+    // ===== Private Methods =====
+
+    private HubDriverStatusChange toStatusChange(BaseEvent event) {
+        if (event instanceof HubDriverDeliveryAssignedEvent assigned) {
+            return change(assigned, assigned.getDriverId(), assigned.getUserId(),
+                    HubDriverStatus.AVAILABLE, HubDriverStatus.ON_DELIVERY)
+                    .hubDeliveryId(assigned.getHubDeliveryId())
+                    .occurredAt(assigned.getOccurredAt())
+                    .build();
+        }
+        if (event instanceof HubDriverDeliveryCompletedEvent completed) {
+            return change(completed, completed.getDriverId(), completed.getUserId(),
+                    HubDriverStatus.ON_DELIVERY, HubDriverStatus.AVAILABLE)
+                    .hubDeliveryId(completed.getHubDeliveryId())
+                    .occurredAt(completed.getOccurredAt())
+                    .build();
+        }
+        if (event instanceof HubDriverDeliveryCancelledEvent cancelled) {
+            return change(cancelled, cancelled.getDriverId(), cancelled.getUserId(),
+                    HubDriverStatus.ON_DELIVERY, HubDriverStatus.AVAILABLE)
+                    .hubDeliveryId(cancelled.getHubDeliveryId())
+                    .occurredAt(cancelled.getOccurredAt())
+                    .build();
+        }
+        if (event instanceof HubDriverShiftChangedEvent shiftChanged) {
+            return change(shiftChanged, shiftChanged.getDriverId(), shiftChanged.getUserId(),
+                    shiftChanged.getPreviousStatus(), shiftChanged.getStatus())
+                    .occurredAt(shiftChanged.getOccurredAt())
+                    .build();
+        }
+        // 대기 배정(DEFERRED_DRIVER_ASSIGNED)은 같은 배정의 HUB_DRIVER_DELIVERY_ASSIGNED 로 전달됨
+        return null;
+    }
+
+    private HubDriverStatusChange.HubDriverStatusChangeBuilder change(
+            BaseEvent event, String driverId, String userId,
+            HubDriverStatus previousStatus, HubDriverStatus status) {
+        return HubDriverStatusChange.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .driverId(driverId)
+                .userId(userId)
+                .previousStatus(previousStatus)
+                .status(status);
+    }
+}
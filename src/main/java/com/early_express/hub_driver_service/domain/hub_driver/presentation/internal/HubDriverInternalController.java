@@ -2,11 +2,17 @@ package com.early_express.hub_driver_service.domain.hub_driver.presentation.inte
 
 import com.early_express.hub_driver_service.domain.hub_driver.application.command.HubDriverCommandService;
 import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.*;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverQueryService;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverBulkResult;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.request.DriverAssignRequest;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.request.DriverBatchAssignRequest;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.request.DriverBulkLookupRequest;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.request.DriverCancelRequest;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.request.DriverCompleteRequest;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.request.HubDriverCreateRequest;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.response.DriverAssignResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.response.DriverBatchAssignResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.response.DriverBulkLookupResponse;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.response.DriverOperationResponse;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.response.HubDriverCreateResponse;
 import jakarta.validation.Valid;
@@ -25,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class HubDriverInternalController {
 
     private final HubDriverCommandService hubDriverCommandService;
+    private final HubDriverQueryService hubDriverQueryService;
 
     /**
      * 허브 간 배송 담당자 생성
@@ -69,6 +76,46 @@ public class HubDriverInternalController {
         return DriverAssignResponse.from(result);
     }
 
+    /**
+     * 드라이버 일괄 자동 배정
+     * POST /v1/hub-driver/internal/drivers/assign/batch
+     *
+     * HubDelivery 경로 생성 시 여러 구간을 한 번에 배정
+     * 가용 드라이버가 부족하면 해당 건만 NO_AVAILABLE_DRIVER 로 실패 처리
+     */
+    @PostMapping("/drivers/assign/batch")
+    public DriverBatchAssignResponse assignDrivers(@Valid @RequestBody DriverBatchAssignRequest request) {
+        log.info("[Internal] 드라이버 일괄 배정 요청 - 요청 건수: {}", request.getHubDeliveryIds().size());
+
+        BatchAssignDeliveryCommand command = request.toCommand();
+        BatchAssignResult result = hubDriverCommandService.assignDeliveries(command);
+
+        log.info("[Internal] 드라이버 일괄 배정 완료 - 배정: {}건, 실패: {}건",
+                result.getAssignedCount(), result.getFailedCount());
+
+        return DriverBatchAssignResponse.from(result);
+    }
+
+    /**
+     * 드라이버 일괄 조회
+     * POST /v1/hub-driver/internal/drivers/lookup
+     *
+     * 배송 목록 등에서 드라이버 정보를 행마다 조회하지 않고 한 번에 조회
+     * 찾지 못한 ID 는 실패 없이 missingIds 로 반환
+     */
+    @PostMapping("/drivers/lookup")
+    public DriverBulkLookupResponse lookupDrivers(@Valid @RequestBody DriverBulkLookupRequest request) {
+        log.debug("[Internal] 드라이버 일괄 조회 요청 - idType: {}, 요청 건수: {}",
+                request.resolveIdType(), request.getIds().size());
+
+        HubDriverBulkResult result = switch (request.resolveIdType()) {
+            case DRIVER_ID -> hubDriverQueryService.findAllByIds(request.getIds());
+            case USER_ID -> hubDriverQueryService.findAllByUserIds(request.getIds());
+        };
+
+        return DriverBulkLookupResponse.from(result);
+    }
+
     /**
      * 배송 완료 통지
      * PUT /v1/hub-driver/internal/drivers/{driverId}/complete
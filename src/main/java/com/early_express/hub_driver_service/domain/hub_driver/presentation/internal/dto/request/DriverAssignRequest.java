@@ -20,12 +20,19 @@ public class DriverAssignRequest {
     @NotBlank(message = "허브 배송 ID는 필수입니다.")
     private String hubDeliveryId;
 
+    /**
+     * 가용 드라이버가 없을 때 대기 큐에 등록할지 여부
+     * true 이면 NO_AVAILABLE_DRIVER 대신 PENDING 응답 후, 배정 시 이벤트로 통지
+     */
+    private boolean waitIfUnavailable;
+
     /**
      * Request → Command 변환
      */
     public AssignDeliveryCommand toCommand() {
         return AssignDeliveryCommand.builder()
                 .hubDeliveryId(this.hubDeliveryId)
+                .waitIfUnavailable(this.waitIfUnavailable)
                 .build();
     }
 
@@ -0,0 +1,52 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.request;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.BatchAssignDeliveryCommand;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 드라이버 일괄 자동 배정 요청 (Internal)
+ * HubDelivery Service → HubDriver Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverBatchAssignRequest {
+
+    @NotEmpty(message = "허브 배송 ID 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 배정할 수 있습니다.")
+    private List<@NotBlank(message = "허브 배송 ID는 필수입니다.") String> hubDeliveryIds;
+
+    /**
+     * 결과가 요청 건마다 1건이 되도록 중복 ID 거부
+     */
+    @AssertTrue(message = "허브 배송 ID는 중복될 수 없습니다.")
+    public boolean isHubDeliveryIdsUnique() {
+        return hubDeliveryIds == null || new HashSet<>(hubDeliveryIds).size() == hubDeliveryIds.size();
+    }
+
+    /**
+     * Request → Command 변환
+     */
+    public BatchAssignDeliveryCommand toCommand() {
+        return BatchAssignDeliveryCommand.builder()
+                .hubDeliveryIds(this.hubDeliveryIds)
+                .build();
+    }
+
+    public static DriverBatchAssignRequest of(List<String> hubDeliveryIds) {
+        return DriverBatchAssignRequest.builder()
+                .hubDeliveryIds(hubDeliveryIds)
+                .build();
+    }
+}
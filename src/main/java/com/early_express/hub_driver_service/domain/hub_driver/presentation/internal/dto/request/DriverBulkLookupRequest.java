@@ -0,0 +1,45 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 드라이버 일괄 조회 요청 (Internal)
+ * 배송 목록 화면 등에서 행마다 단건 조회하지 않고 한 번에 조회
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverBulkLookupRequest {
+
+    @NotEmpty(message = "조회할 ID 목록은 필수입니다.")
+    @Size(max = 500, message = "한 번에 최대 500건까지 조회할 수 있습니다.")
+    private List<@NotBlank(message = "조회할 ID는 필수입니다.") String> ids;
+
+    // ids 의 종류 (생략 시 DRIVER_ID)
+    private IdType idType;
+
+    public IdType resolveIdType() {
+        return idType != null ? idType : IdType.DRIVER_ID;
+    }
+
+    public static DriverBulkLookupRequest of(List<String> ids, IdType idType) {
+        return DriverBulkLookupRequest.builder()
+                .ids(ids)
+                .idType(idType)
+                .build();
+    }
+
+    public enum IdType {
+        DRIVER_ID,
+        USER_ID
+    }
+}
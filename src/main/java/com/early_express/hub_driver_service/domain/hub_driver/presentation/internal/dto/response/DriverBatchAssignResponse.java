@@ -0,0 +1,65 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.response;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.BatchAssignItem;
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.BatchAssignResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 드라이버 일괄 배정 응답 (Internal)
+ * HubDriver Service → HubDelivery Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverBatchAssignResponse {
+
+    private List<Item> results;
+    private int assignedCount;
+    private int failedCount;
+
+    /**
+     * Command Result → Response 변환
+     */
+    public static DriverBatchAssignResponse from(BatchAssignResult result) {
+        return DriverBatchAssignResponse.builder()
+                .results(result.getResults().stream()
+                        .map(Item::from)
+                        .toList())
+                .assignedCount(result.getAssignedCount())
+                .failedCount(result.getFailedCount())
+                .build();
+    }
+
+    /**
+     * 허브 배송 건별 배정 결과
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String hubDeliveryId;
+        private boolean success;
+        private DriverAssignResponse assignment;
+        private String errorCode;
+        private String errorMessage;
+
+        public static Item from(BatchAssignItem item) {
+            return Item.builder()
+                    .hubDeliveryId(item.getHubDeliveryId())
+                    .success(item.isSuccess())
+                    .assignment(item.getAssignment() != null
+                            ? DriverAssignResponse.from(item.getAssignment())
+                            : null)
+                    .errorCode(item.getErrorCode())
+                    .errorMessage(item.getErrorMessage())
+                    .build();
+        }
+    }
+}
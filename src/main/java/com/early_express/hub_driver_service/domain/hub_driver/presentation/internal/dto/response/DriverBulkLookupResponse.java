@@ -0,0 +1,70 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.internal.dto.response;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverBulkResult;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 드라이버 일괄 조회 응답 (Internal)
+ * drivers 의 key 는 요청한 ID (driverId 또는 userId)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverBulkLookupResponse {
+
+    private Map<String, Item> drivers;
+    private List<String> missingIds;
+    private int foundCount;
+
+    /**
+     * Query Result → Response 변환
+     */
+    public static DriverBulkLookupResponse from(HubDriverBulkResult result) {
+        Map<String, Item> drivers = new LinkedHashMap<>();
+        result.getDrivers().forEach((id, driver) -> drivers.put(id, Item.from(driver)));
+
+        return DriverBulkLookupResponse.builder()
+                .drivers(drivers)
+                .missingIds(result.getMissingIds())
+                .foundCount(drivers.size())
+                .build();
+    }
+
+    /**
+     * 드라이버 요약 정보
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String driverId;
+        private String userId;
+        private String name;
+        private String status;
+        private String currentDeliveryId;
+        private Long totalDeliveries;
+        private Long averageDeliveryTimeMin;
+
+        public static Item from(HubDriverResponse driver) {
+            return Item.builder()
+                    .driverId(driver.getDriverId())
+                    .userId(driver.getUserId())
+                    .name(driver.getName())
+                    .status(driver.getStatus().name())
+                    .currentDeliveryId(driver.getCurrentDeliveryId())
+                    .totalDeliveries(driver.getTotalDeliveries())
+                    .averageDeliveryTimeMin(driver.getAverageDeliveryTimeMin())
+                    .build();
+        }
+    }
+}
@@ -1,22 +1,52 @@
 package com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master;
 
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.DeliveryLogQueryService;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.FleetStatsQueryService;
 import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverQueryService;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverStatusStream;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.DeliveryLogQueryDto.DeliveryLogCursorPage;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.FleetStatsQueryDto.FleetStatsResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverCursorPage;
 import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverDetailResponse;
 import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusChange;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusSummary;
 import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterDeliveryLogResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterDriverStatusChangeResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterDriverStatusSummaryResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterFleetStatsResponse;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterHubDriverDetailResponse;
 import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterHubDriverResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.export.DriverExportFormat;
+import com.early_express.hub_driver_service.global.common.dto.CursorInfo;
 import com.early_express.hub_driver_service.global.common.dto.PageInfo;
 import com.early_express.hub_driver_service.global.presentation.dto.ApiResponse;
 import com.early_express.hub_driver_service.global.presentation.dto.PageResponse;
+import com.early_express.hub_driver_service.global.presentation.exception.MasterAccessDeniedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -29,7 +59,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class HubDriverMasterController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_FLEET_STATS_HOURS = 168;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final String MASTER_ROLE = "MASTER";
+
     private final HubDriverQueryService queryService;
+    private final FleetStatsQueryService fleetStatsQueryService;
+    private final DeliveryLogQueryService deliveryLogQueryService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${hub-driver.status-stream.timeout-ms:1800000}")
+    private long statusStreamTimeoutMs;
 
     /**
      * 드라이버 목록 조회
@@ -45,7 +86,7 @@ public class HubDriverMasterController {
 
         log.info("마스터 드라이버 목록 조회 - status: {}", status);
 
-        // TODO: roles 검증 (MASTER 권한 확인)
+        requireMaster(roles);
 
         Page<HubDriverResponse> queryResult = status != null
                 ? queryService.findByStatus(status, pageable)
@@ -58,6 +99,83 @@ public class HubDriverMasterController {
         return ApiResponse.success(PageResponse.of(content, PageInfo.of(queryResult)));
     }
 
+    /**
+     * 드라이버 목록 커서 조회
+     * GET /v1/hub-driver/web/master/drivers/cursor
+     *
+     * 생성일 내림차순 Keyset 페이지네이션 (응답의 cursorInfo.nextCursor 로 다음 페이지 요청)
+     * 전체 건수가 필요하면 includeTotal=true (COUNT 쿼리 추가)
+     */
+    @GetMapping("/drivers/cursor")
+    public ApiResponse<PageResponse<MasterHubDriverResponse>> getDriversByCursor(
+            @RequestParam(required = false) HubDriverStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("마스터 드라이버 커서 목록 조회 - status: {}, size: {}", status, size);
+
+        requireMaster(roles);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        HubDriverCursorPage queryResult = queryService.findAllByCursor(status, cursor, pageSize, includeTotal);
+
+        List<MasterHubDriverResponse> content = queryResult.getContent().stream()
+                .map(MasterHubDriverResponse::from)
+                .toList();
+
+        CursorInfo cursorInfo = CursorInfo.of(
+                queryResult.getSize(),
+                content.size(),
+                queryResult.getNextCursor(),
+                queryResult.getTotalElements()
+        );
+
+        return ApiResponse.success(PageResponse.of(content, cursorInfo));
+    }
+
+    /**
+     * 드라이버 전체 내보내기
+     * GET /v1/hub-driver/web/master/drivers/export?format=NDJSON|CSV
+     *
+     * 페이지/ApiResponse 로 감싸지 않고 JDBC 커서에서 읽은 행을 바로 응답 스트림에 씀
+     * (행 수와 무관하게 메모리 사용량 일정, 응답 시작 후 실패하면 스트림이 중간에 끊김)
+     */
+    @GetMapping("/drivers/export")
+    public ResponseEntity<StreamingResponseBody> exportDrivers(
+            @RequestParam(required = false) HubDriverStatus status,
+            @RequestParam(defaultValue = "NDJSON") DriverExportFormat format,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("마스터 드라이버 전체 내보내기 - status: {}, format: {}", status, format);
+
+        requireMaster(roles);
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+            format.writeHeader(writer);
+            queryService.exportAll(status, row -> {
+                try {
+                    format.writeRow(writer, MasterHubDriverResponse.from(row), objectMapper);
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 - 커서 조회를 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"hub-drivers." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+
     /**
      * 드라이버 상세 조회
      * GET /v1/hub-driver/web/master/drivers/{driverId}
@@ -70,11 +188,157 @@ public class HubDriverMasterController {
 
         log.info("마스터 드라이버 상세 조회 - driverId: {}", driverId);
 
-        // TODO: roles 검증 (MASTER 권한 확인)
+        requireMaster(roles);
 
         HubDriverDetailResponse queryResult = queryService.findById(driverId);
         MasterHubDriverDetailResponse response = MasterHubDriverDetailResponse.from(queryResult);
 
         return ApiResponse.success(response);
     }
+
+    /**
+     * 드라이버 배송 이력 커서 조회
+     * GET /v1/hub-driver/web/master/drivers/{driverId}/deliveries
+     *
+     * 완료/취소 시각 내림차순 Keyset 페이지네이션 (응답의 cursorInfo.nextCursor 로 다음 페이지 요청)
+     */
+    @GetMapping("/drivers/{driverId}/deliveries")
+    public ApiResponse<PageResponse<MasterDeliveryLogResponse>> getDriverDeliveries(
+            @PathVariable String driverId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("마스터 드라이버 배송 이력 조회 - driverId: {}, size: {}", driverId, size);
+
+        requireMaster(roles);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        DeliveryLogCursorPage queryResult = deliveryLogQueryService.findByDriver(driverId, cursor, pageSize);
+
+        List<MasterDeliveryLogResponse> content = queryResult.getContent().stream()
+                .map(MasterDeliveryLogResponse::from)
+                .toList();
+
+        CursorInfo cursorInfo = CursorInfo.of(
+                queryResult.getSize(),
+                content.size(),
+                queryResult.getNextCursor(),
+                null
+        );
+
+        return ApiResponse.success(PageResponse.of(content, cursorInfo));
+    }
+
+    /**
+     * 드라이버 운영 통계 조회
+     * GET /v1/hub-driver/web/master/stats/fleet
+     *
+     * 최근 hours 시간(현재 시간대 포함, 최대 7일)의 1시간 단위 배송 처리량/평균 소요시간/가동률
+     * Kafka Streams 상태 저장소에서 조회 (DB 미사용)
+     */
+    @GetMapping("/stats/fleet")
+    public ApiResponse<MasterFleetStatsResponse> getFleetStats(
+            @RequestParam(defaultValue = "24") int hours,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("마스터 드라이버 운영 통계 조회 - hours: {}", hours);
+
+        requireMaster(roles);
+
+        int window = Math.min(Math.max(hours, 1), MAX_FLEET_STATS_HOURS);
+        FleetStatsResponse queryResult = fleetStatsQueryService.getRecentStats(window);
+
+        return ApiResponse.success(MasterFleetStatsResponse.from(queryResult));
+    }
+
+    /**
+     * 상태별 드라이버 수 요약
+     * GET /v1/hub-driver/web/master/stats/status
+     *
+     * 상태 전이로 갱신되는 인메모리 카운터에서 조회 (COUNT 쿼리 없음)
+     * reconciledAt 이후의 다른 인스턴스 변경은 다음 DB 보정 때 반영
+     */
+    @GetMapping("/stats/status")
+    public ApiResponse<MasterDriverStatusSummaryResponse> getStatusSummary(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("마스터 드라이버 상태 요약 조회");
+
+        requireMaster(roles);
+
+        HubDriverStatusSummary queryResult = queryService.getStatusSummary();
+
+        return ApiResponse.success(MasterDriverStatusSummaryResponse.from(queryResult));
+    }
+
+    /**
+     * 드라이버 상태 전이 실시간 스트림 (Server-Sent Events)
+     * GET /v1/hub-driver/web/master/drivers/status-stream
+     *
+     * 배정/완료/취소/근무 시작·종료/휴직·복직을 발생 즉시 push (event: status-changed, id: eventId)
+     * 구독 이후의 전이만 전달하며, 느린 구독자는 오래된 전이부터 버려짐 → 재연결 시 목록 API 로 다시 맞춤
+     */
+    @GetMapping(value = "/drivers/status-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatusChanges(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String roles) {
+
+        log.info("마스터 드라이버 상태 스트림 구독 - userId: {}", userId);
+
+        requireMaster(roles);
+
+        SseEmitter emitter = new SseEmitter(statusStreamTimeoutMs);
+        HubDriverStatusStream.Subscription subscription = queryService.subscribeStatusChanges(
+                new HubDriverStatusStream.Subscriber() {
+                    @Override
+                    public void onChange(HubDriverStatusChange change) {
+                        send(emitter, SseEmitter.event()
+                                .id(change.getEventId())
+                                .name("status-changed")
+                                .data(MasterDriverStatusChangeResponse.from(change)));
+                    }
+
+                    @Override
+                    public void onHeartbeat() {
+                        send(emitter, SseEmitter.event().comment("heartbeat"));
+                    }
+                });
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+
+        return emitter;
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * X-User-Roles(쉼표 구분)에 MASTER 가 없으면 403
+     * 내보내기/스트림은 응답을 시작하기 전에 검증해야 하므로 모든 엔드포인트에서 조회 전에 호출
+     */
+    private static void requireMaster(String roles) {
+        boolean master = roles != null && Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .anyMatch(role -> role.equals(MASTER_ROLE) || role.equals("ROLE_" + MASTER_ROLE));
+        if (!master) {
+            throw new MasterAccessDeniedException();
+        }
+    }
+
+    /**
+     * SSE 전송 (연결이 끊겼으면 예외를 던져 구독 해지)
+     */
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.DeliveryLogQueryDto.DeliveryLogResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.DeliveryLogOutcome;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마스터용 드라이버 배송 이력 응답
+ */
+@Getter
+@Builder
+public class MasterDeliveryLogResponse {
+
+    private String eventId;
+    private String driverId;
+    private String hubDeliveryId;
+    private DeliveryLogOutcome outcome;
+    private String outcomeDescription;
+    private LocalDateTime assignedAt;
+    private LocalDateTime finishedAt;
+    private Long deliveryTimeMin;
+
+    /**
+     * Query DTO → Presentation DTO 변환
+     */
+    public static MasterDeliveryLogResponse from(DeliveryLogResponse log) {
+        return MasterDeliveryLogResponse.builder()
+                .eventId(log.getEventId())
+                .driverId(log.getDriverId())
+                .hubDeliveryId(log.getHubDeliveryId())
+                .outcome(log.getOutcome())
+                .outcomeDescription(log.getOutcome().getDescription())
+                .assignedAt(log.getAssignedAt())
+                .finishedAt(log.getFinishedAt())
+                .deliveryTimeMin(log.getDeliveryTimeMin())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusChange;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마스터용 드라이버 상태 전이 이벤트 (SSE data)
+ */
+@Getter
+@Builder
+public class MasterDriverStatusChangeResponse {
+
+    private String eventType;
+    private String driverId;
+    private String userId;
+    private HubDriverStatus previousStatus;
+    private HubDriverStatus status;
+    private String statusDescription;
+    private String hubDeliveryId;
+    private LocalDateTime occurredAt;
+
+    /**
+     * Query DTO → Presentation DTO 변환
+     */
+    public static MasterDriverStatusChangeResponse from(HubDriverStatusChange change) {
+        return MasterDriverStatusChangeResponse.builder()
+                .eventType(change.getEventType())
+                .driverId(change.getDriverId())
+                .userId(change.getUserId())
+                .previousStatus(change.getPreviousStatus())
+                .status(change.getStatus())
+                .statusDescription(change.getStatus() != null ? change.getStatus().getDescription() : null)
+                .hubDeliveryId(change.getHubDeliveryId())
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마스터용 상태별 드라이버 수 응답
+ */
+@Getter
+@Builder
+public class MasterDriverStatusSummaryResponse {
+
+    private long available;
+    private long onDelivery;
+    private long offDuty;
+    private long inactive;
+    private long total;
+    private LocalDateTime reconciledAt;
+
+    /**
+     * Query DTO → Presentation DTO 변환
+     */
+    public static MasterDriverStatusSummaryResponse from(HubDriverStatusSummary summary) {
+        return MasterDriverStatusSummaryResponse.builder()
+                .available(summary.getAvailable())
+                .onDelivery(summary.getOnDelivery())
+                .offDuty(summary.getOffDuty())
+                .inactive(summary.getInactive())
+                .total(summary.getTotal())
+                .reconciledAt(summary.getReconciledAt())
+                .build();
+    }
+}
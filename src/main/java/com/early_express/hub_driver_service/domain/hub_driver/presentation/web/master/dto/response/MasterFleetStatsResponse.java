@@ -0,0 +1,77 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.FleetStatsQueryDto.FleetStatsResponse;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.FleetStatsQueryDto.FleetStatsWindow;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마스터용 드라이버 운영 통계 응답
+ */
+@Getter
+@Builder
+public class MasterFleetStatsResponse {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long assignedDeliveries;
+    private long completedDeliveries;
+    private long cancelledDeliveries;
+    private double averageDeliveryTimeMin;
+    private double deliveriesPerHour;
+    private double averageUtilization;
+    private List<HourlyStats> hourly;
+
+    /**
+     * Query DTO → Presentation DTO 변환
+     */
+    public static MasterFleetStatsResponse from(FleetStatsResponse stats) {
+        return MasterFleetStatsResponse.builder()
+                .from(stats.getFrom())
+                .to(stats.getTo())
+                .assignedDeliveries(stats.getAssignedDeliveries())
+                .completedDeliveries(stats.getCompletedDeliveries())
+                .cancelledDeliveries(stats.getCancelledDeliveries())
+                .averageDeliveryTimeMin(stats.getAverageDeliveryTimeMin())
+                .deliveriesPerHour(stats.getDeliveriesPerHour())
+                .averageUtilization(stats.getAverageUtilization())
+                .hourly(stats.getHourly().stream()
+                        .map(HourlyStats::from)
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 시간대별 통계
+     */
+    @Getter
+    @Builder
+    public static class HourlyStats {
+        private LocalDateTime windowStart;
+        private LocalDateTime windowEnd;
+        private long assignedDeliveries;
+        private long completedDeliveries;
+        private long cancelledDeliveries;
+        private double averageDeliveryTimeMin;
+        private long maxDeliveryTimeMin;
+        private long activeDrivers;
+        private double utilization;
+
+        public static HourlyStats from(FleetStatsWindow window) {
+            return HourlyStats.builder()
+                    .windowStart(window.getWindowStart())
+                    .windowEnd(window.getWindowEnd())
+                    .assignedDeliveries(window.getAssignedDeliveries())
+                    .completedDeliveries(window.getCompletedDeliveries())
+                    .cancelledDeliveries(window.getCancelledDeliveries())
+                    .averageDeliveryTimeMin(window.getAverageDeliveryTimeMin())
+                    .maxDeliveryTimeMin(window.getMaxDeliveryTimeMin())
+                    .activeDrivers(window.getActiveDrivers())
+                    .utilization(window.getUtilization())
+                    .build();
+        }
+    }
+}
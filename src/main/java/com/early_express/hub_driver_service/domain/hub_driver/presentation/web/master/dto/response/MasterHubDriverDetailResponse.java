@@ -24,6 +24,15 @@ public class MasterHubDriverDetailResponse {
     private Long totalDeliveries;
     private Long totalDeliveryTimeMin;
     private Long averageDeliveryTimeMin;
+    private Long p50DeliveryTimeMin;
+    private Long p90DeliveryTimeMin;
+    private Long p99DeliveryTimeMin;
+    private Long deliveriesLastHour;
+    private Long averageDeliveryTimeMinLastHour;
+    private Long deliveriesLast24h;
+    private Long averageDeliveryTimeMinLast24h;
+    private Long deliveriesLast7d;
+    private Long averageDeliveryTimeMinLast7d;
     private LocalDateTime lastDeliveryCompletedAt;
     private LocalDateTime availableFrom;
     private Boolean isAvailable;
@@ -46,6 +55,15 @@ public class MasterHubDriverDetailResponse {
                 .totalDeliveries(driver.getTotalDeliveries())
                 .totalDeliveryTimeMin(driver.getTotalDeliveryTimeMin())
                 .averageDeliveryTimeMin(driver.getAverageDeliveryTimeMin())
+                .p50DeliveryTimeMin(driver.getP50DeliveryTimeMin())
+                .p90DeliveryTimeMin(driver.getP90DeliveryTimeMin())
+                .p99DeliveryTimeMin(driver.getP99DeliveryTimeMin())
+                .deliveriesLastHour(driver.getDeliveriesLastHour())
+                .averageDeliveryTimeMinLastHour(driver.getAverageDeliveryTimeMinLastHour())
+                .deliveriesLast24h(driver.getDeliveriesLast24h())
+                .averageDeliveryTimeMinLast24h(driver.getAverageDeliveryTimeMinLast24h())
+                .deliveriesLast7d(driver.getDeliveriesLast7d())
+                .averageDeliveryTimeMinLast7d(driver.getAverageDeliveryTimeMinLast7d())
                 .lastDeliveryCompletedAt(driver.getLastDeliveryCompletedAt())
                 .availableFrom(driver.getAvailableFrom())
                 .isAvailable(driver.getIsAvailable())
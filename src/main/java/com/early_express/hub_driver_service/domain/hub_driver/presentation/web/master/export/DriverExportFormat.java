@@ -0,0 +1,88 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.export;
+
+import com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master.dto.response.MasterHubDriverResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * 드라이버 전체 내보내기 형식
+ * 한 행씩 바로 응답 스트림에 쓰며, 행 단위 외의 상태를 보관하지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DriverExportFormat {
+
+    /**
+     * 줄마다 JSON 객체 1개 (목록 API 의 드라이버 응답과 같은 필드)
+     */
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public void writeHeader(Writer writer) {
+        }
+
+        @Override
+        public void writeRow(Writer writer, MasterHubDriverResponse row, ObjectMapper objectMapper)
+                throws IOException {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+    },
+
+    /**
+     * RFC 4180 CSV (엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 포함)
+     */
+    CSV("text/csv; charset=UTF-8", "csv") {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write('\uFEFF');
+            writer.write("driverId,userId,name,status,statusDescription,currentDeliveryId,assignmentPriority,"
+                    + "totalDeliveries,totalDeliveryTimeMin,averageDeliveryTimeMin,lastDeliveryCompletedAt,"
+                    + "availableFrom,createdAt\r\n");
+        }
+
+        @Override
+        public void writeRow(Writer writer, MasterHubDriverResponse row, ObjectMapper objectMapper)
+                throws IOException {
+            writer.write(String.join(",",
+                    csv(row.getDriverId()),
+                    csv(row.getUserId()),
+                    csv(row.getName()),
+                    csv(row.getStatus()),
+                    csv(row.getStatusDescription()),
+                    csv(row.getCurrentDeliveryId()),
+                    csv(row.getAssignmentPriority()),
+                    csv(row.getTotalDeliveries()),
+                    csv(row.getTotalDeliveryTimeMin()),
+                    csv(row.getAverageDeliveryTimeMin()),
+                    csv(row.getLastDeliveryCompletedAt()),
+                    csv(row.getAvailableFrom()),
+                    csv(row.getCreatedAt())));
+            writer.write("\r\n");
+        }
+    };
+
+    private final String contentType;
+    private final String fileExtension;
+
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    public abstract void writeRow(Writer writer, MasterHubDriverResponse row, ObjectMapper objectMapper)
+            throws IOException;
+
+    /**
+     * CSV 필드 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번)
+     */
+    private static String csv(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,42 @@
+package com.early_express.hub_driver_service.global.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지 정보
+ * - nextCursor: 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+ * - totalElements: 요청한 경우에만 포함 (COUNT 쿼리 생략 시 null)
+ */
+@Getter
+public class CursorInfo {
+    private final int size;
+    private final int numberOfElements;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final Long totalElements;
+
+    @Builder
+    private CursorInfo(int size, int numberOfElements, boolean hasNext,
+                       String nextCursor, Long totalElements) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 0보다 커야합니다.");
+        }
+
+        this.size = size;
+        this.numberOfElements = numberOfElements;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    public static CursorInfo of(int size, int numberOfElements, String nextCursor, Long totalElements) {
+        return CursorInfo.builder()
+                .size(size)
+                .numberOfElements(numberOfElements)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .build();
+    }
+}
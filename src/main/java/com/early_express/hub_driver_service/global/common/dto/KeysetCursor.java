@@ -0,0 +1,70 @@
+package com.early_express.hub_driver_service.global.common.dto;
+
+import com.early_express.hub_driver_service.global.presentation.exception.GlobalErrorCode;
+import com.early_express.hub_driver_service.global.presentation.exception.GlobalException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset 페이지네이션 커서 (정렬 시각 + ID)
+ * 클라이언트에는 Base64URL 로 인코딩된 불투명 문자열로만 노출
+ */
+@Getter
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime timestamp;
+    private final String id;
+
+    private KeysetCursor(LocalDateTime timestamp, String id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(LocalDateTime timestamp, String id) {
+        if (timestamp == null || id == null) {
+            throw new CursorException("커서의 정렬 시각과 ID는 null일 수 없습니다.");
+        }
+        return new KeysetCursor(timestamp, id);
+    }
+
+    /**
+     * 불투명 커서 문자열 → 커서 (null 또는 빈 값이면 첫 페이지)
+     */
+    public static KeysetCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new CursorException("유효하지 않은 커서입니다.");
+            }
+            return of(LocalDateTime.parse(raw.substring(0, index)), raw.substring(index + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CursorException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 전용 예외 클래스
+     */
+    public static class CursorException extends GlobalException {
+        public CursorException(String message) {
+            super(GlobalErrorCode.INVALID_INPUT_VALUE, message);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.early_express.hub_driver_service.global.config;
+
+import com.early_express.hub_driver_service.global.infrastructure.datasource.DataSourceRoute;
+import com.early_express.hub_driver_service.global.infrastructure.datasource.ReplicaLagMonitor;
+import com.early_express.hub_driver_service.global.infrastructure.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션 레플리카 라우팅 설정
+ * - hub-driver.datasource.replica.enabled=true 일 때만 활성화 (기본은 spring.datasource 단일 DataSource)
+ * - 프라이머리: spring.datasource (+ spring.datasource.hikari)
+ * - 레플리카: hub-driver.datasource.replica (+ hub-driver.datasource.replica.hikari)
+ * - 로컬에서는 PostgreSQL 두 개 또는 H2 두 개로 확인 가능 (H2 는 lag-query 를 "SELECT 0" 으로 지정)
+ */
+@Configuration
+@ConditionalOnProperty(name = "hub-driver.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * PostgreSQL 스트리밍 복제 지연(ms)
+     * 프라이머리(복구 모드 아님)이거나 수신한 WAL 을 모두 재생했으면 0
+     */
+    private static final String POSTGRESQL_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+                    + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("hub-driver-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("hub-driver.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${hub-driver.datasource.replica.url}") String url,
+            @Value("${hub-driver.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${hub-driver.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("hub-driver-replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${hub-driver.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${hub-driver.datasource.replica.max-lag-ms:1000}") long maxLagMillis,
+            @Value("${hub-driver.datasource.replica.lag-query-timeout-seconds:1}") int queryTimeoutSeconds) {
+        return new ReplicaLagMonitor(
+                replicaDataSource,
+                lagQuery.isBlank() ? POSTGRESQL_LAG_QUERY : lagQuery,
+                maxLagMillis,
+                queryTimeoutSeconds);
+    }
+
+    /**
+     * JPA / JdbcTemplate / Flyway 가 사용하는 DataSource
+     * 트랜잭션 안에서 첫 쿼리 시점까지 커넥션 획득을 미뤄 readOnly 여부로 라우팅
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(replicaLagMonitor);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource
+        ));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
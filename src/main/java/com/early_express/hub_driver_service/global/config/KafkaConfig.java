@@ -1,7 +1,11 @@
 package com.early_express.hub_driver_service.global.config;
 
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.TypedEventSerializer;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -13,7 +17,6 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.converter.RecordMessageConverter;
 import org.springframework.kafka.support.converter.StringJsonMessageConverter;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,29 +31,89 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${hub-driver.outbox.producer.linger-ms:20}")
+    private int outboxLingerMs;
+
+    @Value("${hub-driver.outbox.producer.batch-size:65536}")
+    private int outboxBatchSize;
+
+    @Value("${hub-driver.outbox.producer.compression-type:lz4}")
+    private String outboxCompressionType;
+
     @Bean
     public RecordMessageConverter converter() {
         return new StringJsonMessageConverter();
     }
 
+    // 이벤트 직접 발행용 프로듀서
+    // - EventTypeRegistry 의 사전 생성 writer 로 직렬화하고 eventType/eventVersion 헤더 기록 (구독 측 TypedEventDeserializer 와 대칭)
+    @Bean
+    public ProducerFactory<String, BaseEvent> producerFactory(EventTypeRegistry eventTypeRegistry) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+
+        return new DefaultKafkaProducerFactory<>(
+                configProps,
+                new StringSerializer(),
+                new TypedEventSerializer(eventTypeRegistry)
+        );
+    }
+
+    @Bean
+    public KafkaTemplate<String, BaseEvent> kafkaTemplate(ProducerFactory<String, BaseEvent> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    // Outbox Relay 전용 프로듀서
+    // - payload 는 Outbox 기록 시 이미 JSON 으로 직렬화되어 있으므로 String 으로 전송
+    // - 요청 경로와 분리되어 있어 linger/압축으로 처리량 위주 배치 전송
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public ProducerFactory<String, String> outboxProducerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
 
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
 
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, outboxLingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, outboxBatchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, outboxCompressionType);
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(outboxProducerFactory());
+    }
+
+    // DLT 원본 바이트 재발행 프로듀서
+    // - 역직렬화에 실패한 레코드는 BaseEvent 가 없으므로 원본 바이트를 그대로 DLT 로 전송
+    @Bean
+    public ProducerFactory<String, byte[]> deadLetterProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, byte[]> deadLetterKafkaTemplate() {
+        return new KafkaTemplate<>(deadLetterProducerFactory());
     }
 
     // 기본 토픽 생성 예제
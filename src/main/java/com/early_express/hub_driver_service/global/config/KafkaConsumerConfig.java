@@ -1,17 +1,28 @@
 package com.early_express.hub_driver_service.global.config;
 
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.TypedEventDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -23,44 +34,113 @@ import java.util.Map;
 @Configuration
 public class KafkaConsumerConfig {
 
+    @Value("${spring.application.name}")
+    private String applicationName;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id:product-service-group}")
     private String groupId;
 
+    @Value("${hub-driver.delivery-events.max-poll-records:500}")
+    private int deliveryEventsMaxPollRecords;
+
+    @Value("${hub-driver.listener-retry.initial-interval-ms:1000}")
+    private long retryInitialIntervalMs;
+
+    @Value("${hub-driver.listener-retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${hub-driver.listener-retry.max-interval-ms:60000}")
+    private long retryMaxIntervalMs;
+
+    @Value("${hub-driver.listener-retry.max-elapsed-time-ms:1800000}")
+    private long retryMaxElapsedTimeMs;
+
+    /**
+     * 리스너 공통 에러 핸들러
+     * - 지수 백오프로 재처리 (배치 리스너는 실패한 배치 전체를 다시 전달, 대기 중에는 컨슈머를 pause 하고 poll 유지)
+     * - max-elapsed-time-ms 를 넘기면 레코드를 ${spring.application.name}-dlt 로 보낸 뒤 다음 레코드로 진행
+     * - 역직렬화 실패 등 재시도해도 결과가 같은 예외는 바로 DLT 로 전송
+     */
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+    public DefaultErrorHandler kafkaErrorHandler(
+            KafkaTemplate<String, BaseEvent> kafkaTemplate,
+            @Qualifier("deadLetterKafkaTemplate") KafkaTemplate<String, byte[]> deadLetterKafkaTemplate) {
+        // 값 타입별 템플릿: 처리 실패 이벤트는 타입별 serde, 역직렬화 실패 레코드는 원본 바이트
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(BaseEvent.class, kafkaTemplate);
+        templates.put(byte[].class, deadLetterKafkaTemplate);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates,
+                (record, exception) -> new TopicPartition(applicationName + "-dlt", -1));
+
+        ExponentialBackOff backOff = new ExponentialBackOff(retryInitialIntervalMs, retryMultiplier);
+        backOff.setMaxInterval(retryMaxIntervalMs);
+        backOff.setMaxElapsedTime(retryMaxElapsedTimeMs);
+
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
 
-        // JSON Deserializer 설정
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "java.lang.Object");
+    /**
+     * 기본 Consumer Factory
+     * 타입별 사전 생성 reader 로 역직렬화, 실패한 레코드는 value = null 로 전달
+     */
+    @Bean
+    public ConsumerFactory<String, BaseEvent> consumerFactory(EventTypeRegistry eventTypeRegistry) {
+        return new DefaultKafkaConsumerFactory<>(
+                consumerProps(),
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new TypedEventDeserializer(eventTypeRegistry))
+        );
+    }
 
-        // 수동 커밋
-        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, BaseEvent> kafkaListenerContainerFactory(
+            ConsumerFactory<String, BaseEvent> consumerFactory,
+            DefaultErrorHandler kafkaErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, BaseEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
 
-        // Offset 설정
-        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        factory.setConsumerFactory(consumerFactory);
 
-        // 세션 타임아웃
-        configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
-        configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
+        // 수동 커밋 모드
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        // 동시성 설정 (파티션 수와 동일하게)
+        factory.setConcurrency(3);
+
+        // 에러 핸들러 (지수 백오프 재시도 후 DLT)
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+
+        return factory;
     }
 
+    /**
+     * 배치 리스너 컨테이너 (허브 배송 완료/취소 이벤트)
+     * - poll 단위로 레코드 목록을 전달받아 한 트랜잭션에서 처리
+     * - 배치 처리 후 한 번에 수동 커밋
+     */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, BaseEvent> batchKafkaListenerContainerFactory(
+            EventTypeRegistry eventTypeRegistry,
+            DefaultErrorHandler kafkaErrorHandler) {
+        Map<String, Object> configProps = consumerProps();
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, deliveryEventsMaxPollRecords);
+
+        // 타입별 사전 생성 reader 로 역직렬화, 실패한 레코드는 value = null 로 전달
+        ConsumerFactory<String, BaseEvent> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                configProps,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new TypedEventDeserializer(eventTypeRegistry))
+        );
+
+        ConcurrentKafkaListenerContainerFactory<String, BaseEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
 
         // 수동 커밋 모드
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
@@ -68,9 +148,30 @@ public class KafkaConsumerConfig {
         // 동시성 설정 (파티션 수와 동일하게)
         factory.setConcurrency(3);
 
-        // 에러 핸들러
-        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        // 에러 핸들러 (배치 전체를 지수 백오프로 재처리, 한도를 넘기면 배치의 레코드를 DLT 로 보내고 진행)
+        // 배송 이벤트/통계/배송 이력/캐시 무효화 리스너가 모두 이 팩토리를 공유
+        factory.setCommonErrorHandler(kafkaErrorHandler);
 
         return factory;
     }
+
+    // ===== Private Methods =====
+
+    private Map<String, Object> consumerProps() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+
+        // 수동 커밋
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        // Offset 설정
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        // 세션 타임아웃
+        configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
+        configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
+
+        return configProps;
+    }
 }
@@ -0,0 +1,9 @@
+package com.early_express.hub_driver_service.global.infrastructure.datasource;
+
+/**
+ * 라우팅 대상 DataSource
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
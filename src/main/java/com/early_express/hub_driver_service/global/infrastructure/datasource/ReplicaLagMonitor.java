@@ -0,0 +1,84 @@
+package com.early_express.hub_driver_service.global.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 레플리카 복제 지연 감시
+ * - 주기적으로 레플리카에 지연(ms) 조회 쿼리를 실행
+ * - 지연이 허용치를 넘거나 조회에 실패하면 레플리카 사용 중단 → 읽기 전용 트랜잭션도 프라이머리로 전환
+ * - 첫 확인 전까지는 사용하지 않음
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaUsable;
+    private volatile boolean checked;
+    private volatile Long lastLagMillis;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagMillis, int queryTimeoutSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * 마지막으로 확인한 복제 지연(ms) - 확인 실패 시 null
+     */
+    public Long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${hub-driver.datasource.replica.lag-check-interval-ms:1000}"
+    )
+    public void check() {
+        Long lag;
+        try {
+            Number result = replicaJdbcTemplate.queryForObject(lagQuery, Number.class);
+            lag = result != null ? result.longValue() : null;
+        } catch (RuntimeException e) {
+            lastLagMillis = null;
+            changeState(false, "조회 실패: " + e.getMessage());
+            return;
+        }
+
+        lastLagMillis = lag;
+        if (lag == null || lag > maxLagMillis) {
+            changeState(false, "복제 지연 " + lag + "ms (허용 " + maxLagMillis + "ms)");
+        } else {
+            changeState(true, "복제 지연 " + lag + "ms");
+        }
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 상태가 바뀔 때만 로그 (주기 확인마다 반복 출력 방지)
+     */
+    private void changeState(boolean usable, String reason) {
+        if (checked && replicaUsable == usable) {
+            return;
+        }
+        checked = true;
+        replicaUsable = usable;
+        if (usable) {
+            log.info("레플리카 읽기 라우팅 재개 - {}", reason);
+        } else {
+            log.warn("레플리카 읽기 라우팅 중단, 프라이머리로 전환 - {}", reason);
+        }
+    }
+}
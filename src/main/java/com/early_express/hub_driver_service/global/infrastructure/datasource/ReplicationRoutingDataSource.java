@@ -0,0 +1,29 @@
+package com.early_express.hub_driver_service.global.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 라우팅 DataSource
+ * - @Transactional(readOnly = true) 이고 레플리카 지연이 허용 범위 이내일 때만 REPLICA
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖, 레플리카 지연/장애)는 PRIMARY
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ *   LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 커넥션을 결정해야 함
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaLagMonitor.isReplicaUsable()) {
+            return DataSourceRoute.REPLICA;
+        }
+        return DataSourceRoute.PRIMARY;
+    }
+}
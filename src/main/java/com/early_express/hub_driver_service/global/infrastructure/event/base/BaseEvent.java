@@ -49,10 +49,17 @@ public abstract class BaseEvent {
      * 초기화 (자식 클래스 생성자에서 호출)
      */
     protected void initBaseEvent(String eventType, String publisher) {
+        initBaseEvent(eventType, publisher, "1.0");
+    }
+
+    /**
+     * 초기화 (스키마 메이저 버전을 올린 이벤트)
+     */
+    protected void initBaseEvent(String eventType, String publisher, String version) {
         this.eventId = UUID.randomUUID().toString();
         this.eventType = eventType;
         this.timestamp = LocalDateTime.now();
-        this.version = "1.0";
+        this.version = version;
         this.publisher = publisher;
     }
 }
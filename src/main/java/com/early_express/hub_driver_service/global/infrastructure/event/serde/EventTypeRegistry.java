@@ -0,0 +1,203 @@
+package com.early_express.hub_driver_service.global.infrastructure.event.serde;
+
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이벤트 타입 레지스트리
+ * - eventType 별 구체 클래스와 지원 스키마 메이저 버전(BaseEvent.version)을 등록
+ * - 타입별 Jackson ObjectReader/ObjectWriter 를 등록 시점에 한 번 생성해 재사용 (레코드마다 타입 해석/리플렉션 없음)
+ * - eventType 헤더가 없는 외부 이벤트는 토픽 바인딩으로 타입 결정
+ *
+ * 버전 규칙: 메이저 버전이 같으면 필드 추가만 허용 (모르는 필드는 무시), 메이저 버전이 높으면 역직렬화 거부
+ */
+public class EventTypeRegistry {
+
+    public static final String EVENT_TYPE_HEADER = "eventType";
+    public static final String EVENT_VERSION_HEADER = "eventVersion";
+
+    private final Map<String, Binding> bindingsByType;
+    private final Map<Class<?>, Binding> bindingsByClass;
+    private final Map<String, Binding> bindingsByTopic;
+
+    private EventTypeRegistry(Map<String, Binding> bindingsByType, Map<String, Binding> bindingsByTopic) {
+        this.bindingsByType = Map.copyOf(bindingsByType);
+        this.bindingsByTopic = Map.copyOf(bindingsByTopic);
+
+        Map<Class<?>, Binding> byClass = new HashMap<>();
+        bindingsByType.values().forEach(binding -> byClass.put(binding.type, binding));
+        this.bindingsByClass = Map.copyOf(byClass);
+    }
+
+    public static Builder builder(ObjectMapper objectMapper) {
+        return new Builder(objectMapper);
+    }
+
+    /**
+     * 이벤트 직렬화 (등록된 타입만 허용)
+     */
+    public byte[] write(BaseEvent event) {
+        try {
+            return bindingOf(event).writer.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("이벤트 직렬화 실패 - eventType: " + event.getEventType(), e);
+        }
+    }
+
+    public String writeAsString(BaseEvent event) {
+        try {
+            return bindingOf(event).writer.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("이벤트 직렬화 실패 - eventType: " + event.getEventType(), e);
+        }
+    }
+
+    /**
+     * 이벤트 역직렬화
+     * eventType 헤더 → 토픽 바인딩 순으로 타입을 결정하고, 스키마 메이저 버전 호환 여부 검증
+     */
+    public BaseEvent read(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        String eventType = headerValue(headers, EVENT_TYPE_HEADER);
+        Binding binding = eventType != null ? bindingsByType.get(eventType) : bindingsByTopic.get(topic);
+        if (binding == null) {
+            throw new SerializationException(
+                    "등록되지 않은 이벤트 타입 - topic: " + topic + ", eventType: " + eventType);
+        }
+
+        String headerVersion = headerValue(headers, EVENT_VERSION_HEADER);
+        if (headerVersion != null) {
+            binding.checkVersion(headerVersion);
+        }
+
+        try {
+            BaseEvent event = binding.reader.readValue(data);
+            if (headerVersion == null) {
+                binding.checkVersion(event.getVersion());
+            }
+            return event;
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "이벤트 역직렬화 실패 - topic: " + topic + ", type: " + binding.type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Kafka 헤더에 타입/버전 기록
+     */
+    public void writeHeaders(Headers headers, String eventType, String version) {
+        headers.remove(EVENT_TYPE_HEADER);
+        headers.remove(EVENT_VERSION_HEADER);
+        headers.add(EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+        if (version != null) {
+            headers.add(EVENT_VERSION_HEADER, version.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private Binding bindingOf(BaseEvent event) {
+        Binding binding = bindingsByClass.get(event.getClass());
+        if (binding == null) {
+            throw new SerializationException("등록되지 않은 이벤트 클래스: " + event.getClass().getName());
+        }
+        return binding;
+    }
+
+    private static String headerValue(Headers headers, String key) {
+        if (headers == null) {
+            return null;
+        }
+        Header header = headers.lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static int majorOf(String version) {
+        if (version == null || version.isBlank()) {
+            return 1;
+        }
+        int dot = version.indexOf('.');
+        try {
+            return Integer.parseInt(dot < 0 ? version : version.substring(0, dot));
+        } catch (NumberFormatException e) {
+            throw new SerializationException("잘못된 이벤트 버전: " + version);
+        }
+    }
+
+    /**
+     * 타입별 사전 생성된 reader/writer
+     */
+    private static final class Binding {
+        private final Class<? extends BaseEvent> type;
+        private final int majorVersion;
+        private final ObjectReader reader;
+        private final ObjectWriter writer;
+
+        private Binding(ObjectMapper objectMapper, Class<? extends BaseEvent> type, int majorVersion) {
+            this.type = type;
+            this.majorVersion = majorVersion;
+            this.reader = objectMapper.readerFor(type)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+            this.writer = objectMapper.writerFor(type);
+        }
+
+        private void checkVersion(String version) {
+            int major = majorOf(version);
+            if (major > majorVersion) {
+                throw new SerializationException(String.format(
+                        "지원하지 않는 이벤트 버전 - type: %s, version: %s, 지원: %d.x",
+                        type.getSimpleName(), version, majorVersion));
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final ObjectMapper objectMapper;
+        private final Map<String, Binding> bindingsByType = new HashMap<>();
+        private final Map<String, Binding> bindingsByTopic = new HashMap<>();
+
+        private Builder(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        /**
+         * 이벤트 타입 등록
+         * @param majorVersion 읽을 수 있는 최대 스키마 메이저 버전
+         */
+        public Builder register(String eventType, Class<? extends BaseEvent> type, int majorVersion) {
+            bindingsByType.put(eventType, new Binding(objectMapper, type, majorVersion));
+            return this;
+        }
+
+        /**
+         * eventType 헤더 없이 들어오는 토픽의 기본 타입 지정
+         */
+        public Builder bindTopic(String topic, String eventType) {
+            Binding binding = bindingsByType.get(eventType);
+            if (binding == null) {
+                throw new IllegalArgumentException("등록되지 않은 이벤트 타입: " + eventType);
+            }
+            bindingsByTopic.put(topic, binding);
+            return this;
+        }
+
+        public EventTypeRegistry build() {
+            return new EventTypeRegistry(bindingsByType, bindingsByTopic);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.early_express.hub_driver_service.global.infrastructure.event.serde;
+
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * BaseEvent 타입별 역직렬화 (EventTypeRegistry 의 사전 생성 reader 사용)
+ * 타입은 eventType 헤더 또는 토픽 바인딩으로 결정 (TRUSTED_PACKAGES / 타입 헤더 클래스명 불필요)
+ */
+@RequiredArgsConstructor
+public class TypedEventDeserializer implements Deserializer<BaseEvent> {
+
+    private final EventTypeRegistry registry;
+
+    @Override
+    public BaseEvent deserialize(String topic, byte[] data) {
+        return registry.read(topic, null, data);
+    }
+
+    @Override
+    public BaseEvent deserialize(String topic, Headers headers, byte[] data) {
+        return registry.read(topic, headers, data);
+    }
+}
@@ -0,0 +1,30 @@
+package com.early_express.hub_driver_service.global.infrastructure.event.serde;
+
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * BaseEvent 타입별 직렬화 (EventTypeRegistry 의 사전 생성 writer 사용)
+ * eventType / eventVersion 헤더를 함께 기록
+ */
+@RequiredArgsConstructor
+public class TypedEventSerializer implements Serializer<BaseEvent> {
+
+    private final EventTypeRegistry registry;
+
+    @Override
+    public byte[] serialize(String topic, BaseEvent data) {
+        return data != null ? registry.write(data) : null;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, BaseEvent data) {
+        if (data == null) {
+            return null;
+        }
+        registry.writeHeaders(headers, data.getEventType(), data.getVersion());
+        return registry.write(data);
+    }
+}
@@ -1,6 +1,8 @@
 package com.early_express.hub_driver_service.global.presentation.dto;
 
+import com.early_express.hub_driver_service.global.common.dto.CursorInfo;
 import com.early_express.hub_driver_service.global.common.dto.PageInfo;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 
 import java.util.Collections;
@@ -9,20 +11,34 @@ import java.util.List;
 @Getter
 public class PageResponse<T> {
     private final List<T> content;
+
+    // 오프셋/커서 응답 중 사용하지 않는 쪽은 직렬화하지 않음
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final PageInfo pageInfo;
 
-    private PageResponse(List<T> content, PageInfo pageInfo) {
-        validatePageInfo(pageInfo);
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final CursorInfo cursorInfo;
+
+    private PageResponse(List<T> content, PageInfo pageInfo, CursorInfo cursorInfo) {
+        validatePageInfo(pageInfo, cursorInfo);
         this.content = content != null ? content : Collections.emptyList();
         this.pageInfo = pageInfo;
+        this.cursorInfo = cursorInfo;
     }
 
     public static <T> PageResponse<T> of(List<T> content, PageInfo pageInfo) {
-        return new PageResponse<>(content, pageInfo);
+        return new PageResponse<>(content, pageInfo, null);
+    }
+
+    /**
+     * 커서 기반 페이지 응답 생성
+     */
+    public static <T> PageResponse<T> of(List<T> content, CursorInfo cursorInfo) {
+        return new PageResponse<>(content, null, cursorInfo);
     }
 
-    private void validatePageInfo(PageInfo pageInfo) {
-        if (pageInfo == null) {
+    private void validatePageInfo(PageInfo pageInfo, CursorInfo cursorInfo) {
+        if (pageInfo == null && cursorInfo == null) {
             throw new IllegalArgumentException("페이지 정보는 null이 될 수 없습니다.");
         }
     }
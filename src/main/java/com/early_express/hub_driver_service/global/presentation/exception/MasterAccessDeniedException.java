@@ -0,0 +1,12 @@
+package com.early_express.hub_driver_service.global.presentation.exception;
+
+/**
+ * 마스터 권한 없음 예외
+ * X-User-Roles 헤더에 MASTER 역할이 없을 때 발생 (403)
+ */
+public class MasterAccessDeniedException extends GlobalException {
+
+    public MasterAccessDeniedException() {
+        super(GlobalErrorCode.FORBIDDEN, "마스터 권한이 필요합니다.");
+    }
+}
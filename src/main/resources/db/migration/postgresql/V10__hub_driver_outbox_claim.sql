@@ -0,0 +1,8 @@
+-- ========================================
+-- Outbox 발행 선점 컬럼
+-- Relay 는 짧은 트랜잭션으로 선점을 기록/커밋한 뒤 행 잠금 없이 Kafka ack 를 대기
+-- claimed_until 이 지난 선점(인스턴스 장애 등)은 다른 Relay 가 다시 선점
+-- ========================================
+
+ALTER TABLE p_hub_driver_outbox ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(36);
+ALTER TABLE p_hub_driver_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP(6);
@@ -0,0 +1,9 @@
+-- ========================================
+-- Outbox 시퀀스 증가폭 1
+-- 인스턴스별 id 블록(INCREMENT BY 50)을 쓰면 나중에 기록된 이벤트가 더 작은 id 를 받을 수 있어
+-- id 순 발행이 같은 드라이버의 기록 순서와 달라짐
+-- 같은 key 의 기록은 드라이버 행 잠금으로 직렬화되므로 nextval 순서 = 커밋 순서
+-- 이전 버전(allocationSize = 50) 인스턴스와 함께 실행하면 id 가 겹칠 수 있으므로 전체 교체 배포
+-- ========================================
+
+ALTER SEQUENCE p_hub_driver_outbox_seq INCREMENT BY 1;
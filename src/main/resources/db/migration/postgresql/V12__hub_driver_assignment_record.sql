@@ -0,0 +1,26 @@
+-- ========================================
+-- 배송 배정 기록 (hubDeliveryId 기준 배정 멱등성 키)
+-- current_delivery_id 는 배송 완료 시 비워지므로 완료 이후 재요청이 새 드라이버를 배정받지 않도록
+-- 배정 트랜잭션에서 결과를 함께 기록하고 배송 취소 시에만 삭제
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS p_hub_driver_assignment_record (
+    hub_delivery_id VARCHAR(36)  NOT NULL,
+    driver_id       VARCHAR(36)  NOT NULL,
+    user_id         VARCHAR(36)  NOT NULL,
+    driver_name     VARCHAR(100) NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    assigned_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_hub_driver_assignment_record PRIMARY KEY (hub_delivery_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_assignment_record_assigned_at
+    ON p_hub_driver_assignment_record (assigned_at);
+
+-- 진행 중인 배정 백필
+INSERT INTO p_hub_driver_assignment_record (hub_delivery_id, driver_id, user_id, driver_name, status, assigned_at)
+SELECT current_delivery_id, id, user_id, name, status, COALESCE(updated_at, created_at)
+FROM p_hub_driver
+WHERE current_delivery_id IS NOT NULL
+  AND is_deleted = FALSE
+ON CONFLICT (hub_delivery_id) DO NOTHING;
@@ -0,0 +1,51 @@
+-- ========================================
+-- Hub Driver 기본 스키마
+-- 기존 ddl-auto 로 생성된 스키마와 동일하므로 이미 존재하면 건너뜀
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS p_hub_driver (
+    id                         VARCHAR(36)  NOT NULL,
+    user_id                    VARCHAR(36)  NOT NULL,
+    name                       VARCHAR(100) NOT NULL,
+    status                     VARCHAR(20)  NOT NULL,
+    current_delivery_id        VARCHAR(36),
+    assignment_priority        INTEGER      NOT NULL,
+    total_deliveries           BIGINT       NOT NULL,
+    total_delivery_time_min    BIGINT       NOT NULL,
+    average_delivery_time_min  BIGINT       NOT NULL,
+    last_delivery_completed_at TIMESTAMP(6),
+    available_from             TIMESTAMP(6),
+    created_at                 TIMESTAMP(6) NOT NULL,
+    created_by                 VARCHAR(36),
+    updated_at                 TIMESTAMP(6),
+    updated_by                 VARCHAR(36),
+    deleted_at                 TIMESTAMP(6),
+    deleted_by                 VARCHAR(36),
+    is_deleted                 BOOLEAN      NOT NULL DEFAULT FALSE,
+    CONSTRAINT pk_hub_driver PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_hub_driver_user_id ON p_hub_driver (user_id);
+CREATE INDEX IF NOT EXISTS idx_hub_driver_status ON p_hub_driver (status);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_hub_driver_current_delivery_id ON p_hub_driver (current_delivery_id);
+CREATE INDEX IF NOT EXISTS idx_hub_driver_priority ON p_hub_driver (assignment_priority, available_from);
+CREATE INDEX IF NOT EXISTS idx_hub_driver_created_at_id ON p_hub_driver (created_at, id);
+
+CREATE TABLE IF NOT EXISTS p_hub_driver_pending_assignment (
+    id              VARCHAR(36)  NOT NULL,
+    hub_delivery_id VARCHAR(36)  NOT NULL,
+    requested_at    TIMESTAMP(6) NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    created_by      VARCHAR(36),
+    updated_at      TIMESTAMP(6),
+    updated_by      VARCHAR(36),
+    deleted_at      TIMESTAMP(6),
+    deleted_by      VARCHAR(36),
+    is_deleted      BOOLEAN      NOT NULL DEFAULT FALSE,
+    CONSTRAINT pk_hub_driver_pending_assignment PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_pending_assignment_hub_delivery_id
+    ON p_hub_driver_pending_assignment (hub_delivery_id);
+CREATE INDEX IF NOT EXISTS idx_pending_assignment_requested_at
+    ON p_hub_driver_pending_assignment (requested_at);
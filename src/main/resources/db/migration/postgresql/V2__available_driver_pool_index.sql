@@ -0,0 +1,14 @@
+-- ========================================
+-- 배정 가능 드라이버 풀 부분 커버링 인덱스
+-- - 배정 쿼리의 WHERE status = 'AVAILABLE' AND is_deleted = false 를 인덱스 조건으로 흡수
+-- - 정렬 키(assignment_priority, available_from) + id 로 top-1 후보 선택과
+--   디스패치 인덱스 재구성 쿼리(id, assignment_priority, available_from)를 Index Only Scan 으로 처리
+-- - 배송 중/비활성/삭제 이력이 쌓여도 인덱스 크기는 배정 가능 드라이버 수에만 비례
+-- ========================================
+
+CREATE INDEX IF NOT EXISTS idx_hub_driver_available_pool
+    ON p_hub_driver (assignment_priority, available_from, id)
+    WHERE status = 'AVAILABLE' AND is_deleted = FALSE;
+
+-- 전체 테이블 대상 정렬 인덱스는 부분 인덱스로 대체
+DROP INDEX IF EXISTS idx_hub_driver_priority;
@@ -0,0 +1,17 @@
+-- ========================================
+-- HubDriver 이벤트 Outbox
+-- 상태 변경과 같은 트랜잭션에서 기록하고 Relay 가 Kafka 발행 후 삭제
+-- ========================================
+
+CREATE SEQUENCE IF NOT EXISTS p_hub_driver_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS p_hub_driver_outbox (
+    id          BIGINT       NOT NULL,
+    event_id    VARCHAR(36)  NOT NULL,
+    event_type  VARCHAR(50)  NOT NULL,
+    topic       VARCHAR(100) NOT NULL,
+    message_key VARCHAR(36),
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_hub_driver_outbox PRIMARY KEY (id)
+);
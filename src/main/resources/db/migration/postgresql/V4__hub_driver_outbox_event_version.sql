@@ -0,0 +1,5 @@
+-- ========================================
+-- Outbox 이벤트 스키마 버전 (Kafka eventVersion 헤더로 전달)
+-- ========================================
+
+ALTER TABLE p_hub_driver_outbox ADD COLUMN IF NOT EXISTS event_version VARCHAR(10);
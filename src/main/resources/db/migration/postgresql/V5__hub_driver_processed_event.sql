@@ -0,0 +1,13 @@
+-- ========================================
+-- 처리 완료 구독 이벤트 (eventId 기준 중복 처리 방지)
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS p_hub_driver_processed_event (
+    event_id     VARCHAR(36)  NOT NULL,
+    event_type   VARCHAR(50),
+    processed_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_hub_driver_processed_event PRIMARY KEY (event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_event_processed_at
+    ON p_hub_driver_processed_event (processed_at);
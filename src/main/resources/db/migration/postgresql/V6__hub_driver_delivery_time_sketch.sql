@@ -0,0 +1,4 @@
+-- 드라이버별 배송 소요시간 분포 스케치 (DeliveryTimeSketch 인코딩)
+-- 기존 행은 NULL → 빈 스케치로 복원되어 이후 완료 건부터 누적
+ALTER TABLE p_hub_driver
+    ADD COLUMN IF NOT EXISTS delivery_time_sketch BYTEA;
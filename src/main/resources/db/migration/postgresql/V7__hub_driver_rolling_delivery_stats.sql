@@ -0,0 +1,4 @@
+-- 드라이버별 최근 1시간/24시간/7일 배송 통계 링 버퍼 (RollingDeliveryStats 인코딩)
+-- 기존 행은 NULL → 빈 통계로 복원되어 이후 완료 건부터 누적
+ALTER TABLE p_hub_driver
+    ADD COLUMN IF NOT EXISTS rolling_delivery_stats BYTEA;
@@ -0,0 +1,45 @@
+-- ========================================
+-- 드라이버 배송 이력 (배정 → 완료/취소 1건당 1행, append-only)
+-- - 완료 시각(finished_at) 기준 월별 RANGE 파티션
+-- - 다음 달 파티션은 HubDriverDeliveryLogPartitionManager 가 미리 생성
+-- - 파티션이 없는 구간은 DEFAULT 파티션에 적재
+-- - (event_id, finished_at) PK 로 이벤트 재전달 시 중복 적재 방지
+-- ========================================
+
+ALTER TABLE p_hub_driver
+    ADD COLUMN IF NOT EXISTS delivery_assigned_at TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS p_hub_driver_delivery_log (
+    event_id          VARCHAR(36)  NOT NULL,
+    driver_id         VARCHAR(36)  NOT NULL,
+    hub_delivery_id   VARCHAR(36),
+    outcome           VARCHAR(20)  NOT NULL,
+    assigned_at       TIMESTAMP(6),
+    finished_at       TIMESTAMP(6) NOT NULL,
+    delivery_time_min BIGINT,
+    logged_at         TIMESTAMP(6) NOT NULL DEFAULT now(),
+    CONSTRAINT pk_hub_driver_delivery_log PRIMARY KEY (event_id, finished_at)
+) PARTITION BY RANGE (finished_at);
+
+-- 드라이버별 이력 Keyset 조회 (finished_at DESC, event_id DESC)
+CREATE INDEX IF NOT EXISTS idx_hub_driver_delivery_log_driver
+    ON p_hub_driver_delivery_log (driver_id, finished_at DESC, event_id DESC);
+
+CREATE TABLE IF NOT EXISTS p_hub_driver_delivery_log_default
+    PARTITION OF p_hub_driver_delivery_log DEFAULT;
+
+-- 이번 달 + 다음 2개월 파티션
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN 0..2 LOOP
+        month_start := (date_trunc('month', now()) + make_interval(months => i))::DATE;
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF p_hub_driver_delivery_log FOR VALUES FROM (%L) TO (%L)',
+            'p_hub_driver_delivery_log_' || to_char(month_start, '"y"YYYY"m"MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE
+        );
+    END LOOP;
+END $$;
@@ -0,0 +1,48 @@
+-- ========================================
+-- 드라이버 배송 통계 분리 (write-behind 집계)
+-- 배정 잠금 대상인 p_hub_driver 는 상태/우선순위만 갱신하고,
+-- 통계는 완료 이벤트를 집계기가 모아 p_hub_driver_stats 에 일괄 반영
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS p_hub_driver_stats (
+    driver_id                  VARCHAR(36)  NOT NULL,
+    total_deliveries           BIGINT       NOT NULL,
+    total_delivery_time_min    BIGINT       NOT NULL,
+    average_delivery_time_min  BIGINT       NOT NULL,
+    delivery_time_sketch       BYTEA,
+    rolling_delivery_stats     BYTEA,
+    last_delivery_completed_at TIMESTAMP(6),
+    updated_at                 TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_hub_driver_stats PRIMARY KEY (driver_id)
+);
+
+-- 집계 체크포인트
+-- '{topic}-{partition}' : 다음에 읽을 오프셋 (통계 반영과 같은 트랜잭션에서 기록)
+-- 'baseline'            : 아래 백필 시각(epoch millis) - 체크포인트가 없는 파티션은 이 시각부터 재생
+CREATE TABLE IF NOT EXISTS p_hub_driver_stats_checkpoint (
+    id         VARCHAR(255) NOT NULL,
+    position   BIGINT       NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_hub_driver_stats_checkpoint PRIMARY KEY (id)
+);
+
+-- 기존 통계 백필
+INSERT INTO p_hub_driver_stats (driver_id, total_deliveries, total_delivery_time_min,
+                                average_delivery_time_min, delivery_time_sketch, rolling_delivery_stats,
+                                last_delivery_completed_at, updated_at)
+SELECT id, total_deliveries, total_delivery_time_min, average_delivery_time_min,
+       delivery_time_sketch, rolling_delivery_stats, last_delivery_completed_at, now()
+FROM p_hub_driver
+WHERE total_deliveries > 0
+ON CONFLICT (driver_id) DO NOTHING;
+
+INSERT INTO p_hub_driver_stats_checkpoint (id, position, updated_at)
+VALUES ('baseline', (EXTRACT(EPOCH FROM clock_timestamp()) * 1000)::BIGINT, now())
+ON CONFLICT (id) DO NOTHING;
+
+-- 이전 버전 인스턴스와 함께 운영되는 롤링 배포 동안 기존 통계 컬럼은 유지 (새 버전은 기록하지 않음)
+-- 배포 완료 후 별도 마이그레이션에서 삭제
+ALTER TABLE p_hub_driver
+    ALTER COLUMN total_deliveries SET DEFAULT 0,
+    ALTER COLUMN total_delivery_time_min SET DEFAULT 0,
+    ALTER COLUMN average_delivery_time_min SET DEFAULT 0;
@@ -0,0 +1,178 @@
+package com.early_express.hub_driver_service.domain.hub_driver.application.command.support;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.command.dto.HubDriverCommandDto.DriverAssignResult;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.AssignmentRecord;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.AssignmentRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AssignmentIdempotencyStoreTest {
+
+    private final AssignmentRecordRepository assignmentRecordRepository = mock(AssignmentRecordRepository.class);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("기록된 결과는 DB 조회 없이 반환한다")
+    void findReturnsRememberedResult() {
+        AssignmentIdempotencyStore store = new AssignmentIdempotencyStore(assignmentRecordRepository, 10, true, 30);
+        DriverAssignResult result = result("driver-1");
+
+        store.remember("delivery-1", result);
+
+        assertThat(store.find("delivery-1")).containsSame(result);
+        verify(assignmentRecordRepository, never()).findByHubDeliveryId(anyString());
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 가장 오래 조회되지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        AssignmentIdempotencyStore store = new AssignmentIdempotencyStore(assignmentRecordRepository, 2, false, 30);
+        store.remember("delivery-1", result("driver-1"));
+        store.remember("delivery-2", result("driver-2"));
+
+        // delivery-1 을 최근 사용으로 갱신 → delivery-2 가 가장 오래됨
+        assertThat(store.find("delivery-1")).isPresent();
+        store.remember("delivery-3", result("driver-3"));
+
+        assertThat(store.find("delivery-1")).isPresent();
+        assertThat(store.find("delivery-2")).isEmpty();
+        assertThat(store.find("delivery-3")).isPresent();
+    }
+
+    @Test
+    @DisplayName("캐시 미스면 배정 기록으로 기존 배정을 조회해 캐시한다")
+    void findFallsBackToDatabase() {
+        AssignmentIdempotencyStore store = new AssignmentIdempotencyStore(assignmentRecordRepository, 10, true, 30);
+        when(assignmentRecordRepository.findByHubDeliveryId("delivery-1"))
+                .thenReturn(Optional.of(assignmentRecord("delivery-1", "driver-1")));
+
+        assertThat(store.find("delivery-1")).get()
+                .extracting(DriverAssignResult::getDriverId)
+                .isEqualTo("driver-1");
+        assertThat(store.find("delivery-1")).isPresent();
+
+        verify(assignmentRecordRepository).findByHubDeliveryId("delivery-1");
+    }
+
+    @Test
+    @DisplayName("DB 조회가 꺼져 있어도 findCommitted 는 DB 에서 커밋된 배정을 찾는다")
+    void findCommittedIgnoresLookupFlag() {
+        AssignmentIdempotencyStore store = new AssignmentIdempotencyStore(assignmentRecordRepository, 10, false, 30);
+        when(assignmentRecordRepository.findByHubDeliveryId("delivery-1"))
+                .thenReturn(Optional.of(assignmentRecord("delivery-1", "driver-1")));
+
+        assertThat(store.find("delivery-1")).isEmpty();
+        assertThat(store.findCommitted("delivery-1")).isPresent();
+        assertThat(store.find("delivery-1")).isPresent();
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시 미스만 모아 한 번에 조회한다")
+    void findAllQueriesOnlyMisses() {
+        AssignmentIdempotencyStore store = new AssignmentIdempotencyStore(assignmentRecordRepository, 10, true, 30);
+        store.remember("delivery-1", result("driver-1"));
+        when(assignmentRecordRepository.findAllByHubDeliveryIds(anyList()))
+                .thenReturn(List.of(assignmentRecord("delivery-2", "driver-2")));
+
+        Map<String, DriverAssignResult> found = store.findAll(List.of("delivery-1", "delivery-2", "delivery-3"));
+
+        assertThat(found).containsOnlyKeys("delivery-1", "delivery-2");
+        verify(assignmentRecordRepository).findAllByHubDeliveryIds(List.of("delivery-2", "delivery-3"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 기록/제거는 DB 에는 바로, 캐시에는 커밋 이후에만 반영된다")
+    void rememberAndForgetApplyAfterCommit() {
+        AssignmentIdempotencyStore store = new AssignmentIdempotencyStore(assignmentRecordRepository, 10, false, 30);
+        store.remember("delivery-1", result("driver-1"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        store.forget("delivery-1");
+        store.remember("delivery-2", result("driver-2"));
+
+        verify(assignmentRecordRepository).deleteByHubDeliveryId("delivery-1");
+        verify(assignmentRecordRepository, times(2)).save(any(AssignmentRecord.class));
+        assertThat(store.find("delivery-1")).isPresent();
+        assertThat(store.find("delivery-2")).isEmpty();
+
+        commit();
+
+        assertThat(store.find("delivery-1")).isEmpty();
+        assertThat(store.find("delivery-2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("배송 완료로 현재 배송이 비워져도 배정 기록으로 기존 결과를 반환한다")
+    void findReturnsRecordAfterDeliveryCompleted() {
+        AssignmentIdempotencyStore store = new AssignmentIdempotencyStore(assignmentRecordRepository, 10, true, 30);
+        DriverAssignResult assigned = result("driver-1");
+        when(assignmentRecordRepository.findByHubDeliveryId("delivery-1"))
+                .thenReturn(Optional.of(AssignmentRecord.of("delivery-1", assigned.getDriverId(),
+                        assigned.getUserId(), assigned.getDriverName(), assigned.getStatus(),
+                        assigned.getAssignedAt())));
+
+        // 다른 인스턴스(캐시 없음)로 들어온 재요청
+        assertThat(store.find("delivery-1")).get()
+                .satisfies(found -> {
+                    assertThat(found.getDriverId()).isEqualTo("driver-1");
+                    assertThat(found.getStatus()).isEqualTo(HubDriverStatus.ON_DELIVERY.name());
+                    assertThat(found.getAssignedAt()).isEqualTo(assigned.getAssignedAt());
+                });
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 배정 기록을 정리한다")
+    void purgeDeletesExpiredRecords() {
+        AssignmentIdempotencyStore store = new AssignmentIdempotencyStore(assignmentRecordRepository, 10, true, 30);
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        store.purge();
+
+        verify(assignmentRecordRepository).deleteAssignedBefore(argThat(cutoff ->
+                !cutoff.isBefore(before) && cutoff.isBefore(before.plusMinutes(1))));
+    }
+
+    // ===== Helpers =====
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static DriverAssignResult result(String driverId) {
+        return DriverAssignResult.success(driverId, "user-" + driverId, "테스트 드라이버",
+                HubDriverStatus.ON_DELIVERY.name());
+    }
+
+    private static AssignmentRecord assignmentRecord(String hubDeliveryId, String driverId) {
+        return AssignmentRecord.of(hubDeliveryId, driverId, "user-" + driverId, "테스트 드라이버",
+                HubDriverStatus.ON_DELIVERY.name(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,157 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeliveryTimeSketchTest {
+
+    @Test
+    @DisplayName("기록이 없으면 백분위는 null 이다")
+    void emptySketchHasNoPercentile() {
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.empty();
+
+        assertThat(sketch.percentile(50)).isNull();
+        assertThat(sketch.getTotalCount()).isZero();
+        assertThat(sketch.isModified()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 15, 16, 31})
+    @DisplayName("0~31분은 정확한 값으로 기록된다")
+    void smallValuesAreExact(long valueMin) {
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.empty();
+
+        sketch.record(valueMin);
+
+        assertThat(sketch.percentile(100)).isEqualTo(valueMin);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {32, 33, 100, 180, 1000, 4097, 16383})
+    @DisplayName("32분 이상은 버킷 상한값으로 반환되며 상대 오차는 1/16 이내다")
+    void largeValuesWithinRelativeError(long valueMin) {
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.empty();
+
+        sketch.record(valueMin);
+
+        long estimate = sketch.percentile(50);
+        assertThat(estimate).isGreaterThanOrEqualTo(valueMin);
+        assertThat((double) (estimate - valueMin) / valueMin).isLessThanOrEqualTo(1.0 / 16);
+    }
+
+    @Test
+    @DisplayName("음수는 0, 최대값을 넘는 값은 최대 버킷으로 기록된다")
+    void valuesAreClamped() {
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.empty();
+
+        sketch.record(-5);
+        sketch.record(1_000_000);
+
+        assertThat(sketch.percentile(50)).isZero();
+        assertThat(sketch.percentile(100)).isEqualTo(16383L);
+    }
+
+    @Test
+    @DisplayName("백분위는 순위에 해당하는 버킷 값을 반환한다")
+    void percentileByRank() {
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.empty();
+        for (long value = 1; value <= 20; value++) {
+            sketch.record(value);
+        }
+
+        assertThat(sketch.percentile(50)).isEqualTo(10L);
+        assertThat(sketch.percentile(95)).isEqualTo(19L);
+        assertThat(sketch.percentile(100)).isEqualTo(20L);
+        assertThat(sketch.percentile(0.01)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("병합하면 두 스케치의 건수와 분포가 합쳐진다")
+    void mergeCombinesCounts() {
+        DeliveryTimeSketch first = DeliveryTimeSketch.empty();
+        DeliveryTimeSketch second = DeliveryTimeSketch.empty();
+        first.record(10);
+        second.record(20);
+        second.record(30);
+
+        first.merge(second);
+
+        assertThat(first.getTotalCount()).isEqualTo(3);
+        assertThat(first.percentile(100)).isEqualTo(30L);
+        assertThat(first.percentile(1)).isEqualTo(10L);
+        assertThat(first.isModified()).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 스케치 병합은 변경으로 보지 않는다")
+    void mergeEmptyIsNoop() {
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.fromBytes(sketchOf(10, 20).toBytes());
+
+        sketch.merge(DeliveryTimeSketch.empty());
+
+        assertThat(sketch.isModified()).isFalse();
+        assertThat(sketch.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인코딩 후 복원하면 같은 분포가 나온다")
+    void roundTrip() {
+        Random random = new Random(42);
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.empty();
+        for (int i = 0; i < 10_000; i++) {
+            sketch.record(random.nextInt(2_000));
+        }
+
+        DeliveryTimeSketch restored = DeliveryTimeSketch.fromBytes(sketch.toBytes());
+
+        assertThat(restored.getTotalCount()).isEqualTo(sketch.getTotalCount());
+        assertThat(restored.isModified()).isFalse();
+        for (double percentile : new double[]{1, 25, 50, 75, 90, 99, 100}) {
+            assertThat(restored.percentile(percentile)).isEqualTo(sketch.percentile(percentile));
+        }
+        assertThat(restored.toBytes()).isEqualTo(sketch.toBytes());
+    }
+
+    @Test
+    @DisplayName("비어 있지 않은 버킷만 인코딩하므로 크기가 작다")
+    void encodingIsCompact() {
+        byte[] bytes = sketchOf(180, 180, 185, 240).toBytes();
+
+        assertThat(bytes.length).isLessThan(16);
+        assertThat(DeliveryTimeSketch.empty().toBytes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 바이너리는 빈 스케치로 복원된다")
+    void nullOrEmptyBytesRestoreEmpty() {
+        assertThat(DeliveryTimeSketch.fromBytes(null).getTotalCount()).isZero();
+        assertThat(DeliveryTimeSketch.fromBytes(new byte[0]).getTotalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 포맷 버전이나 범위를 벗어난 버킷은 거부한다")
+    void rejectsInvalidBytes() {
+        assertThatThrownBy(() -> DeliveryTimeSketch.fromBytes(new byte[]{2}))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 포맷 1, 인덱스 차이 200(varint 0xC8 0x01), 건수 1
+        assertThatThrownBy(() -> DeliveryTimeSketch.fromBytes(new byte[]{1, (byte) 0xC8, 0x01, 0x01}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ===== Helpers =====
+
+    private static DeliveryTimeSketch sketchOf(long... valuesMin) {
+        DeliveryTimeSketch sketch = DeliveryTimeSketch.empty();
+        for (long value : valuesMin) {
+            sketch.record(value);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,127 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindow;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.RollingWindowStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RollingDeliveryStatsTest {
+
+    // toBytes 가 현재 시각 기준으로 만료 슬롯을 거르므로 현재 시각 기준으로 기록
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("기록은 시각이 속한 모든 구간에 반영된다")
+    void recordAppliesToAllWindows() {
+        RollingDeliveryStats stats = RollingDeliveryStats.empty();
+
+        stats.record(now.minusMinutes(1), 30);
+        stats.record(now.minusMinutes(2), 50);
+
+        assertThat(stats.window(RollingWindow.LAST_HOUR, now)).isEqualTo(RollingWindowStats.of(2, 80));
+        assertThat(stats.window(RollingWindow.LAST_DAY, now)).isEqualTo(RollingWindowStats.of(2, 80));
+        assertThat(stats.window(RollingWindow.LAST_WEEK, now)).isEqualTo(RollingWindowStats.of(2, 80));
+        assertThat(stats.window(RollingWindow.LAST_HOUR, now).getAverageDeliveryTimeMin()).isEqualTo(40L);
+        assertThat(stats.isModified()).isTrue();
+    }
+
+    @Test
+    @DisplayName("구간을 벗어난 기록은 해당 구간 통계에서 빠진다")
+    void expiredRecordsLeaveWindow() {
+        RollingDeliveryStats stats = RollingDeliveryStats.empty();
+
+        stats.record(now.minusHours(2), 10);
+        stats.record(now.minusDays(3), 20);
+        stats.record(now.minusDays(8), 40);
+
+        assertThat(stats.window(RollingWindow.LAST_HOUR, now)).isEqualTo(RollingWindowStats.of(0, 0));
+        assertThat(stats.window(RollingWindow.LAST_DAY, now)).isEqualTo(RollingWindowStats.of(1, 10));
+        assertThat(stats.window(RollingWindow.LAST_WEEK, now)).isEqualTo(RollingWindowStats.of(2, 30));
+        assertThat(stats.window(RollingWindow.LAST_HOUR, now).getAverageDeliveryTimeMin()).isNull();
+    }
+
+    @Test
+    @DisplayName("한 바퀴 지난 슬롯은 새 버킷으로 재사용되고, 그보다 과거 기록은 무시된다")
+    void ringSlotIsReusedByNewerBucket() {
+        RollingDeliveryStats stats = RollingDeliveryStats.empty();
+
+        // LAST_DAY 는 1시간 버킷 24개 → 24시간 전과 지금은 같은 슬롯
+        stats.record(now.minusHours(24), 100);
+        stats.record(now, 10);
+        stats.record(now.minusHours(24), 100);
+
+        assertThat(stats.window(RollingWindow.LAST_DAY, now)).isEqualTo(RollingWindowStats.of(1, 10));
+        assertThat(stats.window(RollingWindow.LAST_WEEK, now)).isEqualTo(RollingWindowStats.of(3, 210));
+    }
+
+    @Test
+    @DisplayName("병합하면 같은 버킷은 합산되고 더 최신 버킷이 과거 버킷을 대체한다")
+    void mergeCombinesSlots() {
+        RollingDeliveryStats stats = RollingDeliveryStats.empty();
+        stats.record(now.minusHours(24), 100);
+        stats.record(now.minusMinutes(1), 30);
+
+        RollingDeliveryStats other = RollingDeliveryStats.empty();
+        other.record(now.minusMinutes(1), 50);
+        other.record(now, 20);
+
+        stats.merge(other);
+
+        assertThat(stats.window(RollingWindow.LAST_HOUR, now)).isEqualTo(RollingWindowStats.of(3, 100));
+        assertThat(stats.window(RollingWindow.LAST_DAY, now)).isEqualTo(RollingWindowStats.of(3, 100));
+        assertThat(stats.window(RollingWindow.LAST_WEEK, now)).isEqualTo(RollingWindowStats.of(4, 200));
+    }
+
+    @Test
+    @DisplayName("과거 버킷만 가진 통계를 병합해도 최신 슬롯은 바뀌지 않는다")
+    void mergeIgnoresOlderBuckets() {
+        RollingDeliveryStats stats = RollingDeliveryStats.fromBytes(statsOf(now, 10).toBytes());
+        RollingDeliveryStats older = statsOf(now.minusHours(24), 100);
+
+        stats.merge(older);
+
+        assertThat(stats.window(RollingWindow.LAST_DAY, now)).isEqualTo(RollingWindowStats.of(1, 10));
+    }
+
+    @Test
+    @DisplayName("인코딩 후 복원하면 구간 통계가 같고, 만료된 슬롯은 인코딩되지 않는다")
+    void roundTrip() {
+        RollingDeliveryStats stats = RollingDeliveryStats.empty();
+        stats.record(now.minusMinutes(3), 30);
+        stats.record(now.minusHours(5), 60);
+        stats.record(now.minusDays(2), 90);
+
+        RollingDeliveryStats restored = RollingDeliveryStats.fromBytes(stats.toBytes());
+
+        assertThat(restored.isModified()).isFalse();
+        for (RollingWindow window : RollingWindow.values()) {
+            assertThat(restored.window(window, now)).isEqualTo(stats.window(window, now));
+        }
+
+        assertThat(statsOf(now.minusDays(8), 40).toBytes())
+                .isEqualTo(RollingDeliveryStats.empty().toBytes());
+    }
+
+    @Test
+    @DisplayName("null/빈 바이너리는 빈 통계, 지원하지 않는 포맷은 거부한다")
+    void fromBytesValidation() {
+        assertThat(RollingDeliveryStats.fromBytes(null).window(RollingWindow.LAST_WEEK, now))
+                .isEqualTo(RollingWindowStats.of(0, 0));
+        assertThat(RollingDeliveryStats.fromBytes(new byte[0]).isModified()).isFalse();
+        assertThatThrownBy(() -> RollingDeliveryStats.fromBytes(new byte[]{9}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ===== Helpers =====
+
+    private static RollingDeliveryStats statsOf(LocalDateTime completedAt, long deliveryTimeMin) {
+        RollingDeliveryStats stats = RollingDeliveryStats.empty();
+        stats.record(completedAt, deliveryTimeMin);
+        return stats;
+    }
+}
@@ -0,0 +1,66 @@
+package com.early_express.hub_driver_service.domain.hub_driver.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VarIntTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 1",
+            "127, 1",
+            "128, 2",
+            "16383, 2",
+            "16384, 3",
+            "9223372036854775807, 9",
+            "-1, 10"
+    })
+    @DisplayName("7비트 단위로 인코딩하고 같은 값으로 복원한다")
+    void roundTrip(long value, int expectedBytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        VarInt.write(out, value);
+        byte[] bytes = out.toByteArray();
+        int[] position = {0};
+
+        assertThat(bytes).hasSize(expectedBytes);
+        assertThat(VarInt.read(bytes, position)).isEqualTo(value);
+        assertThat(position[0]).isEqualTo(expectedBytes);
+    }
+
+    @Test
+    @DisplayName("연속으로 기록한 값을 순서대로 읽는다")
+    void readsSequentially() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VarInt.write(out, 300);
+        VarInt.write(out, 1);
+        VarInt.write(out, 70_000);
+        byte[] bytes = out.toByteArray();
+        int[] position = {0};
+
+        assertThat(VarInt.read(bytes, position)).isEqualTo(300);
+        assertThat(VarInt.read(bytes, position)).isEqualTo(1);
+        assertThat(VarInt.read(bytes, position)).isEqualTo(70_000);
+        assertThat(position[0]).isEqualTo(bytes.length);
+    }
+
+    @Test
+    @DisplayName("중간에 끊긴 인코딩이나 64비트를 넘는 인코딩은 거부한다")
+    void rejectsMalformedInput() {
+        assertThatThrownBy(() -> VarInt.read(new byte[]{(byte) 0x80}, new int[]{0}))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] tooLong = new byte[11];
+        Arrays.fill(tooLong, (byte) 0x80);
+        assertThatThrownBy(() -> VarInt.read(tooLong, new int[]{0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,137 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.dispatch;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverId;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubDriverDispatchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+    // poll / sync 는 DB 를 사용하지 않음 (재구성만 JPAQueryFactory 사용)
+    private final HubDriverDispatchIndex index = new HubDriverDispatchIndex(null, false);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("우선순위가 낮은 순, 같으면 먼저 가용해진 순으로 꺼낸다")
+    void pollInDispatchOrder() {
+        index.sync(driver("driver-a", HubDriverStatus.AVAILABLE, 2, NOW.minusMinutes(30)));
+        index.sync(driver("driver-b", HubDriverStatus.AVAILABLE, 1, NOW.minusMinutes(5)));
+        index.sync(driver("driver-c", HubDriverStatus.AVAILABLE, 1, NOW.minusMinutes(20)));
+
+        assertThat(index.poll()).get().extracting(HubDriverDispatchIndex.Entry::getDriverId).isEqualTo("driver-c");
+        assertThat(index.poll()).get().extracting(HubDriverDispatchIndex.Entry::getDriverId).isEqualTo("driver-b");
+        assertThat(index.poll()).get().extracting(HubDriverDispatchIndex.Entry::getDriverId).isEqualTo("driver-a");
+        assertThat(index.poll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("AVAILABLE 이 아니거나 삭제된 드라이버는 인덱스에서 제거된다")
+    void syncRemovesUnavailableDriver() {
+        index.sync(driver("driver-a", HubDriverStatus.AVAILABLE, 0, NOW));
+        index.sync(driver("driver-b", HubDriverStatus.AVAILABLE, 0, NOW));
+
+        index.sync(driver("driver-a", HubDriverStatus.ON_DELIVERY, 1, null));
+        HubDriver deleted = driver("driver-b", HubDriverStatus.AVAILABLE, 0, NOW);
+        deleted.delete("master");
+        index.sync(deleted);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.poll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재등록 시 이전 정렬 키 항목은 남지 않는다")
+    void syncReplacesPreviousEntry() {
+        index.sync(driver("driver-a", HubDriverStatus.AVAILABLE, 0, NOW));
+        index.sync(driver("driver-a", HubDriverStatus.AVAILABLE, 5, NOW));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.poll()).get()
+                .extracting(HubDriverDispatchIndex.Entry::getAssignmentPriority)
+                .isEqualTo(5);
+        assertThat(index.poll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 꺼낸 후보는 롤백 시 복원된다")
+    void pollIsRestoredOnRollback() {
+        index.sync(driver("driver-a", HubDriverStatus.AVAILABLE, 0, NOW));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(index.poll()).isPresent();
+        assertThat(index.size()).isZero();
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.poll()).get().extracting(HubDriverDispatchIndex.Entry::getDriverId).isEqualTo("driver-a");
+    }
+
+    @Test
+    @DisplayName("커밋되면 꺼낸 후보는 복원되지 않는다")
+    void pollIsNotRestoredOnCommit() {
+        index.sync(driver("driver-a", HubDriverStatus.AVAILABLE, 0, NOW));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(index.poll()).isPresent();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.poll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤백 전에 다시 등록된 드라이버는 롤백으로 덮어쓰지 않는다")
+    void rollbackKeepsNewerEntry() {
+        index.sync(driver("driver-a", HubDriverStatus.AVAILABLE, 0, NOW));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(index.poll()).isPresent();
+        index.sync(driver("driver-a", HubDriverStatus.AVAILABLE, 3, NOW));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.poll()).get()
+                .extracting(HubDriverDispatchIndex.Entry::getAssignmentPriority)
+                .isEqualTo(3);
+        assertThat(index.poll()).isEmpty();
+    }
+
+    // ===== Helpers =====
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static HubDriver driver(String driverId, HubDriverStatus status,
+                                    int assignmentPriority, LocalDateTime availableFrom) {
+        return HubDriver.reconstitute(
+                HubDriverId.of(driverId), "user-" + driverId, "테스트 드라이버",
+                status, status == HubDriverStatus.ON_DELIVERY ? "hub-delivery-" + driverId : null,
+                null, assignmentPriority, availableFrom,
+                NOW.minusDays(1), "test", NOW, "test",
+                null, null, false
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HubDriverEventTypeConfigTest {
+
+    private static final String TOPIC = "hub-driver-service-events";
+
+    private final EventTypeRegistry registry = registry();
+
+    @Test
+    @DisplayName("배송 완료 이벤트는 스키마 2.0 으로 발행되고 같은 레지스트리로 읽힌다")
+    void completedEventIsPublishedAsVersion2() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        HubDriverDeliveryCompletedEvent event = HubDriverDeliveryCompletedEvent.from(
+                DriverDeliveryCompletedEvent.builder()
+                        .driverId("driver-1")
+                        .userId("user-1")
+                        .hubDeliveryId("delivery-1")
+                        .assignedAt(now.minusHours(3))
+                        .deliveryTimeMin(180L)
+                        .occurredAt(now)
+                        .build(),
+                "hub-driver-service");
+
+        Headers headers = headers(event.getVersion());
+        BaseEvent read = registry.read(TOPIC, headers, registry.write(event));
+
+        assertThat(event.getVersion()).isEqualTo("2.0");
+        assertThat(read).isInstanceOf(HubDriverDeliveryCompletedEvent.class);
+        assertThat(((HubDriverDeliveryCompletedEvent) read).getDeliveryTimeMin()).isEqualTo(180L);
+    }
+
+    @Test
+    @DisplayName("통계 필드가 있는 1.0 배송 완료 이벤트도 읽는다")
+    void readsVersion1CompletedEvent() {
+        String v1 = """
+                {"eventId":"event-1","eventType":"HUB_DRIVER_DELIVERY_COMPLETED",
+                 "timestamp":"2026-01-01T10:00:00","version":"1.0","publisher":"hub-driver-service",
+                 "driverId":"driver-1","userId":"user-1","hubDeliveryId":"delivery-1",
+                 "assignedAt":"2026-01-01T07:00:00","deliveryTimeMin":180,
+                 "totalDeliveries":150,"averageDeliveryTimeMin":175,
+                 "occurredAt":"2026-01-01T10:00:00"}
+                """;
+
+        BaseEvent read = registry.read(TOPIC, headers("1.0"), v1.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(read).isInstanceOf(HubDriverDeliveryCompletedEvent.class);
+        HubDriverDeliveryCompletedEvent event = (HubDriverDeliveryCompletedEvent) read;
+        assertThat(event.getVersion()).isEqualTo("1.0");
+        assertThat(event.getHubDeliveryId()).isEqualTo("delivery-1");
+        assertThat(event.getDeliveryTimeMin()).isEqualTo(180L);
+    }
+
+    @Test
+    @DisplayName("지원 버전보다 높은 메이저 버전은 거부한다")
+    void rejectsNewerMajorVersion() {
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> registry.read(TOPIC, headers("3.0"), payload))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    // ===== Helpers =====
+
+    private static EventTypeRegistry registry() {
+        HubDriverEventTypeConfig config = new HubDriverEventTypeConfig();
+        ReflectionTestUtils.setField(config, "hubDeliveryCompletedTopic", "hub-delivery-completed");
+        ReflectionTestUtils.setField(config, "hubDeliveryCancelledTopic", "hub-delivery-cancelled");
+        return config.eventTypeRegistry(new ObjectMapper().findAndRegisterModules());
+    }
+
+    private Headers headers(String version) {
+        Headers headers = new RecordHeaders();
+        registry.writeHeaders(headers, HubDriverDeliveryCompletedEvent.EVENT_TYPE, version);
+        return headers;
+    }
+}
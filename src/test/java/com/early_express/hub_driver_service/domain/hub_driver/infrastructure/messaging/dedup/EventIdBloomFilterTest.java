@@ -0,0 +1,90 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventIdBloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("기록한 eventId 는 항상 포함된 것으로 판별한다 (거짓 음성 없음)")
+    void noFalseNegatives() {
+        EventIdBloomFilter filter = new EventIdBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        List<String> eventIds = randomEventIds(INSERTIONS);
+
+        eventIds.forEach(filter::put);
+
+        assertThat(eventIds).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("기록하지 않은 eventId 의 오탐률은 설정값 근처로 유지된다")
+    void falsePositiveRateStaysNearConfigured() {
+        EventIdBloomFilter filter = new EventIdBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        randomEventIds(INSERTIONS).forEach(filter::put);
+
+        long falsePositives = randomEventIds(INSERTIONS).stream()
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 어떤 eventId 도 포함하지 않는다")
+    void emptyFilterContainsNothing() {
+        EventIdBloomFilter filter = new EventIdBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        assertThat(randomEventIds(1_000)).noneMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("세대 교체 후에도 이전 세대에 기록된 eventId 는 한 주기 동안 남는다")
+    void rotationKeepsPreviousGeneration() {
+        RotatingEventIdBloomFilter filter =
+                new RotatingEventIdBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE, Duration.ofDays(7));
+        filter.put("event-1");
+
+        filter.rotate(System.currentTimeMillis());
+        filter.put("event-2");
+
+        assertThat(filter.mightContain("event-1")).isTrue();
+        assertThat(filter.mightContain("event-2")).isTrue();
+
+        filter.rotate(System.currentTimeMillis());
+
+        assertThat(filter.mightContain("event-1")).isFalse();
+        assertThat(filter.mightContain("event-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("교체 주기가 지나지 않으면 세대를 교체하지 않는다")
+    void rotateIfExpiredWaitsForInterval() {
+        RotatingEventIdBloomFilter filter =
+                new RotatingEventIdBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE, Duration.ofDays(7));
+        long now = System.currentTimeMillis();
+        filter.put("event-1");
+
+        assertThat(filter.rotateIfExpired(now + Duration.ofDays(6).toMillis())).isFalse();
+        assertThat(filter.rotateIfExpired(now + Duration.ofDays(7).toMillis())).isTrue();
+        assertThat(filter.rotateIfExpired(now + Duration.ofDays(8).toMillis())).isFalse();
+        assertThat(filter.mightContain("event-1")).isTrue();
+    }
+
+    // ===== Helpers =====
+
+    private static List<String> randomEventIds(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+    }
+}
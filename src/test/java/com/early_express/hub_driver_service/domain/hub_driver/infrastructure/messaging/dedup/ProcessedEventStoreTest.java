@@ -0,0 +1,96 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.HubDeliveryEventListener;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.HubDeliveryEventProcessor;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.ProcessedEventJpaRepository;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProcessedEventStoreTest {
+
+    private static final long SYNC_OVERLAP_MS = 60_000;
+
+    private final ProcessedEventJpaRepository repository = mock(ProcessedEventJpaRepository.class);
+    private final ProcessedEventStore store = new ProcessedEventStore(
+            repository, 3_600_000, 1_000, 7, true, 10_000, 0.01, SYNC_OVERLAP_MS);
+
+    @Test
+    @DisplayName("첫 동기화 전에는 Bloom Filter 를 신뢰하지 않고 DB 로 확인한다")
+    void checksDatabaseBeforeFirstSync() {
+        when(repository.findExistingEventIds(List.of("event-1"))).thenReturn(List.of("event-1"));
+
+        assertThat(store.findProcessed(List.of("event-1"))).containsExactly("event-1");
+    }
+
+    @Test
+    @DisplayName("파티션 인계 후 동기화하면 다른 인스턴스가 처리한 eventId 도 중복으로 판별한다")
+    void takeoverSeesEventsProcessedByAnotherInstance() {
+        when(repository.findEventIdsProcessedSince(any())).thenReturn(List.of());
+        store.warmUp();
+
+        // 기동 이후 다른 인스턴스가 event-1 을 처리 → 파티션이 이 인스턴스로 넘어옴
+        when(repository.findEventIdsProcessedSince(any())).thenReturn(List.of("event-1"));
+        when(repository.findExistingEventIds(List.of("event-1"))).thenReturn(List.of("event-1"));
+        store.syncBloomFilter();
+
+        assertThat(store.findProcessed(List.of("event-1"))).containsExactly("event-1");
+        verify(repository).findExistingEventIds(List.of("event-1"));
+    }
+
+    @Test
+    @DisplayName("동기화 이후 처리된 적 없는 eventId 는 DB 조회 없이 신규로 판별한다")
+    void unseenEventSkipsDatabaseAfterSync() {
+        when(repository.findEventIdsProcessedSince(any())).thenReturn(List.of("event-1"));
+        store.warmUp();
+
+        assertThat(store.findProcessed(List.of("event-2"))).isEmpty();
+        verify(repository, never()).findExistingEventIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("두 번째 동기화부터는 직전 동기화 시각에서 겹침 구간을 뺀 시점부터 증분 조회한다")
+    void incrementalSyncStartsBeforePreviousSync() {
+        when(repository.findEventIdsProcessedSince(any())).thenReturn(List.of());
+        LocalDateTime beforeFirstSync = LocalDateTime.now();
+
+        store.warmUp();
+        store.syncBloomFilter();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, times(2)).findEventIdsProcessedSince(since.capture());
+        assertThat(since.getAllValues().get(0)).isBefore(beforeFirstSync.minusDays(6));
+        assertThat(since.getAllValues().get(1))
+                .isAfterOrEqualTo(beforeFirstSync.minusNanos(SYNC_OVERLAP_MS * 1_000_000))
+                .isBefore(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("배송 이벤트 리스너는 파티션을 할당받으면 Bloom Filter 를 동기화한다")
+    void listenerSyncsOnPartitionsAssigned() {
+        ProcessedEventStore processedEventStore = mock(ProcessedEventStore.class);
+        HubDeliveryEventListener listener =
+                new HubDeliveryEventListener(mock(HubDeliveryEventProcessor.class), processedEventStore);
+
+        listener.onPartitionsAssigned(Map.of(), mock(ConsumerSeekCallback.class));
+        listener.onPartitionsAssigned(Map.of(new TopicPartition("hub-delivery-completed", 0), 0L),
+                mock(ConsumerSeekCallback.class));
+
+        verify(processedEventStore, times(1)).syncBloomFilter();
+    }
+}
@@ -0,0 +1,200 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.outbox;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverOutboxEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.HubDriverOutboxJpaRepository;
+import com.early_express.hub_driver_service.global.config.JpaConfig;
+import com.early_express.hub_driver_service.global.infrastructure.event.serde.EventTypeRegistry;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Outbox Relay 통합 테스트 (PostgreSQL, 선점/삭제/선점 해제)
+ * - Kafka 전송은 mock 으로 대체하고 payload 로 실패 여부를 지정
+ * - Docker 가 없으면 건너뜀
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HubDriverOutboxRelayTest {
+
+    private static final String TOPIC = "hub-driver-service-events";
+    private static final String FAIL = "fail";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private HubDriverOutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+
+    private HubDriverOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM hub_driver.p_hub_driver_outbox");
+
+        relay = new HubDriverOutboxRelay(queryFactory, new TransactionTemplate(transactionManager),
+                kafkaTemplate, mock(EventTypeRegistry.class));
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(relay, "claimTimeoutMs", 30_000L);
+
+        // payload 가 "fail" 이면 전송 실패, 나머지는 ack
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, String> record = invocation.getArgument(0);
+            return FAIL.equals(record.value())
+                    ? CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))
+                    : CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+    }
+
+    @Test
+    @DisplayName("같은 key 중간 행 전송이 실패하면 그 이후 행은 ack 를 받았어도 남기고 다시 선점할 수 있다")
+    void failureInMiddleOfKeyKeepsLaterRowsClaimable() {
+        insert("driver-1", "a1");
+        Long failed = insert("driver-1", FAIL);
+        Long later = insert("driver-1", "a3");
+        insert("driver-2", "b1");
+
+        assertThat(relay.relayBatch()).isEqualTo(4);
+
+        Map<Long, String> remaining = remainingClaims();
+        assertThat(remaining).containsOnlyKeys(failed, later);
+        assertThat(remaining.values()).containsOnlyNulls();
+
+        // 다음 주기: 실패했던 행부터 같은 순서로 재전송
+        jdbcTemplate.update("UPDATE hub_driver.p_hub_driver_outbox SET payload = 'a2' WHERE id = ?", failed);
+        clearInvocations(kafkaTemplate);
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        assertThat(sentPayloads(2)).containsExactly("a2", "a3");
+        assertThat(remainingClaims()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 Relay 가 발행 중인 key 의 행은 선점하지 않고 다른 key 만 발행한다")
+    void skipsKeysClaimedByAnotherRelay() {
+        insertClaimed("driver-1", "a1", "other-relay", LocalDateTime.now().plusMinutes(1));
+        Long waiting = insert("driver-1", "a2");
+        Long free = insert("driver-2", "b1");
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        assertThat(sentPayloads(1)).containsExactly("b1");
+        Map<Long, String> remaining = remainingClaims();
+        assertThat(remaining).doesNotContainKey(free);
+        assertThat(remaining).containsEntry(waiting, null);
+        assertThat(remaining.values()).containsOnlyOnce("other-relay");
+    }
+
+    @Test
+    @DisplayName("다른 Relay 의 선점이 만료되면 그 key 의 행을 순서대로 다시 선점한다")
+    void reclaimsKeyAfterAnotherRelayClaimExpires() {
+        insertClaimed("driver-1", "a1", "other-relay", LocalDateTime.now().minusSeconds(1));
+        insert("driver-1", "a2");
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        assertThat(sentPayloads(2)).containsExactly("a1", "a2");
+        assertThat(remainingClaims()).isEmpty();
+    }
+
+    // ===== Helpers =====
+
+    private Long insert(String messageKey, String payload) {
+        return outboxJpaRepository.save(entry(messageKey, payload)).getId();
+    }
+
+    private void insertClaimed(String messageKey, String payload, String relayId, LocalDateTime until) {
+        HubDriverOutboxEntity entry = entry(messageKey, payload);
+        entry.claim(relayId, until);
+        outboxJpaRepository.save(entry);
+    }
+
+    private static HubDriverOutboxEntity entry(String messageKey, String payload) {
+        return HubDriverOutboxEntity.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("HUB_DRIVER_STATUS_CHANGED")
+                .eventVersion("1.0")
+                .topic(TOPIC)
+                .messageKey(messageKey)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 남은 Outbox 행 id → claimed_by
+     */
+    private Map<Long, String> remainingClaims() {
+        Map<Long, String> claims = new HashMap<>();
+        jdbcTemplate.query("SELECT id, claimed_by FROM hub_driver.p_hub_driver_outbox",
+                rs -> {
+                    claims.put(rs.getLong("id"), rs.getString("claimed_by"));
+                });
+        return claims;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> sentPayloads(int expected) {
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(expected)).send(records.capture());
+        return records.getAllValues().stream()
+                .map(ProducerRecord::value)
+                .toList();
+    }
+}
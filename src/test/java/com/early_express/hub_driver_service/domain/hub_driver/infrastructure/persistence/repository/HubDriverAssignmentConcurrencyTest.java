@@ -0,0 +1,179 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.repository;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriver;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.cache.HubDriverSnapshotCache;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.dispatch.HubDriverDispatchIndex;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.outbox.HubDriverOutbox;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats.HubDriverStatusCounters;
+import com.early_express.hub_driver_service.global.config.JpaConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 배정 통합 테스트 (PostgreSQL, FOR UPDATE SKIP LOCKED)
+ * - 배정 요청 N개가 동시에 드라이버를 선점해도 같은 드라이버가 두 번 배정되지 않는지 검증
+ * - N 별 처리량(배정/초)을 로그로 리포트하고, N >= 8 이면 N = 1 보다 처리량이 큰지 검증
+ * - 디스패치 인덱스는 비워 두어(mock) 매 배정이 DB 선점 경로(lockFirstAvailable)를 타도록 함
+ * - Docker 가 없으면 건너뜀
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaConfig.class, HubDriverRepositoryImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HubDriverAssignmentConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HubDriverAssignmentConcurrencyTest.class);
+
+    private static final int DRIVERS = 400;
+
+    // 처리량이 단일 요청보다 커야 하는 최소 동시 요청 수
+    private static final int SCALING_ASSIGNERS = 8;
+
+    private static final Map<Integer, Double> throughputByAssigners = new TreeMap<>();
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockitoBean
+    private HubDriverDispatchIndex dispatchIndex;  // poll() → Optional.empty() → DB 선점 경로
+
+    @MockitoBean
+    private HubDriverOutbox hubDriverOutbox;
+
+    @MockitoBean
+    private HubDriverSnapshotCache hubDriverSnapshotCache;
+
+    @MockitoBean
+    private HubDriverStatusCounters statusCounters;
+
+    @Autowired
+    private HubDriverRepository hubDriverRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seedDrivers() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("DELETE FROM hub_driver.p_hub_driver");
+
+        transactionTemplate.executeWithoutResult(status -> IntStream.range(0, DRIVERS).forEach(i ->
+                hubDriverRepository.save(HubDriver.create("user-" + i, "드라이버" + i, "test"))));
+    }
+
+    @AfterAll
+    static void reportThroughput() {
+        throughputByAssigners.forEach((assigners, throughput) ->
+                log.info("동시 배정 처리량 - assigners: {}, {} 배정/초", assigners, String.format("%.1f", throughput)));
+    }
+
+    @ParameterizedTest(name = "assigners = {0}")
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    @DisplayName("동시 배정 요청은 서로 다른 드라이버를 선점하고 같은 드라이버를 두 번 배정하지 않는다")
+    void parallelAssignersNeverShareDriver(int assigners) throws Exception {
+        Map<String, String> deliveryByDriver = new ConcurrentHashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(assigners);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < assigners; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (true) {
+                    String hubDeliveryId = UUID.randomUUID().toString();
+                    Optional<String> driverId = transactionTemplate.execute(status ->
+                            hubDriverRepository.findNextAvailableDriver().map(driver -> {
+                                driver.assignDelivery(hubDeliveryId);
+                                hubDriverRepository.save(driver);
+                                return driver.getIdValue();
+                            }));
+                    if (driverId.isEmpty()) {
+                        return null;
+                    }
+                    if (deliveryByDriver.putIfAbsent(driverId.get(), hubDeliveryId) != null) {
+                        synchronized (duplicates) {
+                            duplicates.add(driverId.get());
+                        }
+                    }
+                }
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        throughputByAssigners.put(assigners, DRIVERS / (elapsedNanos / 1_000_000_000.0));
+
+        assertThat(duplicates).isEmpty();
+        assertThat(deliveryByDriver).hasSize(DRIVERS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM hub_driver.p_hub_driver WHERE status = 'ON_DELIVERY'", Integer.class))
+                .isEqualTo(DRIVERS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT current_delivery_id) FROM hub_driver.p_hub_driver", Integer.class))
+                .isEqualTo(DRIVERS);
+
+        // SKIP LOCKED 로 선점이 직렬화되지 않으면 동시 요청이 많을수록 처리량이 늘어야 함
+        // (파라미터는 선언 순서대로 실행되므로 assigners = 1 결과가 먼저 기록됨)
+        if (assigners >= SCALING_ASSIGNERS) {
+            assertThat(throughputByAssigners).containsKey(1);
+            assertThat(throughputByAssigners.get(assigners))
+                    .as("assigners = %d 처리량이 assigners = 1 보다 커야 함", assigners)
+                    .isGreaterThan(throughputByAssigners.get(1));
+        }
+    }
+}
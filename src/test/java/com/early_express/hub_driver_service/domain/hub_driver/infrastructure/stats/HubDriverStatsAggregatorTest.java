@@ -0,0 +1,277 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.domain.event.DriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.HubDriverStats;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.repository.HubDriverStatsRepository;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.dispatch.HubDriverDispatchIndex;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup.ProcessedEventStore;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.event.HubDriverDeliveryCompletedEvent;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverStatsCheckpointEntity;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.jpa.HubDriverStatsCheckpointJpaRepository;
+import com.early_express.hub_driver_service.global.infrastructure.event.base.BaseEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HubDriverStatsAggregatorTest {
+
+    private static final String TOPIC = "hub-driver-service-events";
+
+    private final HubDriverStatsWriter writer = mock(HubDriverStatsWriter.class);
+    private final ProcessedEventStore processedEventStore = mock(ProcessedEventStore.class);
+    private final HubDriverDispatchIndex dispatchIndex = mock(HubDriverDispatchIndex.class);
+
+    @Test
+    @DisplayName("반영에 실패한 배치는 대기열에 복원되어 다음 반영에 새 delta 와 합쳐진다")
+    void failedFlushIsRestoredAndMergedIntoNextFlush() {
+        HubDriverStatsAggregator aggregator = new HubDriverStatsAggregator(
+                writer, processedEventStore, dispatchIndex, 10_000);
+        when(writer.write(anyMap(), anyMap(), anyMap()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(List.of());
+
+        aggregator.accept(List.of(
+                record(0, 0, completed("driver-1", 10L)),
+                record(0, 1, completed("driver-1", 20L))));
+        assertThat(aggregator.flush()).isFalse();
+
+        aggregator.accept(List.of(record(0, 2, completed("driver-1", 30L))));
+        assertThat(aggregator.flush()).isTrue();
+
+        WriteCaptor captor = captureWrites(2);
+        HubDriverStats delta = captor.deltas.getAllValues().get(1).get("driver-1");
+        assertThat(delta.getTotalDeliveries()).isEqualTo(3L);
+        assertThat(delta.getTotalDeliveryTimeMin()).isEqualTo(60L);
+        assertThat(captor.nextOffsets.getAllValues().get(1))
+                .containsExactly(Map.entry(checkpointId(0), 3L));
+        assertThat(captor.events.getAllValues().get(1)).hasSize(3);
+        verify(dispatchIndex, times(1)).updateRecentDeliveries(anyList());
+    }
+
+    @Test
+    @DisplayName("복원된 배치가 재전달되어도 대기 중인 eventId 는 다시 누적하지 않는다")
+    void redeliveredEventsAreNotCountedTwiceWhilePending() {
+        HubDriverStatsAggregator aggregator = new HubDriverStatsAggregator(
+                writer, processedEventStore, dispatchIndex, 10_000);
+        when(writer.write(anyMap(), anyMap(), anyMap()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(List.of());
+        List<ConsumerRecord<String, BaseEvent>> batch = List.of(
+                record(0, 0, completed("driver-1", 10L)),
+                record(0, 1, completed("driver-1", 20L)));
+
+        aggregator.accept(batch);
+        assertThat(aggregator.flush()).isFalse();
+
+        // 리스너가 예외로 배치를 재전달
+        aggregator.accept(batch);
+        assertThat(aggregator.flush()).isTrue();
+
+        WriteCaptor captor = captureWrites(2);
+        assertThat(captor.deltas.getAllValues().get(1).get("driver-1").getTotalDeliveries()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("회수 직전 반영에 실패하면 회수 파티션의 집계만 버리고 나머지는 유지한다")
+    void revokeWithFailedFlushDropsRevokedPartitionsOnly() {
+        HubDriverStatsAggregator aggregator = new HubDriverStatsAggregator(
+                writer, processedEventStore, dispatchIndex, 10_000);
+        when(writer.write(anyMap(), anyMap(), anyMap()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(List.of());
+
+        aggregator.accept(List.of(
+                record(0, 0, completed("driver-1", 10L)),
+                record(1, 0, completed("driver-2", 20L))));
+        aggregator.flushBeforeRevoke(List.of(new TopicPartition(TOPIC, 0)));
+
+        assertThat(aggregator.flush()).isTrue();
+
+        WriteCaptor captor = captureWrites(2);
+        assertThat(captor.deltas.getAllValues().get(1)).containsOnlyKeys("driver-2");
+        assertThat(captor.nextOffsets.getAllValues().get(1)).containsOnlyKeys(checkpointId(1));
+        assertThat(captor.events.getAllValues().get(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("회수 직전 반영에 성공하면 아무것도 버리지 않는다")
+    void revokeWithSuccessfulFlushWritesEverything() {
+        HubDriverStatsAggregator aggregator = new HubDriverStatsAggregator(
+                writer, processedEventStore, dispatchIndex, 10_000);
+        when(writer.write(anyMap(), anyMap(), anyMap())).thenReturn(List.of());
+
+        aggregator.accept(List.of(
+                record(0, 0, completed("driver-1", 10L)),
+                record(1, 0, completed("driver-2", 20L))));
+        aggregator.flushBeforeRevoke(List.of(new TopicPartition(TOPIC, 0)));
+
+        WriteCaptor captor = captureWrites(1);
+        assertThat(captor.deltas.getValue()).containsOnlyKeys("driver-1", "driver-2");
+        assertThat(aggregator.flush()).isTrue();
+        verify(writer, times(1)).write(anyMap(), anyMap(), anyMap());
+    }
+
+    @Test
+    @DisplayName("재기동 후 체크포인트 이전 레코드가 다시 들어와도 반영된 이벤트는 중복 집계하지 않는다")
+    void replayFromCheckpointDoesNotDoubleCount() {
+        InMemoryStore db = new InMemoryStore();
+        HubDriverStatsWriter realWriter = db.writer();
+
+        List<HubDriverDeliveryCompletedEvent> events = List.of(
+                completed("driver-1", 10L),
+                completed("driver-1", 20L),
+                completed("driver-1", 30L),
+                completed("driver-1", 40L),
+                completed("driver-1", 50L));
+
+        // 첫 인스턴스: 0~2 반영 후 Kafka 오프셋 커밋 전에 종료
+        HubDriverStatsAggregator first = new HubDriverStatsAggregator(
+                realWriter, db.processedEventStore, dispatchIndex, 10_000);
+        first.accept(records(events, 0, 3));
+        assertThat(first.flush()).isTrue();
+
+        assertThat(db.stats.get("driver-1").getTotalDeliveries()).isEqualTo(3L);
+        assertThat(db.checkpoints.get(checkpointId(0)).getPosition()).isEqualTo(3L);
+
+        // 새 인스턴스: 0 부터 다시 수신 (0~2 재전달 + 3~4 신규)
+        HubDriverStatsAggregator second = new HubDriverStatsAggregator(
+                realWriter, db.processedEventStore, dispatchIndex, 10_000);
+        second.accept(records(events, 0, 5));
+        assertThat(second.flush()).isTrue();
+
+        HubDriverStats stats = db.stats.get("driver-1");
+        assertThat(stats.getTotalDeliveries()).isEqualTo(5L);
+        assertThat(stats.getTotalDeliveryTimeMin()).isEqualTo(150L);
+        assertThat(stats.getAverageDeliveryTimeMin()).isEqualTo(30L);
+        assertThat(db.checkpoints.get(checkpointId(0)).getPosition()).isEqualTo(5L);
+        assertThat(db.processed).hasSize(5);
+    }
+
+    // ===== Helpers =====
+
+    private WriteCaptor captureWrites(int times) {
+        WriteCaptor captor = new WriteCaptor();
+        verify(writer, times(times)).write(captor.deltas.capture(), captor.nextOffsets.capture(), captor.events.capture());
+        return captor;
+    }
+
+    private static String checkpointId(int partition) {
+        return HubDriverStatsCheckpointEntity.partitionId(TOPIC, partition);
+    }
+
+    private static ConsumerRecord<String, BaseEvent> record(int partition, long offset, BaseEvent event) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, "key", event);
+    }
+
+    private static List<ConsumerRecord<String, BaseEvent>> records(
+            List<HubDriverDeliveryCompletedEvent> events, int from, int to) {
+        List<ConsumerRecord<String, BaseEvent>> records = new ArrayList<>();
+        for (int offset = from; offset < to; offset++) {
+            records.add(record(0, offset, events.get(offset)));
+        }
+        return records;
+    }
+
+    private static HubDriverDeliveryCompletedEvent completed(String driverId, long deliveryTimeMin) {
+        LocalDateTime now = LocalDateTime.now();
+        return HubDriverDeliveryCompletedEvent.from(
+                DriverDeliveryCompletedEvent.builder()
+                        .driverId(driverId)
+                        .userId("user-" + driverId)
+                        .hubDeliveryId("delivery-" + deliveryTimeMin)
+                        .assignedAt(now.minusMinutes(deliveryTimeMin))
+                        .deliveryTimeMin(deliveryTimeMin)
+                        .occurredAt(now)
+                        .build(),
+                "hub-driver-service");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static class WriteCaptor {
+        private final ArgumentCaptor<Map<String, HubDriverStats>> deltas = ArgumentCaptor.forClass((Class) Map.class);
+        private final ArgumentCaptor<Map<String, Long>> nextOffsets = ArgumentCaptor.forClass((Class) Map.class);
+        private final ArgumentCaptor<Map<String, String>> events = ArgumentCaptor.forClass((Class) Map.class);
+    }
+
+    /**
+     * 통계 / 체크포인트 / 처리 이벤트 테이블을 메모리로 흉내 낸 저장소
+     */
+    private static class InMemoryStore {
+        private final Map<String, HubDriverStats> stats = new HashMap<>();
+        private final Map<String, HubDriverStatsCheckpointEntity> checkpoints = new HashMap<>();
+        private final Set<String> processed = new HashSet<>();
+        private final ProcessedEventStore processedEventStore = mock(ProcessedEventStore.class);
+
+        @SuppressWarnings("unchecked")
+        HubDriverStatsWriter writer() {
+            HubDriverStatsRepository statsRepository = mock(HubDriverStatsRepository.class);
+            when(statsRepository.findAllByDriverIds(anyCollection())).thenAnswer(invocation -> {
+                Collection<String> driverIds = invocation.getArgument(0);
+                return driverIds.stream()
+                        .filter(stats::containsKey)
+                        .collect(Collectors.toMap(driverId -> driverId, stats::get));
+            });
+            doAnswer(invocation -> {
+                List<HubDriverStats> saved = invocation.getArgument(0);
+                saved.forEach(stat -> stats.put(stat.getDriverId(), stat));
+                return null;
+            }).when(statsRepository).saveAll(anyList());
+
+            HubDriverStatsCheckpointJpaRepository checkpointRepository = mock(HubDriverStatsCheckpointJpaRepository.class);
+            when(checkpointRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+                List<HubDriverStatsCheckpointEntity> found = new ArrayList<>();
+                ((Iterable<String>) invocation.getArgument(0)).forEach(id -> {
+                    if (checkpoints.containsKey(id)) {
+                        found.add(checkpoints.get(id));
+                    }
+                });
+                return found;
+            });
+            when(checkpointRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+                List<HubDriverStatsCheckpointEntity> saved = new ArrayList<>();
+                ((Iterable<HubDriverStatsCheckpointEntity>) invocation.getArgument(0)).forEach(checkpoint -> {
+                    checkpoints.put(checkpoint.getId(), checkpoint);
+                    saved.add(checkpoint);
+                });
+                return saved;
+            });
+
+            when(processedEventStore.findProcessed(anyCollection())).thenAnswer(invocation -> {
+                Collection<String> eventIds = invocation.getArgument(0);
+                return eventIds.stream()
+                        .filter(processed::contains)
+                        .collect(Collectors.toSet());
+            });
+            doAnswer(invocation -> {
+                Map<String, String> eventTypesById = invocation.getArgument(0);
+                processed.addAll(eventTypesById.keySet());
+                return null;
+            }).when(processedEventStore).markProcessed(anyMap());
+
+            return new HubDriverStatsWriter(statsRepository, checkpointRepository, processedEventStore);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.messaging.dedup.ProcessedEventStore;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.HubDriverStatsCheckpointEntity;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class HubDriverStatsListenerTest {
+
+    private static final String TOPIC = "hub-driver-service-events";
+    private static final long BASELINE = 1_700_000_000_000L;
+
+    private final HubDriverStatsAggregator aggregator = mock(HubDriverStatsAggregator.class);
+    private final HubDriverStatsWriter writer = mock(HubDriverStatsWriter.class);
+    private final ProcessedEventStore processedEventStore = mock(ProcessedEventStore.class);
+    private final HubDriverStatsListener listener = new HubDriverStatsListener(aggregator, writer, processedEventStore);
+    private final ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+
+    @Test
+    @DisplayName("체크포인트가 있는 파티션은 체크포인트로, 없는 파티션은 백필 기준 시각으로 이동한다")
+    void seeksToCheckpointOrBaseline() {
+        when(writer.findCheckpoints(anyList())).thenReturn(Map.of(
+                HubDriverStatsCheckpointEntity.BASELINE_ID, BASELINE,
+                checkpointId(0), 42L));
+
+        listener.onPartitionsAssigned(Map.of(partition(0), 0L, partition(1), 0L), callback);
+
+        verify(callback).seek(TOPIC, 0, 42L);
+        verify(callback).seekToTimestamp(TOPIC, 1, BASELINE);
+        verify(callback, never()).seekToBeginning(TOPIC, 0);
+        verify(callback, never()).seekToBeginning(TOPIC, 1);
+        verify(processedEventStore).syncBloomFilter();
+    }
+
+    @Test
+    @DisplayName("체크포인트와 백필 기준 시각이 모두 없으면 처음부터 재생한다")
+    void seeksToBeginningWithoutCheckpointOrBaseline() {
+        when(writer.findCheckpoints(anyList())).thenReturn(Map.of());
+
+        listener.onPartitionsAssigned(Map.of(partition(0), 0L), callback);
+
+        verify(callback).seekToBeginning(TOPIC, 0);
+        verify(writer).findCheckpoints(List.of(HubDriverStatsCheckpointEntity.BASELINE_ID, checkpointId(0)));
+    }
+
+    @Test
+    @DisplayName("빈 할당은 체크포인트 조회와 이동을 하지 않는다")
+    void ignoresEmptyAssignment() {
+        listener.onPartitionsAssigned(Map.of(), callback);
+
+        verifyNoInteractions(writer, processedEventStore, callback);
+    }
+
+    @Test
+    @DisplayName("파티션 회수 시 회수 파티션을 넘겨 반영을 요청한다")
+    void flushesBeforeRevoke() {
+        listener.onPartitionsRevoked(List.of(partition(0)));
+        listener.onPartitionsRevoked(List.of());
+
+        verify(aggregator).flushBeforeRevoke(List.of(partition(0)));
+    }
+
+    // ===== Helpers =====
+
+    private static TopicPartition partition(int partition) {
+        return new TopicPartition(TOPIC, partition);
+    }
+
+    private static String checkpointId(int partition) {
+        return HubDriverStatsCheckpointEntity.partitionId(TOPIC, partition);
+    }
+}
@@ -0,0 +1,126 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stats;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusSummary;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.model.vo.HubDriverStatus;
+import com.early_express.hub_driver_service.domain.hub_driver.infrastructure.persistence.entity.QHubDriverEntity;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HubDriverStatusCountersTest {
+
+    private static final QHubDriverEntity hubDriver = QHubDriverEntity.hubDriverEntity;
+    private static final QTuple ROW = Projections.tuple(hubDriver.status, hubDriver.count());
+
+    private final JPAQueryFactory queryFactory = mock(JPAQueryFactory.class);
+    @SuppressWarnings("unchecked")
+    private final JPAQuery<Tuple> query = mock(JPAQuery.class, RETURNS_SELF);
+
+    private HubDriverStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(query).when(queryFactory).select(any(Expression.class), any(Expression.class));
+        counters = new HubDriverStatusCounters(queryFactory, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("보정하면 DB 의 상태별 건수로 카운터를 맞춘다")
+    void reconcileAppliesDatabaseCounts() {
+        when(query.fetch()).thenReturn(List.of(
+                row(HubDriverStatus.AVAILABLE, 3L),
+                row(HubDriverStatus.ON_DELIVERY, 2L)
+        ));
+        counters.recordAfterCommit(null, HubDriverStatus.OFF_DUTY);
+
+        counters.reconcile();
+
+        HubDriverStatusSummary summary = counters.getSummary();
+        assertThat(summary.getAvailable()).isEqualTo(3L);
+        assertThat(summary.getOnDelivery()).isEqualTo(2L);
+        assertThat(summary.getOffDuty()).isZero();
+        assertThat(summary.getTotal()).isEqualTo(5L);
+        assertThat(summary.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("보정 쿼리 도중 반영된 전이는 보정 결과에 더해 유실하지 않는다")
+    void reconcileKeepsTransitionsAppliedDuringQuery() {
+        when(query.fetch()).thenAnswer(invocation -> {
+            // DB 조회 이후 커밋된 전이 (조회 결과에는 없음)
+            counters.recordAfterCommit(HubDriverStatus.AVAILABLE, HubDriverStatus.ON_DELIVERY);
+            return List.of(row(HubDriverStatus.AVAILABLE, 3L));
+        });
+
+        counters.reconcile();
+
+        HubDriverStatusSummary summary = counters.getSummary();
+        assertThat(summary.getAvailable()).isEqualTo(2L);
+        assertThat(summary.getOnDelivery()).isEqualTo(1L);
+        assertThat(summary.getTotal()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("삭제(현재 상태 null)는 이전 상태에서만 차감한다")
+    void deletionDecrementsPreviousStatus() {
+        when(query.fetch()).thenReturn(List.of(row(HubDriverStatus.OFF_DUTY, 2L)));
+        counters.reconcile();
+
+        counters.recordAfterCommit(HubDriverStatus.OFF_DUTY, null);
+
+        HubDriverStatusSummary summary = counters.getSummary();
+        assertThat(summary.getOffDuty()).isEqualTo(1L);
+        assertThat(summary.getTotal()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 전이는 커밋 이후에만 반영된다")
+    void transitionsApplyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        counters.recordAfterCommit(null, HubDriverStatus.AVAILABLE);
+
+        assertThat(counters.getSummary().getAvailable()).isZero();
+
+        commit();
+
+        assertThat(counters.getSummary().getAvailable()).isEqualTo(1L);
+    }
+
+    // ===== Helpers =====
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static Tuple row(HubDriverStatus status, long count) {
+        return ROW.newInstance(status, count);
+    }
+}
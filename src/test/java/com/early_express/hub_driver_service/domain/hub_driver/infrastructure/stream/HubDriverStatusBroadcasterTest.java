@@ -0,0 +1,150 @@
+package com.early_express.hub_driver_service.domain.hub_driver.infrastructure.stream;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverStatusStream;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusChange;
+import com.early_express.hub_driver_service.domain.hub_driver.domain.exception.HubDriverException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HubDriverStatusBroadcasterTest {
+
+    private static final int BUFFER_SIZE = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HubDriverStatusBroadcaster broadcaster = new HubDriverStatusBroadcaster(meterRegistry, BUFFER_SIZE, 2);
+
+    @AfterEach
+    void shutdown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 구독자의 버퍼가 가득 차면 가장 오래된 변경부터 버린다")
+    void slowSubscriberDropsOldest() throws InterruptedException {
+        CountDownLatch firstReceived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber slow = new RecordingSubscriber(4) {
+            @Override
+            public void onChange(HubDriverStatusChange change) {
+                super.onChange(change);
+                firstReceived.countDown();
+                await(release);
+            }
+        };
+        RecordingSubscriber fast = new RecordingSubscriber(6);
+        broadcaster.subscribe(slow);
+        broadcaster.subscribe(fast);
+
+        // event-1 전송 중 막힌 상태에서 나머지 5건 발행 → 버퍼(3)에는 최신 3건만 남음
+        broadcaster.publish(change(1));
+        assertThat(firstReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 2; i <= 6; i++) {
+            broadcaster.publish(change(i));
+        }
+
+        assertThat(fast.awaitAll()).isTrue();
+        assertThat(fast.eventIds()).containsExactly("event-1", "event-2", "event-3", "event-4", "event-5", "event-6");
+
+        release.countDown();
+
+        assertThat(slow.awaitAll()).isTrue();
+        assertThat(slow.eventIds()).containsExactly("event-1", "event-4", "event-5", "event-6");
+        assertThat(meterRegistry.get("hub_driver.status_stream.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 해지되어 이후 변경을 받지 않는다")
+    void failingSubscriberIsCancelled() throws InterruptedException {
+        CountDownLatch failed = new CountDownLatch(1);
+        broadcaster.subscribe(new RecordingSubscriber(1) {
+            @Override
+            public void onChange(HubDriverStatusChange change) {
+                failed.countDown();
+                throw new IllegalStateException("연결 종료");
+            }
+        });
+
+        broadcaster.publish(change(1));
+
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitSubscribers(0);
+        assertThat(meterRegistry.get("hub_driver.status_stream.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독자 수가 상한이면 구독을 거부하고, 해지하면 다시 구독할 수 있다")
+    void rejectsSubscribersOverLimit() {
+        HubDriverStatusStream.Subscription first = broadcaster.subscribe(new RecordingSubscriber(0));
+        broadcaster.subscribe(new RecordingSubscriber(0));
+
+        assertThatThrownBy(() -> broadcaster.subscribe(new RecordingSubscriber(0)))
+                .isInstanceOf(HubDriverException.class);
+
+        first.cancel();
+
+        assertThat(broadcaster.subscribe(new RecordingSubscriber(0))).isNotNull();
+    }
+
+    // ===== Helpers =====
+
+    private static HubDriverStatusChange change(int sequence) {
+        return HubDriverStatusChange.builder()
+                .eventId("event-" + sequence)
+                .driverId("driver-1")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitSubscribers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("hub_driver.status_stream.subscribers").gauge().value() != expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class RecordingSubscriber implements HubDriverStatusStream.Subscriber {
+
+        private final List<HubDriverStatusChange> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch expected;
+
+        RecordingSubscriber(int expectedChanges) {
+            this.expected = new CountDownLatch(expectedChanges);
+        }
+
+        @Override
+        public void onChange(HubDriverStatusChange change) {
+            received.add(change);
+            expected.countDown();
+        }
+
+        @Override
+        public void onHeartbeat() {
+        }
+
+        boolean awaitAll() throws InterruptedException {
+            return expected.await(5, TimeUnit.SECONDS);
+        }
+
+        List<String> eventIds() {
+            return received.stream().map(HubDriverStatusChange::getEventId).toList();
+        }
+    }
+}
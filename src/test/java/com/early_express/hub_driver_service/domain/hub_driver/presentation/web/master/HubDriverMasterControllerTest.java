@@ -0,0 +1,94 @@
+package com.early_express.hub_driver_service.domain.hub_driver.presentation.web.master;
+
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.DeliveryLogQueryService;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.FleetStatsQueryService;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.HubDriverQueryService;
+import com.early_express.hub_driver_service.domain.hub_driver.application.query.dto.HubDriverQueryDto.HubDriverStatusSummary;
+import com.early_express.hub_driver_service.global.presentation.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class HubDriverMasterControllerTest {
+
+    private static final String BASE_URL = "/v1/hub-driver/web/master";
+
+    private final HubDriverQueryService queryService = mock(HubDriverQueryService.class);
+    private final FleetStatsQueryService fleetStatsQueryService = mock(FleetStatsQueryService.class);
+    private final DeliveryLogQueryService deliveryLogQueryService = mock(DeliveryLogQueryService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new HubDriverMasterController(
+                    queryService, fleetStatsQueryService, deliveryLogQueryService, new ObjectMapper()))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    @DisplayName("MASTER 권한이 없으면 내보내기를 시작하지 않고 403 을 반환한다")
+    void exportRequiresMaster() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/drivers/export")
+                        .header("X-User-Id", "user-001")
+                        .header("X-User-Roles", "HUB_MANAGER"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("GLOBAL_210"));
+
+        verify(queryService, never()).exportAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("MASTER 권한이 없으면 상태 스트림을 구독하지 않고 403 을 반환한다")
+    void statusStreamRequiresMaster() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/drivers/status-stream")
+                        .header("X-User-Id", "user-001")
+                        .header("X-User-Roles", "DELIVERY_MANAGER,USER"))
+                .andExpect(status().isForbidden());
+
+        verify(queryService, never()).subscribeStatusChanges(any());
+    }
+
+    @Test
+    @DisplayName("통계/이력 조회도 MASTER 권한이 없으면 403 을 반환한다")
+    void statsRequireMaster() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/stats/status")
+                        .header("X-User-Id", "user-001")
+                        .header("X-User-Roles", "GUEST"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(BASE_URL + "/stats/fleet")
+                        .header("X-User-Id", "user-001")
+                        .header("X-User-Roles", "MASTERS"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(BASE_URL + "/drivers/driver-1/deliveries")
+                        .header("X-User-Id", "user-001")
+                        .header("X-User-Roles", "USER"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(queryService, fleetStatsQueryService, deliveryLogQueryService);
+    }
+
+    @Test
+    @DisplayName("여러 역할 중 MASTER(ROLE_MASTER) 가 있으면 조회한다")
+    void masterRoleIsAllowed() throws Exception {
+        when(queryService.getStatusSummary()).thenReturn(HubDriverStatusSummary.builder()
+                .available(3)
+                .total(3)
+                .build());
+
+        mockMvc.perform(get(BASE_URL + "/stats/status")
+                        .header("X-User-Id", "master-001")
+                        .header("X-User-Roles", "USER, ROLE_MASTER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.available").value(3));
+    }
+}
@@ -0,0 +1,74 @@
+package com.early_express.hub_driver_service.global.common.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 15, 10, 30, 15, 123_000_000);
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 정렬 시각과 ID 가 나온다")
+    void roundTrip() {
+        String encoded = KeysetCursor.of(TIMESTAMP, "driver-1").encode();
+
+        KeysetCursor decoded = KeysetCursor.decode(encoded);
+
+        assertThat(decoded.getTimestamp()).isEqualTo(TIMESTAMP);
+        assertThat(decoded.getId()).isEqualTo("driver-1");
+    }
+
+    @Test
+    @DisplayName("인코딩 결과는 URL 에 그대로 쓸 수 있는 패딩 없는 Base64URL 이다")
+    void encodeIsUrlSafe() {
+        String encoded = KeysetCursor.of(TIMESTAMP, "driver|?/+=").encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(KeysetCursor.decode(encoded).getId()).isEqualTo("driver|?/+=");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    @DisplayName("커서가 없으면 첫 페이지(null)로 본다")
+    void blankCursorIsFirstPage(String encoded) {
+        assertThat(KeysetCursor.decode(encoded)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!not-base64!!", "bm8tZGVsaW1pdGVy", "bm90LWEtZGF0ZXxkcml2ZXItMQ"})
+    @DisplayName("형식이 잘못된 커서는 CursorException 으로 거부한다")
+    void rejectsMalformedCursor(String encoded) {
+        assertThatThrownBy(() -> KeysetCursor.decode(encoded))
+                .isInstanceOf(KeysetCursor.CursorException.class);
+    }
+
+    @Test
+    @DisplayName("ID 에 구분자가 있어도 첫 구분자 이후는 그대로 ID 로 복원한다")
+    void decodeKeepsEverythingAfterFirstDelimiter() {
+        String raw = TIMESTAMP + "|a|b";
+        String encoded = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(KeysetCursor.decode(encoded).getId()).isEqualTo("a|b");
+    }
+
+    @Test
+    @DisplayName("정렬 시각이나 ID 가 null 이면 커서를 만들 수 없다")
+    void rejectsNullComponents() {
+        assertThatThrownBy(() -> KeysetCursor.of(null, "driver-1"))
+                .isInstanceOf(KeysetCursor.CursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.of(TIMESTAMP, null))
+                .isInstanceOf(KeysetCursor.CursorException.class);
+    }
+}
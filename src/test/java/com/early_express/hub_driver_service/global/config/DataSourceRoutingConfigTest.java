@@ -0,0 +1,117 @@
+package com.early_express.hub_driver_service.global.config;
+
+import com.early_express.hub_driver_service.global.infrastructure.datasource.ReplicaLagMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 두 개(프라이머리/레플리카)로 읽기 전용 트랜잭션 라우팅 확인
+ */
+class DataSourceRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    DataSourceAutoConfiguration.class,
+                    DataSourceTransactionManagerAutoConfiguration.class))
+            .withUserConfiguration(DataSourceRoutingConfig.class);
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리 풀을 사용한다")
+    void routesReadOnlyTransactionsToReplica() {
+        contextRunner.withPropertyValues(properties("SELECT 0")).run(context -> {
+            markDatabases(context);
+            ReplicaLagMonitor monitor = context.getBean(ReplicaLagMonitor.class);
+
+            // 첫 확인 전에는 레플리카를 사용하지 않음
+            assertThat(routeOf(context, true)).isEqualTo("primary");
+
+            monitor.check();
+
+            assertThat(monitor.isReplicaUsable()).isTrue();
+            assertThat(monitor.getLastLagMillis()).isZero();
+            assertThat(routeOf(context, true)).isEqualTo("replica");
+            assertThat(routeOf(context, false)).isEqualTo("primary");
+        });
+    }
+
+    @Test
+    @DisplayName("복제 지연 조회가 실패하면 readOnly 트랜잭션도 프라이머리를 사용한다")
+    void fallsBackToPrimaryWhenLagQueryFails() {
+        contextRunner.withPropertyValues(properties("SELECT lag_ms FROM replica_lag")).run(context -> {
+            markDatabases(context);
+            ReplicaLagMonitor monitor = context.getBean(ReplicaLagMonitor.class);
+
+            monitor.check();
+
+            assertThat(monitor.isReplicaUsable()).isFalse();
+            assertThat(monitor.getLastLagMillis()).isNull();
+            assertThat(routeOf(context, true)).isEqualTo("primary");
+        });
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 readOnly 트랜잭션도 프라이머리를 사용한다")
+    void fallsBackToPrimaryWhenLagExceedsLimit() {
+        contextRunner.withPropertyValues(properties("SELECT 5000")).run(context -> {
+            markDatabases(context);
+            ReplicaLagMonitor monitor = context.getBean(ReplicaLagMonitor.class);
+
+            monitor.check();
+
+            assertThat(monitor.isReplicaUsable()).isFalse();
+            assertThat(monitor.getLastLagMillis()).isEqualTo(5000L);
+            assertThat(routeOf(context, true)).isEqualTo("primary");
+        });
+    }
+
+    // ===== Helpers =====
+
+    private static String[] properties(String lagQuery) {
+        String suffix = UUID.randomUUID().toString();
+        return new String[]{
+                "spring.datasource.url=jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa",
+                "hub-driver.datasource.replica.enabled=true",
+                "hub-driver.datasource.replica.url=jdbc:h2:mem:replica-" + suffix + ";DB_CLOSE_DELAY=-1",
+                "hub-driver.datasource.replica.max-lag-ms=1000",
+                "hub-driver.datasource.replica.lag-query=" + lagQuery
+        };
+    }
+
+    /**
+     * 각 DB 에 이름을 기록해 어느 풀에서 커넥션을 받았는지 확인
+     */
+    private static void markDatabases(ApplicationContext context) {
+        mark(context.getBean("primaryDataSource", DataSource.class), "primary");
+        mark(context.getBean("replicaDataSource", DataSource.class), "replica");
+    }
+
+    private static void mark(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE route_marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO route_marker (name) VALUES (?)", name);
+    }
+
+    private static String routeOf(ApplicationContext context, boolean readOnly) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM route_marker", String.class));
+    }
+}
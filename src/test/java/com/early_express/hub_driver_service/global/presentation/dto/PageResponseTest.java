@@ -0,0 +1,41 @@
+package com.early_express.hub_driver_service.global.presentation.dto;
+
+import com.early_express.hub_driver_service.global.common.dto.CursorInfo;
+import com.early_express.hub_driver_service.global.common.dto.PageInfo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("오프셋 응답에는 cursorInfo 가 직렬화되지 않는다")
+    void offsetResponseOmitsCursorInfo() {
+        PageResponse<String> response = PageResponse.of(List.of("a"), PageInfo.of(0, 20, 1, 1, 1));
+
+        JsonNode json = objectMapper.valueToTree(response);
+
+        assertThat(json.has("pageInfo")).isTrue();
+        assertThat(json.has("cursorInfo")).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 응답에는 pageInfo 가 직렬화되지 않는다")
+    void cursorResponseOmitsPageInfo() {
+        PageResponse<String> response = PageResponse.of(List.of("a"), CursorInfo.of(20, 1, null, null));
+
+        JsonNode json = objectMapper.valueToTree(response);
+
+        assertThat(json.has("cursorInfo")).isTrue();
+        assertThat(json.has("pageInfo")).isFalse();
+        // 커서 정보 내부 필드(nextCursor 등)는 그대로 유지
+        assertThat(json.get("cursorInfo").has("nextCursor")).isTrue();
+    }
+}
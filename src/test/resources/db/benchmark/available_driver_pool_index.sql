@@ -0,0 +1,140 @@
+-- ========================================
+-- 배정 가능 드라이버 풀 인덱스 벤치마크 (PostgreSQL, psql)
+--
+-- 실행 예시:
+--   psql -d hub_driver_db -v rows=1000000 -f available_driver_pool_index.sql
+--   psql -d hub_driver_db -v rows=5000000 -f available_driver_pool_index.sql
+--
+-- 별도 스키마(hub_driver_bench)에 p_hub_driver 와 동일한 테이블을 만들고
+-- rows 건을 적재한 뒤 기존 인덱스(idx_hub_driver_priority)와
+-- 부분 커버링 인덱스(idx_hub_driver_available_pool)의 top-1 조회 계획/버퍼를 비교
+--
+-- 데이터 분포 (삭제 이력 포함):
+--   - 60% soft delete 된 과거 드라이버
+--   - 나머지 중 ON_DELIVERY / OFF_DUTY / INACTIVE 가 대부분, AVAILABLE 약 2%
+--
+-- 확인 포인트:
+--   - 부분 인덱스: Index Only Scan, Heap Fetches: 0, Buffers 한 자릿수
+--   - rows 를 늘려도 부분 인덱스 쪽 Buffers/실행 시간은 거의 일정
+-- ========================================
+
+\if :{?rows}
+\else
+\set rows 1000000
+\endif
+
+\timing on
+
+DROP SCHEMA IF EXISTS hub_driver_bench CASCADE;
+CREATE SCHEMA hub_driver_bench;
+SET search_path TO hub_driver_bench;
+
+-- V1 마이그레이션의 p_hub_driver 와 동일한 컬럼 구성
+CREATE TABLE p_hub_driver (
+    id                         VARCHAR(36)  NOT NULL,
+    user_id                    VARCHAR(36)  NOT NULL,
+    name                       VARCHAR(100) NOT NULL,
+    status                     VARCHAR(20)  NOT NULL,
+    current_delivery_id        VARCHAR(36),
+    assignment_priority        INTEGER      NOT NULL,
+    total_deliveries           BIGINT       NOT NULL,
+    total_delivery_time_min    BIGINT       NOT NULL,
+    average_delivery_time_min  BIGINT       NOT NULL,
+    last_delivery_completed_at TIMESTAMP(6),
+    available_from             TIMESTAMP(6),
+    created_at                 TIMESTAMP(6) NOT NULL,
+    created_by                 VARCHAR(36),
+    updated_at                 TIMESTAMP(6),
+    updated_by                 VARCHAR(36),
+    deleted_at                 TIMESTAMP(6),
+    deleted_by                 VARCHAR(36),
+    is_deleted                 BOOLEAN      NOT NULL DEFAULT FALSE
+);
+
+INSERT INTO p_hub_driver (
+    id, user_id, name, status, current_delivery_id, assignment_priority,
+    total_deliveries, total_delivery_time_min, average_delivery_time_min,
+    last_delivery_completed_at, available_from, created_at, is_deleted, deleted_at
+)
+SELECT
+    md5('driver-' || g),
+    md5('user-' || g),
+    'driver-' || g,
+    CASE
+        WHEN g % 50 = 0 THEN 'AVAILABLE'
+        WHEN g % 50 < 30 THEN 'ON_DELIVERY'
+        WHEN g % 50 < 45 THEN 'OFF_DUTY'
+        ELSE 'INACTIVE'
+    END,
+    CASE WHEN g % 50 BETWEEN 1 AND 29 THEN md5('delivery-' || g) END,
+    (g % 97)::int,
+    (g % 500)::bigint,
+    (g % 500)::bigint * 42,
+    42,
+    now() - (g % 10000) * interval '1 minute',
+    now() - (g % 10000) * interval '1 minute',
+    now() - (g % 100000) * interval '1 second',
+    g % 10 < 6,
+    CASE WHEN g % 10 < 6 THEN now() END
+FROM generate_series(1, :rows) AS g;
+
+ALTER TABLE p_hub_driver ADD PRIMARY KEY (id);
+CREATE INDEX idx_hub_driver_status ON p_hub_driver (status);
+CREATE INDEX idx_hub_driver_priority ON p_hub_driver (assignment_priority, available_from);
+
+VACUUM (ANALYZE) p_hub_driver;
+
+SELECT count(*) FILTER (WHERE status = 'AVAILABLE' AND NOT is_deleted) AS available,
+       count(*) FILTER (WHERE is_deleted) AS deleted,
+       count(*) AS total
+FROM p_hub_driver;
+
+-- ----- 1) 기존 인덱스 -----
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, assignment_priority, available_from
+FROM p_hub_driver
+WHERE status = 'AVAILABLE' AND is_deleted = FALSE
+ORDER BY assignment_priority, available_from
+LIMIT 1;
+
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT *
+FROM p_hub_driver
+WHERE status = 'AVAILABLE' AND is_deleted = FALSE
+ORDER BY assignment_priority, available_from
+LIMIT 1
+FOR UPDATE SKIP LOCKED;
+
+-- ----- 2) 부분 커버링 인덱스 (V2 마이그레이션과 동일) -----
+CREATE INDEX idx_hub_driver_available_pool
+    ON p_hub_driver (assignment_priority, available_from, id)
+    WHERE status = 'AVAILABLE' AND is_deleted = FALSE;
+DROP INDEX idx_hub_driver_priority;
+VACUUM (ANALYZE) p_hub_driver;
+
+SELECT pg_size_pretty(pg_relation_size('idx_hub_driver_available_pool')) AS available_pool_index_size,
+       pg_size_pretty(pg_relation_size('p_hub_driver')) AS table_size;
+
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, assignment_priority, available_from
+FROM p_hub_driver
+WHERE status = 'AVAILABLE' AND is_deleted = FALSE
+ORDER BY assignment_priority, available_from
+LIMIT 1;
+
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT *
+FROM p_hub_driver
+WHERE status = 'AVAILABLE' AND is_deleted = FALSE
+ORDER BY assignment_priority, available_from
+LIMIT 1
+FOR UPDATE SKIP LOCKED;
+
+-- 디스패치 인덱스 재구성 쿼리
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id, assignment_priority, available_from
+FROM p_hub_driver
+WHERE status = 'AVAILABLE' AND is_deleted = FALSE;
+
+RESET search_path;
+DROP SCHEMA hub_driver_bench CASCADE;